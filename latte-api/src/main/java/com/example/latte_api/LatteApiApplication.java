@@ -3,11 +3,13 @@ package com.example.latte_api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @SpringBootApplication
 @EnableTransactionManagement
 @EnableJpaAuditing
+@EnableScheduling
 public class LatteApiApplication {
   public static void main(String[] args) {
     SpringApplication.run(LatteApiApplication.class, args);
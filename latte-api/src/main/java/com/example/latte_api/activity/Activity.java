@@ -1,6 +1,8 @@
 package com.example.latte_api.activity;
 
+import com.example.latte_api.activity.enums.ActivityField;
 import com.example.latte_api.activity.enums.ActivityType;
+import com.example.latte_api.activity.utils.ActivityRenderer;
 import com.example.latte_api.shared.AbstractAuditingEntity;
 import com.example.latte_api.ticket.Ticket;
 import com.example.latte_api.user.User;
@@ -31,9 +33,11 @@ import lombok.experimental.SuperBuilder;
 @Entity
 @Table(name = "activity")
 public class Activity extends AbstractAuditingEntity  {
+  public static final int ID_ALLOCATION_SIZE = 50;
+
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_seq_generator")
-  @SequenceGenerator(name = "activity_seq_generator", sequenceName = "activity_seq", initialValue = 101, allocationSize = 1)
+  @SequenceGenerator(name = "activity_seq_generator", sequenceName = "activity_seq", initialValue = 101, allocationSize = ID_ALLOCATION_SIZE)
   @Column(name = "id")
   private Long id;
 
@@ -41,7 +45,7 @@ public class Activity extends AbstractAuditingEntity  {
   @Column(name = "type")
   private ActivityType type;
 
-  @Column(name = "message")
+  @Column(name = "message", columnDefinition = "TEXT")
   private String message;
 
   @ManyToOne
@@ -52,4 +56,18 @@ public class Activity extends AbstractAuditingEntity  {
   @ManyToOne
   @JoinColumn(name = "ticket_id")
   private Ticket ticket;
+
+  @Enumerated(value = EnumType.STRING)
+  @Column(name = "field")
+  private ActivityField field;
+
+  @Column(name = "old_value", columnDefinition = "TEXT")
+  private String oldValue;
+
+  @Column(name = "new_value", columnDefinition = "TEXT")
+  private String newValue;
+
+  public String getMessage() {
+    return message != null? message : ActivityRenderer.render(this);
+  }
 }
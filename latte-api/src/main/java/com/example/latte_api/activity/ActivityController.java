@@ -1,5 +1,9 @@
 package com.example.latte_api.activity;
 
+import java.time.Instant;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -8,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.latte_api.activity.dto.ActivityDto;
+import com.example.latte_api.activity.enums.ActivityField;
+import com.example.latte_api.shared.CursorPagedEntity;
 import com.example.latte_api.shared.PagedEntity;
 
 import lombok.RequiredArgsConstructor;
@@ -20,7 +26,17 @@ public class ActivityController {
   private final ActivityService activityService;
 
   @GetMapping("/ticket/{id}")
-  public ResponseEntity<PagedEntity<ActivityDto>> getActivitesForTicket(@PathVariable Long id, @RequestParam(defaultValue = "0") int page,  @RequestParam(defaultValue = "0") int size) {
-    return ResponseEntity.status(HttpStatus.OK).body(activityService.getActivitiesForTicket(id, page, size));
+  public ResponseEntity<PagedEntity<ActivityDto>> getActivitesForTicket(@PathVariable Long id, @RequestParam(defaultValue = "0") int page,  @RequestParam(defaultValue = "0") int size, @RequestParam(defaultValue = "true") boolean count) {
+    return ResponseEntity.status(HttpStatus.OK).body(activityService.getActivitiesForTicket(id, page, size, count));
+  }
+
+  @GetMapping("/ticket/{id}/scroll")
+  public ResponseEntity<CursorPagedEntity<ActivityDto>> scrollActivitesForTicket(@PathVariable Long id, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.status(HttpStatus.OK).body(activityService.scrollActivitiesForTicket(id, cursor, size));
+  }
+
+  @GetMapping("/changes")
+  public ResponseEntity<PagedEntity<ActivityDto>> getChanges(@RequestParam ActivityField field, @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) Instant since, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.status(HttpStatus.OK).body(activityService.getChanges(field, since, page, size));
   }
 }
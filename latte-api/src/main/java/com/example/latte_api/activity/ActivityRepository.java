@@ -1,17 +1,42 @@
 package com.example.latte_api.activity;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+
+import com.example.latte_api.activity.dto.ActivityChange;
+import com.example.latte_api.activity.enums.ActivityField;
 import com.example.latte_api.user.User;
 
 
 public interface ActivityRepository extends JpaRepository<Activity, Long> {
   @Query("select a from Activity a where ticket.id = :ticketId")
   Page<Activity> findActivitesForTicket(@Param("ticketId") Long ticketId, Pageable pageable);
+  @Query("select a from Activity a where ticket.id = :ticketId")
+  Slice<Activity> findActivitySliceForTicket(@Param("ticketId") Long ticketId, Pageable pageable);
   List<Activity> findByAuthor(User author);
+
+  @Query("select a from Activity a where a.ticket.id = :ticketId order by a.createdAt desc, a.id desc")
+  List<Activity> findFirstKeysetForTicket(@Param("ticketId") Long ticketId, Pageable pageable);
+
+  @Query("select a from Activity a where a.ticket.id = :ticketId and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)) order by a.createdAt desc, a.id desc")
+  List<Activity> findNextKeysetForTicket(@Param("ticketId") Long ticketId, @Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
+
+  @Query("select a from Activity a where a.field = :field and a.createdAt >= :since order by a.createdAt desc, a.id desc")
+  Slice<Activity> findChangesSince(@Param("field") ActivityField field, @Param("since") Instant since, Pageable pageable);
+
+  @Query("select new com.example.latte_api.activity.dto.ActivityChange(a.id, a.field, a.oldValue, a.newValue, a.createdAt) from Activity a where a.ticket.id = :ticketId and a.field is not null and (a.createdAt > :createdAt or (a.createdAt = :createdAt and a.id > :id)) and a.createdAt <= :until order by a.createdAt asc, a.id asc")
+  List<ActivityChange> findTicketChangesAfter(@Param("ticketId") Long ticketId, @Param("createdAt") Instant createdAt, @Param("id") Long id, @Param("until") Instant until);
+
+  @Query("select new com.example.latte_api.activity.dto.ActivityChange(a.id, a.field, a.oldValue, a.newValue, a.createdAt) from Activity a where a.ticket.id = :ticketId and a.field is not null and a.createdAt > :since and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id <= :id)) order by a.createdAt desc, a.id desc")
+  List<ActivityChange> findTicketChangesBetween(@Param("ticketId") Long ticketId, @Param("since") Instant since, @Param("createdAt") Instant createdAt, @Param("id") Long id);
+
+  @Query("select new com.example.latte_api.activity.dto.ActivityChange(a.id, a.field, a.oldValue, a.newValue, a.createdAt) from Activity a where a.ticket.id = :ticketId and a.field is not null and a.createdAt > :since order by a.createdAt desc, a.id desc")
+  List<ActivityChange> findTicketChangesSince(@Param("ticketId") Long ticketId, @Param("since") Instant since);
 }
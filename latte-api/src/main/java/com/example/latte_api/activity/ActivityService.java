@@ -1,15 +1,19 @@
 package com.example.latte_api.activity;
 
+import java.time.Instant;
 import java.util.List;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.example.latte_api.activity.dto.ActivityDto;
+import com.example.latte_api.activity.enums.ActivityField;
 import com.example.latte_api.activity.mapper.ActivityMapper;
+import com.example.latte_api.shared.Cursor;
+import com.example.latte_api.shared.CursorPagedEntity;
 import com.example.latte_api.shared.PagedEntity;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -21,29 +25,57 @@ import lombok.RequiredArgsConstructor;
 public class ActivityService {
   private final ActivityRepository activityRepository;
   private final ActivityMapper activityMapper;
+  private final ActivityWriter activityWriter;
 
   @Transactional
   public ActivityDto createActivity(Activity activity) {
+    if (activityWriter.isEnabled()) {
+      activityWriter.write(List.of(activity));
+      return activityMapper.mapToActivityDto(activity);
+    }
     Activity result = activityRepository.save(activity);
     return activityMapper.mapToActivityDto(result);
   }
 
   @Transactional
   public List<ActivityDto> saveActivities(List<Activity> activites) {
+    if (activityWriter.isEnabled()) {
+      activityWriter.write(activites);
+      return activites.stream().map(a -> activityMapper.mapToActivityDto(a)).toList();
+    }
     List<Activity> result = activityRepository.saveAll(activites);
     return result.stream().map(a -> activityMapper.mapToActivityDto(a)).toList();
   }
 
   public PagedEntity<ActivityDto> getActivitiesForTicket(Long ticketId, int page, int size) {
+    return getActivitiesForTicket(ticketId, page, size, true);
+  }
+
+  public PagedEntity<ActivityDto> getActivitiesForTicket(Long ticketId, int page, int size, boolean count) {
     Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-    Page<Activity> activities = activityRepository.findActivitesForTicket(ticketId, pageable);
-
-    PagedEntity<ActivityDto> response = new PagedEntity<>();
-    response.setNext(activities.hasNext());
-    response.setPrevious(activities.hasPrevious());
-    response.setTotalElement(activities.getTotalElements());
-    response.setContent(activities.getContent().stream().map(a -> activityMapper.mapToActivityDto(a)).toList());
-    return response;
+    Slice<Activity> activities = count?
+      activityRepository.findActivitesForTicket(ticketId, pageable) :
+      activityRepository.findActivitySliceForTicket(ticketId, pageable);
+    return PagedEntity.of(activities, a -> activityMapper.mapToActivityDto(a));
+  }
+
+  public CursorPagedEntity<ActivityDto> scrollActivitiesForTicket(Long ticketId, String cursor, int size) {
+    Pageable pageable = CursorPagedEntity.pageable(size);
+    List<Activity> activities;
+
+    if (cursor == null || cursor.isEmpty()) {
+      activities = activityRepository.findFirstKeysetForTicket(ticketId, pageable);
+    } else {
+      Cursor position = Cursor.decode(cursor);
+      activities = activityRepository.findNextKeysetForTicket(ticketId, position.timestamp(), position.id(), pageable);
+    }
+
+    return CursorPagedEntity.of(activities, size, a -> new Cursor(a.getCreatedAt(), a.getId()).encode(), a -> activityMapper.mapToActivityDto(a));
+  }
+
+  public PagedEntity<ActivityDto> getChanges(ActivityField field, Instant since, int page, int size) {
+    Slice<Activity> activities = activityRepository.findChangesSince(field, since, PageRequest.of(page, size));
+    return PagedEntity.of(activities, a -> activityMapper.mapToActivityDto(a));
   }
 
   public Activity getActivity(Long id) {
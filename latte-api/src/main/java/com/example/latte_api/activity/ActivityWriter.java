@@ -0,0 +1,215 @@
+package com.example.latte_api.activity;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityWriter implements SmartLifecycle {
+  static final String NEXT_ACTIVITY_ID = "select nextval('activity_seq')";
+  static final String INSERT_ACTIVITY = "insert into activity "
+    + "(id, type, message, author_id, ticket_id, field, old_value, new_value, created_at) "
+    + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${latte.activity.async-write}")
+  private Boolean asyncWrite;
+
+  @Value("${latte.activity.queue-capacity}")
+  private Integer queueCapacity;
+
+  @Value("${latte.activity.flush-batch-size}")
+  private Integer flushBatchSize;
+
+  @Value("${latte.activity.flush-interval}")
+  private Long flushInterval;
+
+  private BlockingQueue<Object[]> queue;
+  private TransactionTemplate transactionTemplate;
+  private Thread worker;
+  private Timer flushTimer;
+  private Counter droppedCounter;
+  private volatile boolean running;
+
+  private long nextId;
+  private long lastId = -1;
+
+  public boolean isEnabled() {
+    return asyncWrite;
+  }
+
+  public void write(List<Activity> activities) {
+    Instant now = Instant.now();
+    List<Object[]> rows = new ArrayList<>(activities.size());
+    for (Activity activity : activities) {
+      activity.setId(allocateId());
+      activity.setCreatedAt(now);
+      rows.add(toParameters(activity));
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          enqueue(rows);
+        }
+      });
+    } else {
+      enqueue(rows);
+    }
+  }
+
+  @Override
+  public void start() {
+    queue = new ArrayBlockingQueue<>(queueCapacity);
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    flushTimer = Timer.builder("latte.activity.flush")
+      .description("Time taken to write a batch of activities")
+      .register(meterRegistry);
+    droppedCounter = Counter.builder("latte.activity.dropped")
+      .description("Activities that could not be written")
+      .register(meterRegistry);
+    Gauge.builder("latte.activity.queue.depth", () -> queue.size())
+      .description("Activities waiting to be written")
+      .register(meterRegistry);
+
+    running = true;
+    if (asyncWrite) {
+      worker = new Thread(this::drain, "activity-writer");
+      worker.setDaemon(true);
+      worker.start();
+    }
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (worker != null) {
+      try {
+        worker.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      worker = null;
+    }
+
+    List<Object[]> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      flush(remaining);
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return 0;
+  }
+
+  private void enqueue(List<Object[]> rows) {
+    List<Object[]> overflow = new ArrayList<>();
+    for (Object[] row : rows) {
+      if (!running || !queue.offer(row)) {
+        overflow.add(row);
+      }
+    }
+    if (!overflow.isEmpty()) {
+      flush(overflow);
+    }
+  }
+
+  private void drain() {
+    List<Object[]> batch = new ArrayList<>(flushBatchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        Object[] first = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, flushBatchSize - 1);
+        flush(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("Activity writer failed to flush {} activities", batch.size(), e);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void flush(List<Object[]> rows) {
+    flushTimer.record(() -> {
+      try {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_ACTIVITY, rows));
+      } catch (DataAccessException | TransactionException e) {
+        log.warn("Activity batch of {} failed, retrying row by row", rows.size(), e);
+        for (Object[] row : rows) {
+          try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_ACTIVITY, row));
+          } catch (DataAccessException | TransactionException rowException) {
+            droppedCounter.increment();
+            log.warn("Dropping activity {} for ticket {}", row[0], row[4], rowException);
+          }
+        }
+      }
+    });
+  }
+
+  private synchronized long allocateId() {
+    if (nextId > lastId) {
+      nextId = jdbcTemplate.queryForObject(NEXT_ACTIVITY_ID, Long.class);
+      lastId = nextId + Activity.ID_ALLOCATION_SIZE - 1;
+    }
+    return nextId++;
+  }
+
+  private Object[] toParameters(Activity activity) {
+    return new Object[] {
+      activity.getId(),
+      activity.getType().name(),
+      activity.getField() == null? activity.getMessage() : null,
+      activity.getAuthor().getId(),
+      activity.getTicket().getId(),
+      activity.getField() == null? null : activity.getField().name(),
+      activity.getOldValue(),
+      activity.getNewValue(),
+      Timestamp.from(activity.getCreatedAt())
+    };
+  }
+}
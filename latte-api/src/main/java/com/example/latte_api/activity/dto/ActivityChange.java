@@ -0,0 +1,9 @@
+package com.example.latte_api.activity.dto;
+
+import java.time.Instant;
+
+import com.example.latte_api.activity.enums.ActivityField;
+
+public record ActivityChange(Long id, ActivityField field, String oldValue, String newValue, Instant createdAt) {
+  
+}
@@ -2,8 +2,9 @@ package com.example.latte_api.activity.dto;
 
 import java.time.Instant;
 
+import com.example.latte_api.activity.enums.ActivityField;
 import com.example.latte_api.activity.enums.ActivityType;
 
-public record ActivityDto(Long id, String message, ActivityType type, String author, Instant createdAt, Instant lastUpdated) {
+public record ActivityDto(Long id, String message, ActivityType type, ActivityField field, String oldValue, String newValue, String author, Instant createdAt, Instant lastUpdated) {
   
 }
@@ -0,0 +1,11 @@
+package com.example.latte_api.activity.enums;
+
+public enum ActivityField {
+  TICKET,
+  TITLE,
+  DESCRIPTION,
+  ASSIGNEE,
+  PRIORITY,
+  STATUS,
+  CLIENT
+}
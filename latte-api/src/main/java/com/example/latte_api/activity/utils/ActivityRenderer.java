@@ -0,0 +1,50 @@
+package com.example.latte_api.activity.utils;
+
+import com.example.latte_api.activity.Activity;
+
+public final class ActivityRenderer {
+  private ActivityRenderer() {}
+
+  public static String render(Activity activity) {
+    if (activity.getField() == null) {
+      return null;
+    }
+
+    String author = activity.getAuthor() == null? null : activity.getAuthor().getFirstname();
+    String old = activity.getOldValue();
+    String curr = activity.getNewValue();
+
+    return switch (activity.getField()) {
+      case TICKET -> String.format("%s created ticked", author);
+      case TITLE -> String.format("%s change title from %s to %s", author, old, curr);
+      case DESCRIPTION -> String.format("%s edited the description of ticket", author);
+      case PRIORITY -> String.format("%s change priority from %s to %s", author, old, curr);
+      case STATUS -> String.format("%s change status from %s to %s", author, old, curr);
+      case ASSIGNEE -> renderAssignee(author, old, curr);
+      case CLIENT -> renderClient(author, old, curr);
+    };
+  }
+
+  private static String renderAssignee(String author, String old, String curr) {
+    if (old == null && curr != null) {
+      return String.format("%s assigned ticket to %s", author, curr);
+    }
+    if (old != null && curr != null) {
+      return String.format("%s unassigned %s and assigned ticket to %s", author, old, curr);
+    }
+    if (old != null) {
+      return String.format("%s unassigned %s", author, old);
+    }
+    return null;
+  }
+
+  private static String renderClient(String author, String old, String curr) {
+    if (old == null) {
+      return String.format("%s set client to %s", author, curr);
+    }
+    if (curr == null) {
+      return String.format("%s removed client %s", author, old);
+    }
+    return String.format("%s change client from %s to %s", author, old, curr);
+  }
+}
@@ -37,6 +37,12 @@ public class AuthController {
     return ResponseEntity.status(HttpStatus.OK).body(authService.refreshToken(request));
   }
 
+  @PostMapping("/logout")
+  public ResponseEntity<Map<String, Boolean>> logout(HttpServletRequest request) {
+    authService.logout(request);
+    return ResponseEntity.status(HttpStatus.OK).body(Map.of("success", true));
+  }
+
   @PostMapping("/verify")
   public ResponseEntity<Map<String, Boolean>> verifyToken() {
     return ResponseEntity.status(HttpStatus.OK).body(Map.of("success", true));
@@ -17,9 +17,12 @@ import com.example.latte_api.role.Role;
 import com.example.latte_api.role.RoleRepository;
 import com.example.latte_api.role.mapper.RoleMapper;
 import com.example.latte_api.security.JwtProvider;
+import com.example.latte_api.security.refresh.RefreshTokenService;
+import com.example.latte_api.security.revocation.TokenRevocationService;
 import com.example.latte_api.user.User;
 import com.example.latte_api.user.UserRepository;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +40,8 @@ public class AuthService {
   private final AuthenticationManager authenticationManager;
 
   private final JwtProvider jwtProvider;
+  private final TokenRevocationService tokenRevocationService;
+  private final RefreshTokenService refreshTokenService;
 
   @Transactional
   public AuthResponse registerUser(RegistrationRequest request) {
@@ -59,8 +64,9 @@ public class AuthService {
 
     userRepository.save(user); 
 
-    String accessToken = jwtProvider.generateToken(user.getEmail(), Map.of());
-    String refreshToken = jwtProvider.generateToken(user.getEmail(), Map.of(),  604800);
+    String familyId = refreshTokenService.newFamily();
+    String accessToken = jwtProvider.generateToken(user.getEmail(), Map.of(RefreshTokenService.FAMILY_CLAIM, familyId));
+    String refreshToken = refreshTokenService.issue(user.getEmail(), familyId);
 
     return new AuthResponse(
       user.getFirstname(), 
@@ -79,8 +85,9 @@ public class AuthService {
 
       User user = (User) authentication.getPrincipal();
 
-      String accessToken = jwtProvider.generateToken(user.getEmail(), Map.of());
-      String refreshToken = jwtProvider.generateToken(user.getEmail(), Map.of(),  604800);
+      String familyId = refreshTokenService.newFamily();
+      String accessToken = jwtProvider.generateToken(user.getEmail(), Map.of(RefreshTokenService.FAMILY_CLAIM, familyId));
+      String refreshToken = refreshTokenService.issue(user.getEmail(), familyId);
 
       return new AuthResponse(
         user.getFirstname(), 
@@ -103,23 +110,44 @@ public class AuthService {
     }
 
     token = token.substring(7);
-    String username = jwtProvider.getUsername(token);
-    if (username == null) {
+    Claims claims = jwtProvider.extractAllClaims(token);
+    String username = claims.getSubject();
+    if (username == null || tokenRevocationService.isRevoked(claims)) {
       throw new RuntimeException("Forbidden access");
     }
 
     User userDetails = userRepository.findByEmail(username).orElseThrow();
 
-    if (!jwtProvider.validToken(userDetails, token)) {
+    if (!jwtProvider.validToken(userDetails, claims)) {
       throw new RuntimeException("Forbidden access");
     }
 
-    String accessToken = jwtProvider.generateToken(username, Map.of());
+    String refreshToken = refreshTokenService.rotate(token, claims);
+    String accessToken = jwtProvider.generateToken(username, Map.of(RefreshTokenService.FAMILY_CLAIM, claims.get(RefreshTokenService.FAMILY_CLAIM)));
     return new AuthResponse(
       userDetails.getFirstname(), 
       userDetails.getUsername(), 
-      accessToken, token, 
+      accessToken, refreshToken, 
       roleMapper.mapToRoleResponse(userDetails.getRole())
     );
   }
+
+  public void logout(HttpServletRequest request) {
+    String token = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+    if (token == null || !token.startsWith("Bearer ")) {
+      throw new RuntimeException("Forbidden access");
+    }
+
+    Claims claims = jwtProvider.extractAllClaims(token.substring(7));
+    if (claims.getId() == null) {
+      throw new IllegalArgumentException("Token cannot be revoked");
+    }
+    tokenRevocationService.revokeToken(claims.getId(), claims.getExpiration().toInstant());
+
+    String familyId = claims.get(RefreshTokenService.FAMILY_CLAIM, String.class);
+    if (familyId != null) {
+      refreshTokenService.revokeFamily(familyId);
+    }
+  }
 }
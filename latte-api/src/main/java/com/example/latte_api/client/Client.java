@@ -31,7 +31,7 @@ import lombok.experimental.SuperBuilder;
 public class Client extends AbstractAuditingEntity {
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_seq_generator")
-  @SequenceGenerator(name = "client_seq_generator", sequenceName = "client_seq", allocationSize = 1, initialValue = 101)
+  @SequenceGenerator(name = "client_seq_generator", sequenceName = "client_seq", allocationSize = 10, initialValue = 101)
   @Column(name = "id")
   private Long id;
 
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.latte_api.client.dto.ClientRequest;
 import com.example.latte_api.client.dto.ClientResponse;
+import com.example.latte_api.shared.CursorPagedEntity;
 import com.example.latte_api.shared.PagedEntity;
 
 import lombok.RequiredArgsConstructor;
@@ -28,8 +29,13 @@ public class ClientController {
   private final ClientService clientService;
 
   @GetMapping()
-  public ResponseEntity<PagedEntity<ClientResponse>> getClients(@RequestParam int page, @RequestParam int size) {
-    return ResponseEntity.status(HttpStatus.OK).body(clientService.getClients(page, size));
+  public ResponseEntity<PagedEntity<ClientResponse>> getClients(@RequestParam int page, @RequestParam int size, @RequestParam(defaultValue = "true") boolean count) {
+    return ResponseEntity.status(HttpStatus.OK).body(clientService.getClients(page, size, count));
+  }
+
+  @GetMapping("/scroll")
+  public ResponseEntity<CursorPagedEntity<ClientResponse>> scrollClients(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.status(HttpStatus.OK).body(clientService.scrollClients(cursor, size));
   }
 
   @GetMapping("/{id}")
@@ -1,7 +1,25 @@
 package com.example.latte_api.client;
 
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.latte_api.shared.ChangeStamp;
 
 public interface ClientRepository extends JpaRepository<Client, Long> {
-  
+  Slice<Client> findAllBy(Pageable pageable);
+
+  @Query("select c from Client c order by c.createdAt desc, c.id desc")
+  List<Client> findFirstKeyset(Pageable pageable);
+
+  @Query("select c from Client c where c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id) order by c.createdAt desc, c.id desc")
+  List<Client> findNextKeyset(@Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
+
+  @Query("select new com.example.latte_api.shared.ChangeStamp(count(c), max(coalesce(c.lastUpdated, c.createdAt))) from Client c")
+  ChangeStamp findChangeStamp();
 }
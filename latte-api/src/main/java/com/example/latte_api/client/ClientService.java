@@ -2,9 +2,9 @@ package com.example.latte_api.client;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
@@ -12,6 +12,8 @@ import org.springframework.stereotype.Service;
 import com.example.latte_api.client.dto.ClientRequest;
 import com.example.latte_api.client.dto.ClientResponse;
 import com.example.latte_api.exception.OperationNotPermittedException;
+import com.example.latte_api.shared.Cursor;
+import com.example.latte_api.shared.CursorPagedEntity;
 import com.example.latte_api.shared.PagedEntity;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -39,20 +41,32 @@ public class ClientService {
   }
 
   public PagedEntity<ClientResponse> getClients(int page, int size) {
+    return getClients(page, size, true);
+  }
+
+  public PagedEntity<ClientResponse> getClients(int page, int size, boolean count) {
     Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.DESC, "createdAt"));
-    Page<Client> clients = clientRepository.findAll(pageable);
-
-    PagedEntity<ClientResponse> response = new PagedEntity<>();
-    response.setNext(clients.hasNext());
-    response.setPrevious(clients.hasPrevious());
-    response.setTotalElement(clients.getTotalElements());
-    response.setContent(
-      clients.getContent().stream()
-        .map(c -> new ClientResponse(c.getId(), c.getName(), c.getEmail(), c.getPhone(), c.isDeletable()))
-        .toList()
-    );
+    Slice<Client> clients = count? clientRepository.findAll(pageable) : clientRepository.findAllBy(pageable);
+    return PagedEntity.of(clients, c -> new ClientResponse(c.getId(), c.getName(), c.getEmail(), c.getPhone(), c.isDeletable()));
+  }
 
-    return response;
+  public CursorPagedEntity<ClientResponse> scrollClients(String cursor, int size) {
+    Pageable pageable = CursorPagedEntity.pageable(size);
+    List<Client> clients;
+
+    if (cursor == null || cursor.isEmpty()) {
+      clients = clientRepository.findFirstKeyset(pageable);
+    } else {
+      Cursor position = Cursor.decode(cursor);
+      clients = clientRepository.findNextKeyset(position.timestamp(), position.id(), pageable);
+    }
+
+    return CursorPagedEntity.of(
+      clients, 
+      size, 
+      c -> new Cursor(c.getCreatedAt(), c.getId()).encode(), 
+      c -> new ClientResponse(c.getId(), c.getName(), c.getEmail(), c.getPhone(), c.isDeletable())
+    );
   }
 
   public ClientResponse getClient(Long id) {
@@ -0,0 +1,49 @@
+package com.example.latte_api.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+  public static final String TICKET_INFO_CACHE = "ticket-info";
+  public static final String PRINCIPAL_CACHE = "principal";
+
+  @Value("${latte.cache.ticket-info-ttl}")
+  private Integer ticketInfoTtl;
+
+  @Value("${latte.cache.principal-ttl}")
+  private Integer principalTtl;
+
+  @Value("${latte.cache.principal-max-size}")
+  private Integer principalMaxSize;
+
+  @Bean
+  CacheManager cacheManager() {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    cacheManager.registerCustomCache(
+      TICKET_INFO_CACHE,
+      Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(ticketInfoTtl))
+        .maximumSize(1)
+        .build()
+    );
+    cacheManager.registerCustomCache(
+      PRINCIPAL_CACHE,
+      Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(principalTtl))
+        .maximumSize(principalMaxSize)
+        .build()
+    );
+    return new TransactionAwareCacheManagerProxy(cacheManager);
+  }
+}
@@ -61,6 +61,7 @@ public class SecurityConfig {
       request.requestMatchers(
         HttpMethod.GET, 
         "/latte-api/v1/users",
+        "/latte-api/v1/users/scroll",
         "/latte-api/v1/users/info/*",
         "/latte-api/v1/users/count"
       ).hasAnyAuthority(
@@ -153,7 +154,8 @@ public class SecurityConfig {
     configuration.setAllowedOrigins(List.of(clientUrl));
     configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
     configuration.setAllowCredentials(true);
-    configuration.setAllowedHeaders(List.of(HttpHeaders.AUTHORIZATION, HttpHeaders.CONTENT_TYPE, HttpHeaders.ACCEPT, HttpHeaders.ORIGIN));
+    configuration.setAllowedHeaders(List.of(HttpHeaders.AUTHORIZATION, HttpHeaders.CONTENT_TYPE, HttpHeaders.ACCEPT, HttpHeaders.ORIGIN, HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MATCH));
+    configuration.setExposedHeaders(List.of(HttpHeaders.ETAG));
     
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
     source.registerCorsConfiguration("/**" ,configuration);
@@ -4,15 +4,18 @@ import java.time.Instant;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.example.latte_api.exception.OperationNotPermittedException;
+import com.example.latte_api.exception.PreconditionFailedException;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.servlet.http.HttpServletRequest;
 
 @RestControllerAdvice
@@ -53,6 +56,30 @@ public class GlobalExceptionHandler {
     );
   }
 
+  @ExceptionHandler({ObjectOptimisticLockingFailureException.class, OptimisticLockException.class})
+  public ResponseEntity<ErrorResponse> handleOptimisticLock(Exception e, HttpServletRequest request) {
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(
+      new ErrorResponse(
+        Instant.now(), 
+        HttpStatus.CONFLICT.value(),
+        "Resource was modified concurrently",
+        request.getRequestURI()
+      )
+    );
+  }
+
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException e, HttpServletRequest request) {
+    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(
+      new ErrorResponse(
+        Instant.now(), 
+        HttpStatus.PRECONDITION_FAILED.value(),
+        e.getMessage(),
+        request.getRequestURI()
+      )
+    );
+  }
+
   @ExceptionHandler({JwtException.class, ExpiredJwtException.class})
   public ResponseEntity<ErrorResponse> handleJwtException(Exception e, HttpServletRequest request) {
     return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
@@ -28,7 +28,7 @@ import lombok.Setter;
 public class Notification {
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq_generator")
-  @SequenceGenerator(name = "notification_seq_generator", sequenceName = "notification_seq", allocationSize = 1, initialValue = 101)
+  @SequenceGenerator(name = "notification_seq_generator", sequenceName = "notification_seq", allocationSize = 50, initialValue = 101)
   private Long id;
   private String message;
   private Instant timestamp;
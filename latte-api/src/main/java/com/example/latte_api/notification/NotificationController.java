@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.latte_api.shared.CursorPagedEntity;
 import com.example.latte_api.shared.PagedEntity;
 
 import lombok.RequiredArgsConstructor;
@@ -23,8 +24,13 @@ public class NotificationController {
   private final NotificationService notificationService;
 
   @GetMapping
-  public ResponseEntity<PagedEntity<NotificationDto>> getUserNotification(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "5") int size,  Authentication authentication) {
-    return ResponseEntity.status(HttpStatus.OK).body(notificationService.getUserNotification(page, size, authentication));
+  public ResponseEntity<PagedEntity<NotificationDto>> getUserNotification(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "5") int size, @RequestParam(defaultValue = "true") boolean count, Authentication authentication) {
+    return ResponseEntity.status(HttpStatus.OK).body(notificationService.getUserNotification(page, size, count, authentication));
+  }
+
+  @GetMapping("/scroll")
+  public ResponseEntity<CursorPagedEntity<NotificationDto>> scrollUserNotification(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "5") int size,  Authentication authentication) {
+    return ResponseEntity.status(HttpStatus.OK).body(notificationService.scrollUserNotification(cursor, size, authentication));
   }
 
   @DeleteMapping("/{id}")
@@ -1,10 +1,24 @@
 package com.example.latte_api.notification;
 
+import java.time.Instant;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.example.latte_api.user.User;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
   Page<Notification> findByUser(User user, Pageable pageable);
+  Slice<Notification> findSliceByUser(User user, Pageable pageable);
+
+  @Query("select n from Notification n where n.user = :user order by n.timestamp desc, n.id desc")
+  List<Notification> findFirstKeysetByUser(@Param("user") User user, Pageable pageable);
+
+  @Query("select n from Notification n where n.user = :user and (n.timestamp < :timestamp or (n.timestamp = :timestamp and n.id < :id)) order by n.timestamp desc, n.id desc")
+  List<Notification> findNextKeysetByUser(@Param("user") User user, @Param("timestamp") Instant timestamp, @Param("id") Long id, Pageable pageable);
 }
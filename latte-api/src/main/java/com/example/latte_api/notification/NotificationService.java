@@ -1,10 +1,11 @@
 package com.example.latte_api.notification;
 
 import java.time.Instant;
+import java.util.List;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -12,6 +13,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import com.example.latte_api.exception.OperationNotPermittedException;
+import com.example.latte_api.shared.Cursor;
+import com.example.latte_api.shared.CursorPagedEntity;
 import com.example.latte_api.shared.PagedEntity;
 import com.example.latte_api.user.User;
 
@@ -50,22 +53,39 @@ public class NotificationService {
   }
 
   public PagedEntity<NotificationDto> getUserNotification(int page, int size, Authentication authentication) {
+    return getUserNotification(page, size, true, authentication);
+  }
+
+  public PagedEntity<NotificationDto> getUserNotification(int page, int size, boolean count, Authentication authentication) {
     User user = (User) authentication.getPrincipal();
 
     Pageable pageable = PageRequest.of(page, size,  Sort.by(Direction.DESC, "timestamp"));
-    Page<Notification> notifications = notificationRepository.findByUser(user, pageable);
-
-    PagedEntity<NotificationDto> response = new PagedEntity<>();
-    response.setNext(notifications.hasNext());
-    response.setPrevious(notifications.hasPrevious());
-    response.setTotalElement(notifications.getTotalElements());
-    response.setContent(
-      notifications.getContent().stream()
-        .map(n -> new NotificationDto(n.getId(), n.getMessage(), n.getTimestamp()))
-        .toList()
-    );
+    Slice<Notification> notifications = count?
+      notificationRepository.findByUser(user, pageable) :
+      notificationRepository.findSliceByUser(user, pageable);
 
-    return response;
+    return PagedEntity.of(notifications, n -> new NotificationDto(n.getId(), n.getMessage(), n.getTimestamp()));
+  }
+
+  public CursorPagedEntity<NotificationDto> scrollUserNotification(String cursor, int size, Authentication authentication) {
+    User user = (User) authentication.getPrincipal();
+
+    Pageable pageable = CursorPagedEntity.pageable(size);
+    List<Notification> notifications;
+
+    if (cursor == null || cursor.isEmpty()) {
+      notifications = notificationRepository.findFirstKeysetByUser(user, pageable);
+    } else {
+      Cursor position = Cursor.decode(cursor);
+      notifications = notificationRepository.findNextKeysetByUser(user, position.timestamp(), position.id(), pageable);
+    }
+
+    return CursorPagedEntity.of(
+      notifications, 
+      size, 
+      n -> new Cursor(n.getTimestamp(), n.getId()).encode(), 
+      n -> new NotificationDto(n.getId(), n.getMessage(), n.getTimestamp())
+    );
   }
 
   public void deleteNotification(Long id, Authentication authentication) {
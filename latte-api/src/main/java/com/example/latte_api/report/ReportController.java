@@ -0,0 +1,39 @@
+package com.example.latte_api.report;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.latte_api.report.dto.ResolutionReport;
+import com.example.latte_api.report.dto.ThroughputReport;
+import com.example.latte_api.report.enums.ReportDimension;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/latte-api/v1/reports")
+@RequiredArgsConstructor
+public class ReportController {
+  private final ReportService reportService;
+
+  @GetMapping("/resolution")
+  public ResponseEntity<List<ResolutionReport>> getResolutionReport(@RequestParam(defaultValue = "PRIORITY") ReportDimension dimension) {
+    return ResponseEntity.status(HttpStatus.OK).body(reportService.getResolutionReport(dimension));
+  }
+
+  @GetMapping("/throughput")
+  public ResponseEntity<List<ThroughputReport>> getThroughputReport(
+    @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+    @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate to
+  ) {
+    return ResponseEntity.status(HttpStatus.OK).body(reportService.getThroughputReport(from, to));
+  }
+}
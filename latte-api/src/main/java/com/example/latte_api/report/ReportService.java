@@ -0,0 +1,217 @@
+package com.example.latte_api.report;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.latte_api.report.dto.ResolutionReport;
+import com.example.latte_api.report.dto.ThroughputReport;
+import com.example.latte_api.report.enums.ReportDimension;
+import com.example.latte_api.ticket.enums.Status;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ReportService {
+  static final int BUCKETS_PER_DOUBLING = 4;
+  static final String UPSERT_THROUGHPUT = "insert into ticket_throughput_rollup (week_start, shard, created, closed) values (?, ?, ?, ?) "
+    + "on conflict (week_start, shard) do update set "
+    + "created = ticket_throughput_rollup.created + excluded.created, "
+    + "closed = ticket_throughput_rollup.closed + excluded.closed";
+  static final String UPSERT_RESOLUTION = "insert into ticket_resolution_rollup (dimension, dimension_key, bucket, shard, resolved, total_seconds) values (?, ?, ?, ?, ?, ?) "
+    + "on conflict (dimension, dimension_key, bucket, shard) do update set "
+    + "resolved = ticket_resolution_rollup.resolved + excluded.resolved, "
+    + "total_seconds = ticket_resolution_rollup.total_seconds + excluded.total_seconds";
+  static final String SELECT_THROUGHPUT = "select week_start, sum(created) as created, sum(closed) as closed from ticket_throughput_rollup "
+    + "where week_start between ? and ? group by week_start order by week_start";
+  static final String SELECT_RESOLUTION = "select dimension_key, bucket, sum(resolved) as resolved, sum(total_seconds) as total_seconds from ticket_resolution_rollup "
+    + "where dimension = ? group by dimension_key, bucket having sum(resolved) > 0 order by dimension_key, bucket";
+
+  private static final Comparator<ResolutionKey> RESOLUTION_ORDER = Comparator
+    .comparing(ResolutionKey::dimension)
+    .thenComparing(ResolutionKey::key)
+    .thenComparingInt(ResolutionKey::bucket);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TicketTransitionRepository ticketTransitionRepository;
+
+  @Value("${latte.report.throughput-weeks}")
+  private Integer throughputWeeks;
+
+  @Value("${latte.report.rollup-shards}")
+  private Integer rollupShards;
+
+  @Transactional
+  public void recordTransitions(List<TicketTransition> transitions) {
+    if (transitions.isEmpty()) {
+      return;
+    }
+    Map<Long, TicketTransition> latest = new HashMap<>();
+    ticketTransitionRepository.findLatestByTicketIdIn(transitions.stream().map(TicketTransition::getTicketId).distinct().toList())
+      .forEach(t -> latest.put(t.getTicketId(), t));
+
+    Map<LocalDate, long[]> throughput = new TreeMap<>();
+    Map<ResolutionKey, long[]> resolution = new TreeMap<>(RESOLUTION_ORDER);
+
+    for (TicketTransition transition : transitions) {
+      TicketTransition previous = latest.get(transition.getTicketId());
+
+      if (transition.getFromStatus() == Status.CLOSE) {
+        transition.setOpenedAt(transition.getTransitionedAt());
+        if (previous != null && previous.getToStatus() == Status.CLOSE) {
+          addClose(throughput, resolution, previous, -1);
+        }
+      } else if (previous != null) {
+        transition.setOpenedAt(previous.getOpenedAt());
+      }
+
+      if (transition.getFromStatus() == null) {
+        throughput.computeIfAbsent(weekOf(transition.getOpenedAt()), w -> new long[2])[0]++;
+      }
+
+      if (transition.getToStatus() == Status.CLOSE) {
+        addClose(throughput, resolution, transition, 1);
+      }
+
+      latest.put(transition.getTicketId(), transition);
+    }
+    ticketTransitionRepository.saveAll(transitions);
+
+    int shard = ThreadLocalRandom.current().nextInt(rollupShards);
+
+    if (!throughput.isEmpty()) {
+      List<Object[]> rows = new ArrayList<>(throughput.size());
+      throughput.forEach((week, counts) -> rows.add(new Object[] {Date.valueOf(week), shard, counts[0], counts[1]}));
+      jdbcTemplate.batchUpdate(UPSERT_THROUGHPUT, rows);
+    }
+
+    if (!resolution.isEmpty()) {
+      List<Object[]> rows = new ArrayList<>(resolution.size());
+      resolution.forEach((key, totals) -> rows.add(new Object[] {key.dimension().name(), key.key(), key.bucket(), shard, totals[0], totals[1]}));
+      jdbcTemplate.batchUpdate(UPSERT_RESOLUTION, rows);
+    }
+  }
+
+  public List<ThroughputReport> getThroughputReport(LocalDate from, LocalDate to) {
+    LocalDate end = weekOf(to == null? LocalDate.now(ZoneOffset.UTC) : to);
+    LocalDate start = weekOf(from == null? end.minusWeeks(throughputWeeks - 1) : from);
+
+    if (start.isAfter(end)) {
+      throw new IllegalArgumentException("Report start must not be after its end");
+    }
+
+    Map<LocalDate, ThroughputReport> rows = new HashMap<>();
+    jdbcTemplate.query(SELECT_THROUGHPUT, rs -> {
+      LocalDate week = rs.getDate("week_start").toLocalDate();
+      rows.put(week, new ThroughputReport(week, rs.getLong("created"), rs.getLong("closed")));
+    }, Date.valueOf(start), Date.valueOf(end));
+
+    List<ThroughputReport> reports = new ArrayList<>();
+    for (LocalDate week = start; !week.isAfter(end); week = week.plusWeeks(1)) {
+      reports.add(rows.getOrDefault(week, new ThroughputReport(week, 0L, 0L)));
+    }
+    return reports;
+  }
+
+  public List<ResolutionReport> getResolutionReport(ReportDimension dimension) {
+    List<ResolutionBucket> buckets = jdbcTemplate.query(
+      SELECT_RESOLUTION,
+      (rs, rowNum) -> new ResolutionBucket(rs.getString("dimension_key"), rs.getInt("bucket"), rs.getLong("resolved"), rs.getLong("total_seconds")),
+      dimension.name()
+    );
+
+    List<ResolutionReport> reports = new ArrayList<>();
+    int start = 0;
+    for (int i = 1; i <= buckets.size(); i++) {
+      if (i == buckets.size() || !buckets.get(i).key().equals(buckets.get(start).key())) {
+        reports.add(summarize(buckets.subList(start, i)));
+        start = i;
+      }
+    }
+    return reports;
+  }
+
+  static int bucketOf(long seconds) {
+    if (seconds < 1) {
+      return 0;
+    }
+    return 1 + (int) Math.floor(Math.log(seconds) / Math.log(2) * BUCKETS_PER_DOUBLING);
+  }
+
+  static long bucketMidpoint(int bucket) {
+    if (bucket == 0) {
+      return 0;
+    }
+    return Math.round(Math.pow(2, (bucket - 0.5) / BUCKETS_PER_DOUBLING));
+  }
+
+  static LocalDate weekOf(Instant instant) {
+    return weekOf(instant.atZone(ZoneOffset.UTC).toLocalDate());
+  }
+
+  static LocalDate weekOf(LocalDate date) {
+    return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+  }
+
+  private ResolutionReport summarize(List<ResolutionBucket> buckets) {
+    long resolved = 0;
+    long totalSeconds = 0;
+    for (ResolutionBucket bucket : buckets) {
+      resolved += bucket.resolved();
+      totalSeconds += bucket.totalSeconds();
+    }
+
+    long median = 0;
+    long seen = 0;
+    for (ResolutionBucket bucket : buckets) {
+      seen += bucket.resolved();
+      if (seen * 2 >= resolved) {
+        median = bucketMidpoint(bucket.bucket());
+        break;
+      }
+    }
+
+    return new ResolutionReport(buckets.get(0).key(), resolved, median, resolved == 0? 0 : totalSeconds / resolved);
+  }
+
+  private void addClose(Map<LocalDate, long[]> throughput, Map<ResolutionKey, long[]> resolution, TicketTransition close, int sign) {
+    throughput.computeIfAbsent(weekOf(close.getTransitionedAt()), w -> new long[2])[1] += sign;
+
+    long seconds = Math.max(0, Duration.between(close.getOpenedAt(), close.getTransitionedAt()).getSeconds());
+    int bucket = bucketOf(seconds);
+    addResolution(resolution, new ResolutionKey(ReportDimension.PRIORITY, keyOf(close.getPriority()), bucket), seconds, sign);
+    addResolution(resolution, new ResolutionKey(ReportDimension.ASSIGNEE, keyOf(close.getAssignedTo()), bucket), seconds, sign);
+    addResolution(resolution, new ResolutionKey(ReportDimension.CLIENT, keyOf(close.getClientId()), bucket), seconds, sign);
+  }
+
+  private void addResolution(Map<ResolutionKey, long[]> resolution, ResolutionKey key, long seconds, int sign) {
+    long[] totals = resolution.computeIfAbsent(key, k -> new long[2]);
+    totals[0] += sign;
+    totals[1] += sign * seconds;
+  }
+
+  private String keyOf(Object value) {
+    return value == null? "NONE" : value.toString();
+  }
+
+  private record ResolutionKey(ReportDimension dimension, String key, int bucket) {}
+
+  record ResolutionBucket(String key, int bucket, long resolved, long totalSeconds) {}
+}
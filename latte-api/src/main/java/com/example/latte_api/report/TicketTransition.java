@@ -0,0 +1,83 @@
+package com.example.latte_api.report;
+
+import java.time.Instant;
+
+import com.example.latte_api.ticket.Ticket;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.user.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+@Table(name = "ticket_transition")
+public class TicketTransition {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_transition_seq_generator")
+  @SequenceGenerator(name = "ticket_transition_seq_generator", sequenceName = "ticket_transition_seq", initialValue = 101, allocationSize = 50)
+  @Column(name = "id")
+  private Long id;
+
+  @Column(name = "ticket_id")
+  private Long ticketId;
+
+  @Enumerated(value = EnumType.STRING)
+  @Column(name = "from_status")
+  private Status fromStatus;
+
+  @Enumerated(value = EnumType.STRING)
+  @Column(name = "to_status")
+  private Status toStatus;
+
+  @Enumerated(value = EnumType.STRING)
+  @Column(name = "priority")
+  private Priority priority;
+
+  @Column(name = "assigned_to")
+  private Long assignedTo;
+
+  @Column(name = "client_id")
+  private Long clientId;
+
+  @Column(name = "actor_id")
+  private Long actorId;
+
+  @Column(name = "opened_at")
+  private Instant openedAt;
+
+  @Column(name = "transitioned_at")
+  private Instant transitionedAt;
+
+  public static TicketTransition of(Ticket ticket, Status fromStatus, User actor) {
+    Instant now = Instant.now();
+    return TicketTransition.builder()
+      .ticketId(ticket.getId())
+      .fromStatus(fromStatus)
+      .toStatus(ticket.getStatus())
+      .priority(ticket.getPriority())
+      .assignedTo(ticket.getAssignedTo() == null? null : ticket.getAssignedTo().getId())
+      .clientId(ticket.getClient() == null? null : ticket.getClient().getId())
+      .actorId(actor.getId())
+      .openedAt(ticket.getCreatedAt() == null? now : ticket.getCreatedAt())
+      .transitionedAt(now)
+      .build();
+  }
+}
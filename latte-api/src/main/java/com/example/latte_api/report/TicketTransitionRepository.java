@@ -0,0 +1,18 @@
+package com.example.latte_api.report;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TicketTransitionRepository extends JpaRepository<TicketTransition, Long> {
+  @Query(
+    value = "select distinct on (tt.ticket_id) tt.* from ticket_transition tt "
+      + "where tt.ticket_id in (:ticketIds) "
+      + "order by tt.ticket_id, tt.transitioned_at desc, tt.id desc",
+    nativeQuery = true
+  )
+  List<TicketTransition> findLatestByTicketIdIn(@Param("ticketIds") Collection<Long> ticketIds);
+}
@@ -0,0 +1,5 @@
+package com.example.latte_api.report.dto;
+
+public record ResolutionReport(String key, Long resolved, Long medianSeconds, Long meanSeconds) {
+  
+}
@@ -0,0 +1,7 @@
+package com.example.latte_api.report.dto;
+
+import java.time.LocalDate;
+
+public record ThroughputReport(LocalDate weekStart, Long created, Long closed) {
+  
+}
@@ -0,0 +1,7 @@
+package com.example.latte_api.report.enums;
+
+public enum ReportDimension {
+  PRIORITY,
+  ASSIGNEE,
+  CLIENT
+}
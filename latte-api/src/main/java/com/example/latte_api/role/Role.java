@@ -1,10 +1,14 @@
 package com.example.latte_api.role;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import com.example.latte_api.role.authority.Authority;
+import com.example.latte_api.role.authority.IAuthority;
 import com.example.latte_api.user.User;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -20,23 +24,22 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-@AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
-@Builder
 @Entity
 @Table(name = "role")
 public class Role {
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "role_seq_generator")
-  @SequenceGenerator(name = "role_seq_generator", sequenceName = "role_seq", initialValue = 101, allocationSize = 1)
+  @SequenceGenerator(name = "role_seq_generator", sequenceName = "role_seq", initialValue = 101, allocationSize = 10)
   @Column(name = "id")
   private Long id;
 
@@ -61,9 +64,49 @@ public class Role {
   @OneToMany(mappedBy = "role")
   private List<User> users;
 
+  @Version
+  @Column(name = "version")
+  private long version;
+
+  @JsonIgnore
+  @Transient
+  private volatile Set<IAuthority> grants;
+
+  @Builder
+  public Role(Long id, String role, boolean editable, boolean deletable, List<Authority> authorities, List<User> users, long version) {
+    this.id = id;
+    this.role = role;
+    this.editable = editable;
+    this.deletable = deletable;
+    this.authorities = authorities;
+    this.users = users;
+    this.version = version;
+  }
+
   public List<SimpleGrantedAuthority> getAuthorities() {
     return authorities.stream()
       .map(a -> new SimpleGrantedAuthority(a.getAuthority()))
       .toList();
   }
+
+  public void setAuthorities(List<Authority> authorities) {
+    this.authorities = authorities;
+    this.grants = null;
+  }
+
+  public Set<IAuthority> getGrants() {
+    Set<IAuthority> result = grants;
+    if (result == null) {
+      EnumSet<IAuthority> resolved = EnumSet.noneOf(IAuthority.class);
+      for (Authority authority : authorities) {
+        IAuthority grant = IAuthority.of(authority.getAuthority());
+        if (grant != null) {
+          resolved.add(grant);
+        }
+      }
+      result = Collections.unmodifiableSet(resolved);
+      grants = result;
+    }
+    return result;
+  }
 }
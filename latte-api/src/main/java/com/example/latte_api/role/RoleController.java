@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.latte_api.role.dto.RoleRequest;
 import com.example.latte_api.role.dto.RoleResponse;
@@ -28,8 +29,12 @@ public class RoleController {
   private final RoleService roleService;
 
   @GetMapping()
-  public ResponseEntity<PagedEntity<RoleResponse>> getRoles(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
-    return ResponseEntity.status(HttpStatus.OK).body(roleService.getRoles(page, size));
+  public ResponseEntity<PagedEntity<RoleResponse>> getRoles(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, WebRequest request) {
+    String eTag = roleService.getRolesETag(page, size);
+    if (request.checkNotModified(eTag)) {
+      return null;
+    }
+    return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(roleService.getRoles(page, size));
   }
 
   @GetMapping("/{id}")
@@ -3,7 +3,13 @@ package com.example.latte_api.role;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.example.latte_api.role.dto.RoleVersion;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
   Optional<Role> findByRole(String role);
+
+  @Query("select new com.example.latte_api.role.dto.RoleVersion(count(r), max(r.id), coalesce(sum(r.version), 0)) from Role r")
+  RoleVersion findVersion();
 }
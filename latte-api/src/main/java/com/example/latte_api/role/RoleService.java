@@ -3,6 +3,7 @@ package com.example.latte_api.role;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -10,11 +11,14 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 
+import com.example.latte_api.config.CacheConfig;
 import com.example.latte_api.role.authority.Authority;
 import com.example.latte_api.role.authority.AuthorityRepository;
 import com.example.latte_api.role.dto.RoleRequest;
 import com.example.latte_api.role.dto.RoleResponse;
+import com.example.latte_api.role.dto.RoleVersion;
 import com.example.latte_api.role.mapper.RoleMapper;
+import com.example.latte_api.shared.ETags;
 import com.example.latte_api.shared.PagedEntity;
 import com.example.latte_api.user.User;
 import com.example.latte_api.user.UserRepository;
@@ -32,6 +36,11 @@ public class RoleService {
 
   private final RoleMapper roleMapper;
 
+  public String getRolesETag(int page, int size) {
+    RoleVersion version = roleRepository.findVersion();
+    return ETags.of("roles", page, size, version.count(), version.lastId(), version.versionSum());
+  }
+
   public PagedEntity<RoleResponse> getRoles(int page, int size) {
     Pageable pageable = PageRequest.of(page, size, Sort.by(Direction.ASC, "id"));
     Page<Role> rolePage =  roleRepository.findAll(pageable);
@@ -78,6 +87,7 @@ public class RoleService {
   }
 
   @Transactional
+  @CacheEvict(cacheNames = CacheConfig.PRINCIPAL_CACHE, allEntries = true)
   public RoleResponse editResponse(Long id, RoleRequest request) {
     Role role = roleRepository.findById(id).orElseThrow(
       () -> new EntityNotFoundException("Role not found")
@@ -108,6 +118,7 @@ public class RoleService {
   }
 
   @Transactional
+  @CacheEvict(cacheNames = CacheConfig.PRINCIPAL_CACHE, allEntries = true)
   public void deleteRole(Long id, Long newId) {
     if (id == newId) {
       throw new IllegalArgumentException("Role delete id and Update id can not be same");
@@ -1,5 +1,8 @@
 package com.example.latte_api.role.authority;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import lombok.Getter;
 
 public enum IAuthority {
@@ -20,10 +23,22 @@ public enum IAuthority {
   DELETE_CLIENT("client::delete");
 
 
+  private static final Map<String, IAuthority> BY_AUTHORITY = new HashMap<>();
+
+  static {
+    for (IAuthority value : values()) {
+      BY_AUTHORITY.put(value.authority, value);
+    }
+  }
+
   @Getter
   private String authority;
 
   IAuthority(String authority) {
     this.authority = authority;
   }
+
+  public static IAuthority of(String authority) {
+    return BY_AUTHORITY.get(authority);
+  }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.example.latte_api.role.dto;
+
+public record RoleVersion(Long count, Long lastId, Long versionSum) {
+  
+}
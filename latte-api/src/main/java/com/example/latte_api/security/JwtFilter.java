@@ -11,8 +11,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
+import com.example.latte_api.security.refresh.RefreshTokenService;
+import com.example.latte_api.security.revocation.TokenRevocationService;
 import com.example.latte_api.user.UserService;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtFilter extends OncePerRequestFilter {
   private final JwtProvider jwtProvider;
   private final UserService userService;
+  private final TokenRevocationService tokenRevocationService;
 
   private final HandlerExceptionResolver handlerExceptionResolver;
 
@@ -42,12 +47,16 @@ public class JwtFilter extends OncePerRequestFilter {
 
     token = token.substring(7);
     try {
-      String username = jwtProvider.getUsername(token);
+      Claims claims = jwtProvider.extractAllClaims(token);
+      if (tokenRevocationService.isRevoked(claims)) {
+        throw new JwtException("Token has been revoked");
+      }
+      String username = claims.getSubject();
 
-      if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+      if (username != null && !RefreshTokenService.isRefreshToken(claims) && SecurityContextHolder.getContext().getAuthentication() == null) {
         UserDetails userDetails = userService.loadUserByUsername(username);
 
-        if (jwtProvider.validToken(userDetails, token)) {
+        if (jwtProvider.validToken(userDetails, claims)) {
           UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
             userDetails, 
             null, 
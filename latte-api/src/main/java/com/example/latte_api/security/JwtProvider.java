@@ -3,6 +3,7 @@ package com.example.latte_api.security;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
@@ -11,37 +12,49 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class JwtProvider {
+  public static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
   @Value("${security.jwt.secret-key}")
   private String secretKey;
 
   @Value("${security.jwt.expiration}")
   private Integer expiration;
 
+  private SecretKey key;
+  private JwtParser parser;
+
+  @PostConstruct
+  void init() {
+    key = Keys.hmacShaKeyFor(secretKey.getBytes());
+    parser = Jwts.parser().verifyWith(key).build();
+  }
+
   public String generateToken(String username, Map<String, Object> claims) {
     return generateToken(username, claims, this.expiration);
   }
 
   public String generateToken(String username, Map<String, Object> claims, Integer expiration) {
+    Instant now = Instant.now();
     return Jwts.builder()
       .claims(claims)
+      .claim(ISSUED_AT_MILLIS_CLAIM, now.toEpochMilli())
       .subject(username)
-      .issuedAt(Date.from(Instant.now()))
-      .expiration(Date.from(Instant.now().plusSeconds(expiration)))
-      .signWith(secretKey())
+      .id(UUID.randomUUID().toString())
+      .issuedAt(Date.from(now))
+      .expiration(Date.from(now.plusSeconds(expiration)))
+      .signWith(key)
       .compact();
   }
 
   public Claims extractAllClaims(String token) {
-    return Jwts.parser()
-      .verifyWith(secretKey())
-      .build()
-      .parseSignedClaims(token)
-      .getPayload();
+    return parser.parseSignedClaims(token).getPayload();
   }
 
   public String getUsername(String token) {
@@ -49,15 +62,19 @@ public class JwtProvider {
   }
 
   public boolean expiredToken(String token) {
-    return extractAllClaims(token).getExpiration().before(new Date());
+    return expiredToken(extractAllClaims(token));
+  }
+
+  public boolean expiredToken(Claims claims) {
+    return claims.getExpiration().before(new Date());
   }
 
   public boolean validToken(UserDetails userDetails, String token) {
-    return userDetails.getUsername().equals(getUsername(token)) 
-      && !expiredToken(token);
+    return validToken(userDetails, extractAllClaims(token));
   }
 
-  private SecretKey secretKey() {
-    return Keys.hmacShaKeyFor(secretKey.getBytes());
+  public boolean validToken(UserDetails userDetails, Claims claims) {
+    return userDetails.getUsername().equals(claims.getSubject()) 
+      && !expiredToken(claims);
   }
 }
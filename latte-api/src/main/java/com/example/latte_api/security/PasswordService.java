@@ -1,9 +1,12 @@
 package com.example.latte_api.security;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.example.latte_api.config.CacheConfig;
+import com.example.latte_api.security.revocation.TokenRevocationService;
 import com.example.latte_api.user.User;
 import com.example.latte_api.user.UserRepository;
 import com.example.latte_api.user.dto.ResetPasswordRequest;
@@ -19,9 +22,14 @@ public class PasswordService {
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final UserMapper userMapper;
+  private final TokenRevocationService tokenRevocationService;
 
+  @CacheEvict(cacheNames = CacheConfig.PRINCIPAL_CACHE, key = "#authentication.name")
   public UserResponse resetPassword(ResetPasswordRequest request, Authentication authentication) {
-    User user = (User) authentication.getPrincipal();
+    User principal = (User) authentication.getPrincipal();
+    User user = userRepository.findById(principal.getId()).orElseThrow(
+      () -> new EntityNotFoundException("User not found")
+    );
 
     if (!user.isEditable()) {
       throw new IllegalStateException("User can not be edited");
@@ -33,9 +41,11 @@ public class PasswordService {
 
     user.setPassword(passwordEncoder.encode(request.confirmPassword()));
     userRepository.save(user);
+    tokenRevocationService.revokeSubject(user.getEmail());
     return userMapper.mapToUserDto(user);
   } 
 
+  @CacheEvict(cacheNames = CacheConfig.PRINCIPAL_CACHE, key = "#_user")
   public UserResponse resetPassword(ResetPasswordRequest request, String _user) {
     User user = userRepository.findByEmail(_user).orElseThrow(
       () -> new EntityNotFoundException("User not found")
@@ -51,6 +61,7 @@ public class PasswordService {
 
     user.setPassword(passwordEncoder.encode(request.confirmPassword()));
     userRepository.save(user);
+    tokenRevocationService.revokeSubject(user.getEmail());
     return userMapper.mapToUserDto(user);
   } 
 }
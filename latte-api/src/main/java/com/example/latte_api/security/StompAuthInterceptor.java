@@ -0,0 +1,63 @@
+package com.example.latte_api.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.example.latte_api.security.refresh.RefreshTokenService;
+import com.example.latte_api.security.revocation.TokenRevocationService;
+import com.example.latte_api.user.UserService;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class StompAuthInterceptor implements ChannelInterceptor {
+  private final JwtProvider jwtProvider;
+  private final UserService userService;
+  private final TokenRevocationService tokenRevocationService;
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (accessor == null || accessor.getCommand() == null) {
+      return message;
+    }
+
+    if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+      accessor.setUser(authenticate(accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION)));
+    } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand()) || StompCommand.SEND.equals(accessor.getCommand())) {
+      if (accessor.getUser() == null) {
+        throw new AccessDeniedException("Unauthenticated " + accessor.getCommand());
+      }
+    }
+    return message;
+  }
+
+  private UsernamePasswordAuthenticationToken authenticate(String token) {
+    if (token == null || !token.startsWith("Bearer ")) {
+      throw new BadCredentialsException("Missing access token");
+    }
+
+    Claims claims = jwtProvider.extractAllClaims(token.substring(7));
+    if (claims.getSubject() == null || RefreshTokenService.isRefreshToken(claims) || tokenRevocationService.isRevoked(claims)) {
+      throw new BadCredentialsException("Invalid access token");
+    }
+
+    UserDetails userDetails = userService.loadUserByUsername(claims.getSubject());
+    if (!jwtProvider.validToken(userDetails, claims)) {
+      throw new BadCredentialsException("Invalid access token");
+    }
+    return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+  }
+}
@@ -0,0 +1,99 @@
+package com.example.latte_api.security.refresh;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.latte_api.security.JwtProvider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+  public static final String FAMILY_CLAIM = "fid";
+  static final String TYPE_CLAIM = "typ";
+  static final String REFRESH_TYPE = "refresh";
+  static final String INSERT_TOKEN = "insert into refresh_token (token_hash, family_id, subject, expires_at) values (?, ?, ?, ?)";
+  static final String MARK_USED = "update refresh_token set used_at = ? where token_hash = ? and used_at is null";
+  static final String DELETE_FAMILY = "delete from refresh_token where family_id = ?";
+  static final String DELETE_EXPIRED = "delete from refresh_token where token_hash in "
+    + "(select token_hash from refresh_token where expires_at <= ? limit ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JwtProvider jwtProvider;
+
+  @Value("${latte.refresh-token.expiration}")
+  private Integer expiration;
+
+  @Value("${latte.refresh-token.purge-batch-size}")
+  private Integer purgeBatchSize;
+
+  public String newFamily() {
+    return UUID.randomUUID().toString();
+  }
+
+  public String issue(String subject, String familyId) {
+    String token = jwtProvider.generateToken(subject, Map.of(FAMILY_CLAIM, familyId, TYPE_CLAIM, REFRESH_TYPE), expiration);
+    Instant expiresAt = Instant.now().plusSeconds(expiration);
+    jdbcTemplate.update(INSERT_TOKEN, hash(token), familyId, subject, Timestamp.from(expiresAt));
+    return token;
+  }
+
+  public String rotate(String token, Claims claims) {
+    String familyId = claims.get(FAMILY_CLAIM, String.class);
+    if (!isRefreshToken(claims) || familyId == null) {
+      throw new JwtException("Token is not a refresh token");
+    }
+
+    if (jdbcTemplate.update(MARK_USED, Timestamp.from(Instant.now()), hash(token)) == 0) {
+      int revoked = revokeFamily(familyId);
+      log.warn("Refresh token reuse for {}, revoked family {} with {} tokens", claims.getSubject(), familyId, revoked);
+      throw new JwtException("Refresh token has already been used");
+    }
+    return issue(claims.getSubject(), familyId);
+  }
+
+  public int revokeFamily(String familyId) {
+    return jdbcTemplate.update(DELETE_FAMILY, familyId);
+  }
+
+  @Scheduled(fixedDelayString = "${latte.refresh-token.purge-interval}", initialDelayString = "${latte.refresh-token.purge-interval}")
+  public void purgeExpired() {
+    Timestamp now = Timestamp.from(Instant.now());
+    int total = 0;
+    int deleted;
+    do {
+      deleted = jdbcTemplate.update(DELETE_EXPIRED, now, purgeBatchSize);
+      total += deleted;
+    } while (deleted == purgeBatchSize);
+    log.info("Purged {} expired refresh tokens", total);
+  }
+
+  public static boolean isRefreshToken(Claims claims) {
+    return REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class));
+  }
+
+  static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
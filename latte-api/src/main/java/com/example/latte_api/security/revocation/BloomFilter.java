@@ -0,0 +1,64 @@
+package com.example.latte_api.security.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class BloomFilter {
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final AtomicLongArray bits;
+  private final long size;
+  private final int hashes;
+
+  private BloomFilter(long size, int hashes) {
+    this.bits = new AtomicLongArray((int) ((size + 63) / 64));
+    this.size = size;
+    this.hashes = hashes;
+  }
+
+  static BloomFilter create(int expectedEntries, double falsePositiveRate) {
+    int entries = Math.max(1, expectedEntries);
+    long size = Math.max(64, (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+    int hashes = Math.max(1, (int) Math.round((double) size / entries * Math.log(2)));
+    return new BloomFilter(size, hashes);
+  }
+
+  void put(String key) {
+    long hash = hash(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashes; i++) {
+      long index = Math.floorMod(h1 + (long) i * h2, size);
+      long mask = 1L << index;
+      int word = (int) (index >>> 6);
+      long current;
+      do {
+        current = bits.get(word);
+      } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  boolean mightContain(String key) {
+    long hash = hash(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashes; i++) {
+      long index = Math.floorMod(h1 + (long) i * h2, size);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long hash(String key) {
+    long hash = FNV_OFFSET;
+    for (int i = 0; i < key.length(); i++) {
+      hash ^= key.charAt(i);
+      hash *= FNV_PRIME;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    return hash ^ (hash >>> 33);
+  }
+}
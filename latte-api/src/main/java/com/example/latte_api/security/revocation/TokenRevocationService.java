@@ -0,0 +1,171 @@
+package com.example.latte_api.security.revocation;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.latte_api.security.JwtProvider;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+  static final Duration SYNC_OVERLAP = Duration.ofSeconds(60);
+  static final String UPSERT_REVOCATION = "insert into revoked_token (token_key, revoked_at, expires_at) values (?, ?, ?) "
+    + "on conflict (token_key) do update set "
+    + "revoked_at = greatest(revoked_token.revoked_at, excluded.revoked_at), "
+    + "expires_at = greatest(revoked_token.expires_at, excluded.expires_at)";
+  static final String SELECT_REVOCATIONS = "select token_key, revoked_at, expires_at from revoked_token "
+    + "where expires_at > ? and revoked_at > ?";
+  static final String SELECT_ACTIVE_REVOCATIONS = "select token_key, revoked_at, expires_at from revoked_token where expires_at > ?";
+  static final String DELETE_EXPIRED = "delete from revoked_token where expires_at <= ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${latte.revocation.expected-entries}")
+  private Integer expectedEntries;
+
+  @Value("${latte.revocation.false-positive-rate}")
+  private Double falsePositiveRate;
+
+  @Value("${security.jwt.expiration}")
+  private Integer accessTokenExpiration;
+
+  @Value("${latte.refresh-token.expiration}")
+  private Integer refreshTokenExpiration;
+
+  private volatile Map<String, Revocation> revocations = new ConcurrentHashMap<>();
+  private volatile BloomFilter bloomFilter;
+  private volatile Instant lastSync = Instant.EPOCH;
+
+  @PostConstruct
+  void init() {
+    reload(Instant.now());
+  }
+
+  public void revokeToken(String jti, Instant expiresAt) {
+    revoke(jtiKey(jti), Instant.now(), expiresAt);
+  }
+
+  public void revokeSubject(String subject) {
+    Instant now = Instant.now();
+    revoke(subjectKey(subject), now, now.plusSeconds(Math.max(accessTokenExpiration, refreshTokenExpiration)));
+  }
+
+  public boolean isRevoked(Claims claims) {
+    if (claims.getId() != null && isRevoked(jtiKey(claims.getId()), null)) {
+      return true;
+    }
+    return isRevoked(subjectKey(claims.getSubject()), issuedAt(claims));
+  }
+
+  @Scheduled(fixedDelayString = "${latte.revocation.sync-interval}", initialDelayString = "${latte.revocation.sync-interval}")
+  public void sync() {
+    Instant now = Instant.now();
+    jdbcTemplate.query(SELECT_REVOCATIONS, rs -> {
+      apply(rs.getString("token_key"), revocation(rs));
+    }, Timestamp.from(now), Timestamp.from(lastSync.minus(SYNC_OVERLAP)));
+    lastSync = now;
+  }
+
+  @Scheduled(fixedDelayString = "${latte.revocation.purge-interval}", initialDelayString = "${latte.revocation.purge-interval}")
+  public void purgeExpired() {
+    Instant now = Instant.now();
+    int deleted = jdbcTemplate.update(DELETE_EXPIRED, Timestamp.from(now));
+    reload(now);
+    log.info("Purged {} expired token revocations, {} active", deleted, revocations.size());
+  }
+
+  private void revoke(String key, Instant revokedAt, Instant expiresAt) {
+    jdbcTemplate.update(UPSERT_REVOCATION, key, Timestamp.from(revokedAt), Timestamp.from(expiresAt));
+
+    Revocation revocation = new Revocation(revokedAt, expiresAt);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          apply(key, revocation);
+        }
+      });
+    } else {
+      apply(key, revocation);
+    }
+  }
+
+  private synchronized void reload(Instant now) {
+    Map<String, Revocation> active = new ConcurrentHashMap<>();
+    jdbcTemplate.query(SELECT_ACTIVE_REVOCATIONS, rs -> {
+      active.merge(rs.getString("token_key"), revocation(rs), Revocation::latest);
+    }, Timestamp.from(now));
+
+    BloomFilter rebuilt = BloomFilter.create(Math.max(expectedEntries, active.size() * 2), falsePositiveRate);
+    active.keySet().forEach(rebuilt::put);
+    bloomFilter = rebuilt;
+    revocations = active;
+    lastSync = now;
+  }
+
+  private synchronized void apply(String key, Revocation revocation) {
+    revocations.merge(key, revocation, Revocation::latest);
+    bloomFilter.put(key);
+  }
+
+  private boolean isRevoked(String key, Instant issuedAt) {
+    if (!bloomFilter.mightContain(key)) {
+      return false;
+    }
+    Revocation revocation = revocations.get(key);
+    if (revocation == null) {
+      return false;
+    }
+    return issuedAt == null || !issuedAt.isAfter(revocation.revokedAt().truncatedTo(ChronoUnit.MILLIS));
+  }
+
+  private Instant issuedAt(Claims claims) {
+    Long issuedAtMillis = claims.get(JwtProvider.ISSUED_AT_MILLIS_CLAIM, Long.class);
+    if (issuedAtMillis != null) {
+      return Instant.ofEpochMilli(issuedAtMillis);
+    }
+    Date issuedAt = claims.getIssuedAt();
+    return issuedAt == null? null : issuedAt.toInstant();
+  }
+
+  private Revocation revocation(ResultSet rs) throws SQLException {
+    return new Revocation(rs.getTimestamp("revoked_at").toInstant(), rs.getTimestamp("expires_at").toInstant());
+  }
+
+  static String jtiKey(String jti) {
+    return "jti:" + jti;
+  }
+
+  static String subjectKey(String subject) {
+    return "sub:" + subject;
+  }
+
+  record Revocation(Instant revokedAt, Instant expiresAt) {
+    Revocation latest(Revocation other) {
+      return new Revocation(
+        revokedAt.isAfter(other.revokedAt)? revokedAt : other.revokedAt,
+        expiresAt.isAfter(other.expiresAt)? expiresAt : other.expiresAt
+      );
+    }
+  }
+}
@@ -0,0 +1,5 @@
+package com.example.latte_api.shared;
+
+import java.time.Instant;
+
+public record ChangeStamp(Long count, Instant lastChangedAt) {}
@@ -0,0 +1,25 @@
+package com.example.latte_api.shared;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+public record Cursor(Instant timestamp, Long id) {
+  public String encode() {
+    String raw = String.format("%d:%d:%d", timestamp.getEpochSecond(), timestamp.getNano(), id);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static Cursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split(":");
+      return new Cursor(
+        Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])),
+        Long.parseLong(parts[2])
+      );
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.example.latte_api.shared;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class CursorPagedEntity<T> {
+  private List<T> content;
+  private Boolean next;
+  private String nextCursor;
+
+  public static Pageable pageable(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Page size must be greater than zero");
+    }
+    return PageRequest.ofSize(size + 1);
+  }
+
+  public static <E, T> CursorPagedEntity<T> of(List<E> rows, int size, Function<E, String> cursor, Function<E, T> mapper) {
+    boolean hasNext = rows.size() > size;
+    List<E> page = hasNext? rows.subList(0, size) : rows;
+
+    CursorPagedEntity<T> response = new CursorPagedEntity<>();
+    response.setNext(hasNext);
+    response.setNextCursor(hasNext? cursor.apply(page.get(page.size() - 1)) : null);
+    response.setContent(page.stream().map(mapper).toList());
+    return response;
+  }
+}
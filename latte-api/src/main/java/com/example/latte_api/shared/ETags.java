@@ -0,0 +1,49 @@
+package com.example.latte_api.shared;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.springframework.util.DigestUtils;
+
+public final class ETags {
+  private ETags() {}
+
+  public static String of(Object... parts) {
+    return String.format("\"%s\"", digest(parts));
+  }
+
+  public static String version(Long version) {
+    return String.format("\"%d\"", version);
+  }
+
+  public static String version(Long version, Object... parts) {
+    return String.format("\"%d-%s\"", version, digest(parts));
+  }
+
+  public static Long parseVersion(String eTag) {
+    if (eTag == null || eTag.isBlank() || eTag.trim().equals("*")) {
+      return null;
+    }
+
+    String value = eTag.trim();
+    if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+      throw new IllegalArgumentException("Invalid entity tag");
+    }
+
+    String tag = value.substring(1, value.length() - 1);
+    int separator = tag.indexOf('-');
+    try {
+      return Long.parseLong(separator < 0? tag : tag.substring(0, separator));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid entity tag");
+    }
+  }
+
+  private static String digest(Object... parts) {
+    String source = Arrays.stream(parts)
+      .map(String::valueOf)
+      .collect(Collectors.joining(":"));
+    return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -1,6 +1,12 @@
 package com.example.latte_api.shared;
 
 import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -15,5 +21,18 @@ public class PagedEntity<T> {
   private List<T> content;
   private Boolean previous;
   private Boolean next;
-  private long totalElement;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Long totalElement;
+
+  public static <E, T> PagedEntity<T> of(Slice<E> slice, Function<E, T> mapper) {
+    PagedEntity<T> response = new PagedEntity<>();
+    response.setNext(slice.hasNext());
+    response.setPrevious(slice.hasPrevious());
+    if (slice instanceof Page<E> page) {
+      response.setTotalElement(page.getTotalElements());
+    }
+    response.setContent(slice.getContent().stream().map(mapper).toList());
+    return response;
+  }
 }
@@ -0,0 +1,21 @@
+package com.example.latte_api.shared;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record RankCursor(Float rank, Long id) {
+  public String encode() {
+    String raw = String.format("%d:%d", Float.floatToIntBits(rank), id);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static RankCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split(":");
+      return new RankCursor(Float.intBitsToFloat(Integer.parseInt(parts[0])), Long.parseLong(parts[1]));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+}
@@ -22,6 +22,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -36,9 +37,11 @@ import lombok.experimental.SuperBuilder;
 @Entity
 @Table(name = "ticket")
 public class Ticket extends AbstractAuditingEntity {
+  public static final int ID_ALLOCATION_SIZE = 50;
+
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_seq_generator")
-  @SequenceGenerator(name = "ticket_seq_generator", sequenceName = "ticket_seq", initialValue = 101, allocationSize = 1)
+  @SequenceGenerator(name = "ticket_seq_generator", sequenceName = "ticket_seq", initialValue = 101, allocationSize = ID_ALLOCATION_SIZE)
   @Column(name = "id")
   private Long id;
 
@@ -59,6 +62,10 @@ public class Ticket extends AbstractAuditingEntity {
   @Column(name = "lock")
   private Boolean lock;
 
+  @Version
+  @Column(name = "version")
+  private Long version;
+
   @ManyToOne
   @JoinColumn(name = "created_by")
   private User createdBy;
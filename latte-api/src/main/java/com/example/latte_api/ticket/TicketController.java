@@ -1,8 +1,17 @@
 package com.example.latte_api.ticket;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,16 +20,31 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.latte_api.shared.CursorPagedEntity;
+import com.example.latte_api.shared.ETags;
 import com.example.latte_api.shared.PagedEntity;
+import com.example.latte_api.ticket.dto.TicketBoardColumn;
+import com.example.latte_api.ticket.dto.TicketBulkRequest;
+import com.example.latte_api.ticket.dto.TicketBulkResult;
+import com.example.latte_api.ticket.dto.TicketChanges;
+import com.example.latte_api.ticket.dto.TicketFilter;
+import com.example.latte_api.ticket.dto.TicketImportResult;
 import com.example.latte_api.ticket.dto.TicketPatchRequest;
 import com.example.latte_api.ticket.dto.TicketRequest;
 import com.example.latte_api.ticket.dto.TicketResponse;
+import com.example.latte_api.ticket.dto.TicketStateResponse;
+import com.example.latte_api.ticket.enums.ExportFormat;
 import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.ticket.snapshot.TicketSnapshotService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -28,6 +52,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TicketController {
   private final TicketService ticketService;
+  private final TicketExportService ticketExportService;
+  private final TicketImportService ticketImportService;
+  private final TicketSnapshotService ticketSnapshotService;
 
   @PostMapping()
   public ResponseEntity<TicketResponse> createTicket(@RequestBody TicketRequest ticketRequest, Authentication authentication) {
@@ -35,13 +62,86 @@ public class TicketController {
   }
 
   @GetMapping()
-  public ResponseEntity<PagedEntity<TicketResponse>> getTickets(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
-    return ResponseEntity.status(HttpStatus.OK).body(ticketService.getTickets(page, size));
+  public ResponseEntity<PagedEntity<TicketResponse>> getTickets(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "true") boolean count, WebRequest request) {
+    String eTag = ticketService.getTicketsETag(page, size, count);
+    if (request.checkNotModified(eTag)) {
+      return null;
+    }
+    return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(ticketService.getTickets(page, size, count));
   }
 
   @GetMapping("/status/{status}")
-  public ResponseEntity<PagedEntity<TicketResponse>> getTicketByStatus(@PathVariable Status status, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
-    return ResponseEntity.status(HttpStatus.OK).body(ticketService.getTicketByStatus(status, page, size));
+  public ResponseEntity<PagedEntity<TicketResponse>> getTicketByStatus(@PathVariable Status status, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "true") boolean count) {
+    return ResponseEntity.status(HttpStatus.OK).body(ticketService.getTicketByStatus(status, page, size, count));
+  }
+
+  @GetMapping("/board")
+  public ResponseEntity<List<TicketBoardColumn>> getBoard(@RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.status(HttpStatus.OK).body(ticketService.getBoard(size));
+  }
+
+  @PatchMapping("/bulk")
+  public ResponseEntity<TicketBulkResult> bulkEditTickets(@RequestBody TicketBulkRequest request, Authentication authentication) {
+    return ResponseEntity.status(HttpStatus.OK).body(ticketService.bulkEditTickets(request, authentication));
+  }
+
+  @PostMapping("/batch")
+  public ResponseEntity<List<TicketResponse>> getTicketsByIds(@RequestBody List<Long> ids) {
+    return ResponseEntity.status(HttpStatus.OK).body(ticketService.getTicketsByIds(ids));
+  }
+
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportTickets(@RequestParam(defaultValue = "CSV") ExportFormat format, @RequestParam(defaultValue = "false") boolean gzip) {
+    String filename = format == ExportFormat.CSV? "tickets.csv" : "tickets.ndjson";
+    MediaType mediaType = format == ExportFormat.CSV? MediaType.parseMediaType("text/csv") : MediaType.APPLICATION_NDJSON;
+
+    StreamingResponseBody body = outputStream -> {
+      if (gzip) {
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+          ticketExportService.exportTickets(format, gzipOutputStream);
+        }
+      } else {
+        ticketExportService.exportTickets(format, outputStream);
+      }
+    };
+
+    ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK)
+      .contentType(mediaType)
+      .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+    if (gzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    return response.body(body);
+  }
+
+  @PostMapping("/import")
+  public ResponseEntity<TicketImportResult> importTickets(@RequestParam(defaultValue = "CSV") ExportFormat format, @RequestParam(defaultValue = "0") long skip, HttpServletRequest request, Authentication authentication) throws IOException {
+    return ResponseEntity.status(HttpStatus.CREATED).body(ticketImportService.importTickets(format, request.getInputStream(), skip, authentication));
+  }
+
+  @GetMapping("/changes")
+  public ResponseEntity<TicketChanges> getTicketChanges(@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant since, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "100") int size) {
+    return ResponseEntity.status(HttpStatus.OK).body(ticketService.getTicketChanges(since, cursor, size));
+  }
+
+  @GetMapping("/filter")
+  public ResponseEntity<PagedEntity<TicketResponse>> filterTickets(TicketFilter filter, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "true") boolean count) {
+    return ResponseEntity.status(HttpStatus.OK).body(ticketService.filterTickets(filter, page, size, count));
+  }
+
+  @GetMapping("/scroll")
+  public ResponseEntity<CursorPagedEntity<TicketResponse>> scrollTickets(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.status(HttpStatus.OK).body(ticketService.scrollTickets(cursor, size));
+  }
+
+  @GetMapping("/status/{status}/scroll")
+  public ResponseEntity<CursorPagedEntity<TicketResponse>> scrollTicketByStatus(@PathVariable Status status, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.status(HttpStatus.OK).body(ticketService.scrollTicketByStatus(status, cursor, size));
+  }
+
+  @GetMapping("/search")
+  public ResponseEntity<CursorPagedEntity<TicketResponse>> searchTickets(@RequestParam String q, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.status(HttpStatus.OK).body(ticketService.searchTickets(q, cursor, size));
   }
 
   @GetMapping("/info")
@@ -50,13 +150,23 @@ public class TicketController {
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<TicketResponse> getTicket(@PathVariable Long id) {
-    return ResponseEntity.status(HttpStatus.OK).body(ticketService.getTicket(id));
+  public ResponseEntity<TicketResponse> getTicket(@PathVariable Long id, WebRequest request) {
+    String eTag = ticketService.getTicketETag(id);
+    if (request.checkNotModified(eTag)) {
+      return null;
+    }
+    return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(ticketService.getTicket(id));
+  }
+
+  @GetMapping("/{id}/as-of")
+  public ResponseEntity<TicketStateResponse> getTicketAsOf(@PathVariable Long id, @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) Instant ts) {
+    return ResponseEntity.status(HttpStatus.OK).body(ticketSnapshotService.getTicketAsOf(id, ts));
   }
 
   @PatchMapping("/{id}")
-  public ResponseEntity<TicketResponse> editTicket(@PathVariable Long id, @RequestBody TicketPatchRequest request, Authentication authentication) {
-    return ResponseEntity.status(HttpStatus.OK).body(ticketService.editTicket(id, request, authentication));
+  public ResponseEntity<TicketResponse> editTicket(@PathVariable Long id, @RequestBody TicketPatchRequest request, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, Authentication authentication) {
+    TicketResponse response = ticketService.editTicket(id, request, ETags.parseVersion(ifMatch), authentication);
+    return ResponseEntity.status(HttpStatus.OK).eTag(ETags.version(response.version())).body(response);
   }
 
   @PatchMapping("/lock/{id}")
@@ -0,0 +1,92 @@
+package com.example.latte_api.ticket;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+
+import com.example.latte_api.ticket.dto.TicketView;
+import com.example.latte_api.ticket.enums.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TicketExportService {
+  private static final String CSV_HEADER = "id,title,description,priority,status,lock,"
+    + "created_by,created_by_email,assigned_to,assigned_to_email,"
+    + "client,client_email,created_at,last_updated";
+
+  private final TicketRepository ticketRepository;
+  private final ObjectMapper objectMapper;
+
+  @Transactional
+  public long exportTickets(ExportFormat format, OutputStream outputStream) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    long rows = 0;
+
+    if (format == ExportFormat.CSV) {
+      writer.write(CSV_HEADER);
+      writer.write('\n');
+    }
+
+    try (Stream<TicketView> tickets = ticketRepository.streamViews()) {
+      rows = tickets.mapToLong(ticket -> {
+        try {
+          writer.write(format == ExportFormat.CSV? toCsv(ticket) : objectMapper.writeValueAsString(ticket));
+          writer.write('\n');
+          return 1;
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }).sum();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    writer.flush();
+    log.info("Exported {} tickets as {}", rows, format);
+    return rows;
+  }
+
+  private String toCsv(TicketView ticket) {
+    return String.join(",",
+      csv(ticket.id()),
+      csv(ticket.title()),
+      csv(ticket.description()),
+      csv(ticket.priority()),
+      csv(ticket.status()),
+      csv(ticket.lock()),
+      csv(ticket.createdByFirstname()),
+      csv(ticket.createdByEmail()),
+      csv(ticket.assignedToFirstname()),
+      csv(ticket.assignedToEmail()),
+      csv(ticket.clientName()),
+      csv(ticket.clientEmail()),
+      csv(ticket.createdAt()),
+      csv(ticket.lastUpdated())
+    );
+  }
+
+  private String csv(Object value) {
+    if (value == null) {
+      return "";
+    }
+
+    String text = value.toString();
+    if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+      return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+    return text;
+  }
+}
@@ -0,0 +1,347 @@
+package com.example.latte_api.ticket;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.latte_api.exception.OperationNotPermittedException;
+import com.example.latte_api.report.ReportService;
+import com.example.latte_api.report.TicketTransition;
+import com.example.latte_api.role.authority.IAuthority;
+import com.example.latte_api.ticket.dto.TicketImportResult;
+import com.example.latte_api.ticket.dto.TicketView;
+import com.example.latte_api.ticket.enums.ExportFormat;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.user.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TicketImportService {
+  static final String USER_LOOKUP = "select email, id from _user";
+  static final String CLIENT_LOOKUP = "select email, id from client";
+  static final String NEXT_TICKET_ID = "select nextval('ticket_seq')";
+  static final String INSERT_TICKET = "insert into ticket "
+    + "(id, title, description, priority, status, lock, created_by, assigned_to, client_id, created_at, last_modified_at) "
+    + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final ReportService reportService;
+  private final PlatformTransactionManager transactionManager;
+
+  @Value("${latte.ticket.import-batch-size}")
+  private Integer importBatchSize;
+
+  public TicketImportResult importTickets(ExportFormat format, InputStream inputStream, Authentication authentication) throws IOException {
+    return importTickets(format, inputStream, 0, authentication);
+  }
+
+  public TicketImportResult importTickets(ExportFormat format, InputStream inputStream, long skip, Authentication authentication) throws IOException {
+    User user = (User) authentication.getPrincipal();
+    if (!user.hasAuthority(IAuthority.CREATE_TICKET) || !user.hasAuthority(IAuthority.ASSIGN_TICKET)) {
+      throw new OperationNotPermittedException();
+    }
+
+    Map<String, Long> users = jdbcTemplate.query(USER_LOOKUP, lookup());
+    Map<String, Long> clients = jdbcTemplate.query(CLIENT_LOOKUP, lookup());
+
+    BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    List<Object[]> batch = new ArrayList<>(importBatchSize);
+    List<TicketTransition> transitions = new ArrayList<>();
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    Timestamp importedAt = Timestamp.from(Instant.now());
+    long start = System.currentTimeMillis();
+    long imported = 0;
+    long records = 0;
+    long line = 0;
+    long nextId = 0;
+    long lastId = -1;
+
+    Map<String, Integer> header = null;
+    if (format == ExportFormat.CSV) {
+      List<String> columns = readCsvRecord(reader);
+      if (columns == null) {
+        throw new IllegalArgumentException("Import file is empty");
+      }
+      header = new HashMap<>();
+      for (int i = 0; i < columns.size(); i++) {
+        header.put(columns.get(i).trim(), i);
+      }
+      line++;
+    }
+
+    try {
+      while (true) {
+        TicketView row;
+        if (format == ExportFormat.CSV) {
+          List<String> record = readCsvRecord(reader);
+          if (record == null) {
+            break;
+          }
+          line++;
+          if (record.size() == 1 && record.get(0).isBlank() || ++records <= skip) {
+            continue;
+          }
+          row = fromCsv(header, record, line);
+        } else {
+          String json = reader.readLine();
+          if (json == null) {
+            break;
+          }
+          line++;
+          if (json.isBlank() || ++records <= skip) {
+            continue;
+          }
+          row = fromJson(json, line);
+        }
+
+        Object[] parameters = toParameters(row, users, clients, importedAt, line);
+        if (nextId > lastId) {
+          nextId = jdbcTemplate.queryForObject(NEXT_TICKET_ID, Long.class);
+          lastId = nextId + Ticket.ID_ALLOCATION_SIZE - 1;
+        }
+        parameters[0] = nextId++;
+        batch.add(parameters);
+        transitions.addAll(transitionsOf(row, parameters, user, importedAt));
+        if (batch.size() == importBatchSize) {
+          imported += flush(transactionTemplate, batch, transitions);
+          log.info("Imported {} tickets ({} rows/s)", imported, rate(imported, start));
+        }
+      }
+
+      if (!batch.isEmpty()) {
+        imported += flush(transactionTemplate, batch, transitions);
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(String.format(
+        "%s. %d tickets were imported before the failure; resume with skip=%d", e.getMessage(), imported, skip + imported
+      ), e);
+    } catch (DataAccessException e) {
+      log.error("Import failed near line {} after {} committed tickets; resume with skip={}", line, imported, skip + imported);
+      throw e;
+    }
+
+    long duration = System.currentTimeMillis() - start;
+    log.info("Finished importing {} tickets in {} ms ({} rows/s)", imported, duration, rate(imported, start));
+    return new TicketImportResult(imported, duration, rate(imported, start));
+  }
+
+  private int flush(TransactionTemplate transactionTemplate, List<Object[]> batch, List<TicketTransition> transitions) {
+    int[] types = {
+      Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BOOLEAN,
+      Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+    transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.batchUpdate(INSERT_TICKET, batch, types);
+      reportService.recordTransitions(new ArrayList<>(transitions));
+    });
+    int size = batch.size();
+    batch.clear();
+    transitions.clear();
+    return size;
+  }
+
+  private List<TicketTransition> transitionsOf(TicketView row, Object[] parameters, User user, Timestamp importedAt) {
+    Instant createdAt = ((Timestamp) parameters[9]).toInstant();
+    TicketTransition created = TicketTransition.builder()
+      .ticketId((Long) parameters[0])
+      .toStatus(row.status() == Status.CLOSE? Status.OPEN : row.status())
+      .priority(row.priority())
+      .assignedTo((Long) parameters[7])
+      .clientId((Long) parameters[8])
+      .actorId(user.getId())
+      .openedAt(createdAt)
+      .transitionedAt(createdAt)
+      .build();
+
+    if (row.status() != Status.CLOSE) {
+      return List.of(created);
+    }
+
+    Instant closedAt = row.lastUpdated() != null && !row.lastUpdated().isBefore(createdAt)? row.lastUpdated() : importedAt.toInstant();
+    TicketTransition closed = TicketTransition.builder()
+      .ticketId(created.getTicketId())
+      .fromStatus(Status.OPEN)
+      .toStatus(Status.CLOSE)
+      .priority(created.getPriority())
+      .assignedTo(created.getAssignedTo())
+      .clientId(created.getClientId())
+      .actorId(created.getActorId())
+      .openedAt(createdAt)
+      .transitionedAt(closedAt)
+      .build();
+    return List.of(created, closed);
+  }
+
+  private Object[] toParameters(TicketView row, Map<String, Long> users, Map<String, Long> clients, Timestamp importedAt, long line) {
+    if (row.title() == null || row.description() == null || row.priority() == null || row.status() == null) {
+      throw new IllegalArgumentException(String.format("Missing required ticket field on line %d", line));
+    }
+
+    Long createdBy = users.get(row.createdByEmail());
+    if (createdBy == null) {
+      throw new IllegalArgumentException(String.format("Unknown creator `%s` on line %d", row.createdByEmail(), line));
+    }
+
+    Long assignedTo = null;
+    if (row.assignedToEmail() != null) {
+      assignedTo = users.get(row.assignedToEmail());
+      if (assignedTo == null) {
+        throw new IllegalArgumentException(String.format("Unknown assignee `%s` on line %d", row.assignedToEmail(), line));
+      }
+    }
+
+    Long client = null;
+    if (row.clientEmail() != null) {
+      client = clients.get(row.clientEmail());
+      if (client == null) {
+        throw new IllegalArgumentException(String.format("Unknown client `%s` on line %d", row.clientEmail(), line));
+      }
+    }
+
+    return new Object[] {
+      null,
+      row.title(),
+      row.description(),
+      row.priority().name(),
+      row.status().name(),
+      row.lock() != null && row.lock(),
+      createdBy,
+      assignedTo,
+      client,
+      row.createdAt() != null? Timestamp.from(row.createdAt()) : importedAt,
+      importedAt
+    };
+  }
+
+  private TicketView fromCsv(Map<String, Integer> header, List<String> record, long line) {
+    try {
+      String priority = value(header, record, "priority");
+      String status = value(header, record, "status");
+      String lock = value(header, record, "lock");
+      String createdAt = value(header, record, "created_at");
+      String lastUpdated = value(header, record, "last_updated");
+
+      return new TicketView(
+        null,
+        value(header, record, "title"),
+        value(header, record, "description"),
+        priority == null? null : Priority.valueOf(priority),
+        status == null? null : Status.valueOf(status),
+        lock == null? false : Boolean.parseBoolean(lock),
+        null,
+        value(header, record, "created_by_email"),
+        null,
+        value(header, record, "assigned_to_email"),
+        createdAt == null? null : Instant.parse(createdAt),
+        lastUpdated == null? null : Instant.parse(lastUpdated),
+        null,
+        value(header, record, "client_email"),
+        null
+      );
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException(String.format("Invalid ticket on line %d", line), e);
+    }
+  }
+
+  private TicketView fromJson(String json, long line) {
+    try {
+      return objectMapper.readValue(json, TicketView.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(String.format("Invalid ticket on line %d", line), e);
+    }
+  }
+
+  private String value(Map<String, Integer> header, List<String> record, String column) {
+    Integer index = header.get(column);
+    if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+      return null;
+    }
+    return record.get(index);
+  }
+
+  private List<String> readCsvRecord(BufferedReader reader) throws IOException {
+    int c = reader.read();
+    if (c == -1) {
+      return null;
+    }
+
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+
+    while (c != -1) {
+      if (quoted) {
+        if (c == '"') {
+          reader.mark(1);
+          int next = reader.read();
+          if (next == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            if (next == -1) {
+              break;
+            }
+            reader.reset();
+          }
+        } else {
+          field.append((char) c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n') {
+        break;
+      } else if (c != '\r') {
+        field.append((char) c);
+      }
+      c = reader.read();
+    }
+
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private ResultSetExtractor<Map<String, Long>> lookup() {
+    return (ResultSet rs) -> {
+      Map<String, Long> result = new HashMap<>();
+      while (rs.next()) {
+        result.put(rs.getString(1), rs.getLong(2));
+      }
+      return result;
+    };
+  }
+
+  private long rate(long rows, long start) {
+    long elapsed = Math.max(System.currentTimeMillis() - start, 1);
+    return rows * 1000 / elapsed;
+  }
+}
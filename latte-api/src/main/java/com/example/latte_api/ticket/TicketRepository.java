@@ -1,18 +1,117 @@
 package com.example.latte_api.ticket;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.example.latte_api.user.User;
+
+import jakarta.persistence.QueryHint;
+import com.example.latte_api.ticket.dto.TicketCount;
+import com.example.latte_api.ticket.dto.TicketSearchHit;
+import com.example.latte_api.ticket.dto.TicketView;
 import com.example.latte_api.ticket.enums.Status;
 
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket>, TicketViewRepository {
+  String SELECT_VIEW = "select new com.example.latte_api.ticket.dto.TicketView("
+    + "t.id, t.title, t.description, t.priority, t.status, t.lock, "
+    + "cb.firstname, cb.email, asg.firstname, asg.email, "
+    + "t.createdAt, t.lastUpdated, c.name, c.email, t.version) "
+    + "from Ticket t join t.createdBy cb left join t.assignedTo asg left join t.client c ";
+
   Page<Ticket> findByCreatedBy(Pageable pageable, User createdBy);
   Page<Ticket> findByStatus(Status status, Pageable pageable);
   
   List<Ticket> findByCreatedBy(User createdBy);
   List<Ticket> findByAssignedTo(User assignedTo);
+
+  @EntityGraph(attributePaths = {"createdBy", "assignedTo", "client"})
+  List<Ticket> findByIdIn(Collection<Long> ids);
+
+  @Override
+  @EntityGraph(attributePaths = {"createdBy", "assignedTo", "client"})
+  List<Ticket> findAll(Specification<Ticket> specification);
+
+  @Query("select new com.example.latte_api.ticket.dto.TicketCount(t.status, t.priority, count(t)) from Ticket t group by t.status, t.priority")
+  List<TicketCount> countByStatusAndPriority();
+
+  @Query(SELECT_VIEW + "where t.id = :id")
+  Optional<TicketView> findViewById(@Param("id") Long id);
+
+  @Query(SELECT_VIEW + "where t.id in :ids")
+  List<TicketView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query(value = SELECT_VIEW, countQuery = "select count(t) from Ticket t")
+  Page<TicketView> findViews(Pageable pageable);
+
+  @Query(SELECT_VIEW)
+  Slice<TicketView> findViewSlice(Pageable pageable);
+
+  @Query(value = SELECT_VIEW + "where t.status = :status", countQuery = "select count(t) from Ticket t where t.status = :status")
+  Page<TicketView> findViewsByStatus(@Param("status") Status status, Pageable pageable);
+
+  @Query(SELECT_VIEW + "where t.status = :status")
+  Slice<TicketView> findViewSliceByStatus(@Param("status") Status status, Pageable pageable);
+
+  @Query(SELECT_VIEW + "order by t.createdAt desc, t.id desc")
+  List<TicketView> findFirstKeyset(Pageable pageable);
+
+  @Query(SELECT_VIEW + "where t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id) order by t.createdAt desc, t.id desc")
+  List<TicketView> findNextKeyset(@Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
+
+  @Query(SELECT_VIEW + "where t.status = :status order by t.createdAt desc, t.id desc")
+  List<TicketView> findFirstKeysetByStatus(@Param("status") Status status, Pageable pageable);
+
+  @Query(SELECT_VIEW + "where t.status = :status and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id)) order by t.createdAt desc, t.id desc")
+  List<TicketView> findNextKeysetByStatus(@Param("status") Status status, @Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(SELECT_VIEW + "order by t.id")
+  Stream<TicketView> streamViews();
+
+  @Query("select t.version from Ticket t where t.id = :id")
+  Optional<Long> findVersionById(@Param("id") Long id);
+
+  @Query("select max(coalesce(t.lastUpdated, t.createdAt)) from Ticket t")
+  Instant findLastChangedAt();
+
+  @Query(SELECT_VIEW + "where (coalesce(t.lastUpdated, t.createdAt) > :changedAt or (coalesce(t.lastUpdated, t.createdAt) = :changedAt and t.id > :id)) "
+    + "and coalesce(t.lastUpdated, t.createdAt) <= :until order by coalesce(t.lastUpdated, t.createdAt) asc, t.id asc")
+  List<TicketView> findViewsChangedSince(@Param("changedAt") Instant changedAt, @Param("id") Long id, @Param("until") Instant until, Pageable pageable);
+
+  @Query(
+    value = "select t.id as id, ts_rank(t.search_vector, q) as rank "
+      + "from ticket t, websearch_to_tsquery('english', :query) q "
+      + "where t.search_vector @@ q "
+      + "order by rank desc, t.id desc",
+    nativeQuery = true
+  )
+  List<TicketSearchHit> searchFirst(@Param("query") String query, Pageable pageable);
+
+  @Query(
+    value = "select t.id as id, ts_rank(t.search_vector, q) as rank "
+      + "from ticket t, websearch_to_tsquery('english', :query) q "
+      + "where t.search_vector @@ q "
+      + "and (ts_rank(t.search_vector, q) < :rank or (ts_rank(t.search_vector, q) = :rank and t.id < :id)) "
+      + "order by rank desc, t.id desc",
+    nativeQuery = true
+  )
+  List<TicketSearchHit> searchNext(@Param("query") String query, @Param("rank") Float rank, @Param("id") Long id, Pageable pageable);
 }
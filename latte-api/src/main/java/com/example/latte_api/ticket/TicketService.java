@@ -1,14 +1,28 @@
 package com.example.latte_api.ticket;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
@@ -17,15 +31,39 @@ import com.example.latte_api.activity.ActivityService;
 import com.example.latte_api.activity.utils.ActivityGenerator;
 import com.example.latte_api.client.Client;
 import com.example.latte_api.client.ClientRepository;
+import com.example.latte_api.config.CacheConfig;
 import com.example.latte_api.exception.OperationNotPermittedException;
+import com.example.latte_api.exception.PreconditionFailedException;
 import com.example.latte_api.notification.NotificationService;
+import com.example.latte_api.report.ReportService;
+import com.example.latte_api.report.TicketTransition;
 import com.example.latte_api.role.authority.IAuthority;
+import com.example.latte_api.shared.Cursor;
+import com.example.latte_api.shared.CursorPagedEntity;
+import com.example.latte_api.shared.ETags;
 import com.example.latte_api.shared.PagedEntity;
+import com.example.latte_api.shared.RankCursor;
+import com.example.latte_api.ticket.dto.TicketBoardColumn;
+import com.example.latte_api.ticket.dto.TicketBoardRow;
+import com.example.latte_api.ticket.dto.TicketBulkRequest;
+import com.example.latte_api.ticket.dto.TicketBulkResult;
+import com.example.latte_api.ticket.dto.TicketChanges;
+import com.example.latte_api.ticket.dto.TicketCount;
+import com.example.latte_api.ticket.dto.TicketFilter;
 import com.example.latte_api.ticket.dto.TicketPatchRequest;
 import com.example.latte_api.ticket.dto.TicketRequest;
 import com.example.latte_api.ticket.dto.TicketResponse;
+import com.example.latte_api.ticket.dto.TicketSearchHit;
+import com.example.latte_api.ticket.dto.TicketView;
+import com.example.latte_api.ticket.enums.Priority;
 import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.ticket.enums.TicketEventType;
+import com.example.latte_api.ticket.event.TicketEvent;
 import com.example.latte_api.ticket.mapper.TicketMapper;
+import com.example.latte_api.ticket.snapshot.TicketSnapshotService;
+import com.example.latte_api.ticket.specification.TicketSpecification;
+import com.example.latte_api.ticket.tombstone.TicketTombstone;
+import com.example.latte_api.ticket.tombstone.TicketTombstoneRepository;
 import com.example.latte_api.user.User;
 import com.example.latte_api.user.UserRepository;
 
@@ -41,6 +79,7 @@ public class TicketService {
   private final TicketRepository ticketRepository;
   private final UserRepository userRepository;
   private final ClientRepository clientRepository;
+  private final TicketTombstoneRepository ticketTombstoneRepository;
 
   private final TicketMapper ticketMapper;
 
@@ -48,6 +87,21 @@ public class TicketService {
   private final ActivityService activityService;
 
   private final NotificationService notificationService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ReportService reportService;
+  private final TicketSnapshotService ticketSnapshotService;
+
+  @Value("${latte.ticket.batch-max-size}")
+  private Integer batchMaxSize;
+
+  @Value("${latte.ticket.bulk-max-size}")
+  private Integer bulkMaxSize;
+
+  @Value("${latte.ticket.changes-lag}")
+  private Integer changesLag;
+
+  @Value("${latte.ticket.tombstone-retention}")
+  private Integer tombstoneRetention;
 
   @Transactional
   public TicketResponse createTicket(TicketRequest request, Authentication authentication) {
@@ -85,7 +139,10 @@ public class TicketService {
       ticket.setAssignedTo(assignTo);
     }
     ticketRepository.save(ticket);
-    activityService.createActivity(activityGenerator.ticketCreated(user, ticket));
+    Activity created = activityGenerator.ticketCreated(user, ticket);
+    activityService.createActivity(created);
+    ticketSnapshotService.checkpoint(List.of(created));
+    reportService.recordTransitions(List.of(TicketTransition.of(ticket, null, user)));
 
     if (assignTo != null && !assignTo.getUsername().equals(user.getUsername())) {
       notificationService.sendNotification(
@@ -93,74 +150,406 @@ public class TicketService {
         String.format("%s assignee a #%d ticket to you", user.getFirstname(), ticket.getId())
       );
     }
+    eventPublisher.publishEvent(TicketEvent.of(TicketEventType.CREATED, ticket));
     return ticketMapper.mapToTicketResponse(ticket);
   }
 
-  public PagedEntity<TicketResponse> getTickets(int number, int size) {
-    Pageable pageable = PageRequest.of(number, size, Sort.by(Direction.DESC, "createdAt"));
-    Page<Ticket> page = ticketRepository.findAll(pageable);
-
-    PagedEntity<TicketResponse> response = new PagedEntity<>();
-    response.setNext(page.hasNext());
-    response.setPrevious(page.hasPrevious());
-    response.setTotalElement(page.getTotalElements());
-    response.setContent(
-      page.getContent()
-      .stream()
-      .map(t -> ticketMapper.mapToTicketResponse(t))
-      .toList()
+  public String getTicketsETag(int number, int size, boolean count) {
+    return ETags.of(
+      "tickets", 
+      number, 
+      size, 
+      count, 
+      ticketRepository.findLastChangedAt(), 
+      ticketTombstoneRepository.findLastDeletedAt(),
+      userRepository.findChangeStamp(),
+      clientRepository.findChangeStamp()
     );
+  }
 
-    return response;
+  public PagedEntity<TicketResponse> getTickets(int number, int size) {
+    return getTickets(number, size, true);
+  }
+
+  public PagedEntity<TicketResponse> getTickets(int number, int size, boolean count) {
+    Pageable pageable = PageRequest.of(number, size, Sort.by(Direction.DESC, "createdAt"));
+    Slice<TicketView> page = count? ticketRepository.findViews(pageable) : ticketRepository.findViewSlice(pageable);
+    return PagedEntity.of(page, t -> ticketMapper.mapToTicketResponse(t));
   }
 
   public PagedEntity<TicketResponse> getTicketByStatus(Status status, int number, int size) {
+    return getTicketByStatus(status, number, size, true);
+  }
+
+  public PagedEntity<TicketResponse> getTicketByStatus(Status status, int number, int size, boolean count) {
     Pageable pageable = PageRequest.of(number, size, Sort.by(Direction.DESC, "createdAt"));
-    Page<Ticket> page = ticketRepository.findByStatus(status, pageable);
-
-    PagedEntity<TicketResponse> response = new PagedEntity<>();
-    response.setNext(page.hasNext());
-    response.setPrevious(page.hasPrevious());
-    response.setTotalElement(page.getTotalElements());
-    response.setContent(
-      page.getContent()
+    Slice<TicketView> page = count? ticketRepository.findViewsByStatus(status, pageable) : ticketRepository.findViewSliceByStatus(status, pageable);
+    return PagedEntity.of(page, t -> ticketMapper.mapToTicketResponse(t));
+  }
+
+  public List<TicketBoardColumn> getBoard(int size) {
+    if (size < 1 || size > batchMaxSize) {
+      throw new IllegalArgumentException(String.format("Board column size must be between 1 and %d", batchMaxSize));
+    }
+
+    Map<Status, List<TicketResponse>> tickets = new EnumMap<>(Status.class);
+    Map<Status, Long> counts = new EnumMap<>(Status.class);
+    for (TicketBoardRow row : ticketRepository.findBoardViews(size)) {
+      Status status = row.ticket().status();
+      tickets.computeIfAbsent(status, s -> new ArrayList<>()).add(ticketMapper.mapToTicketResponse(row.ticket()));
+      counts.put(status, row.count());
+    }
+
+    return Arrays.stream(Status.values())
+      .map(s -> new TicketBoardColumn(s, counts.getOrDefault(s, 0L), tickets.getOrDefault(s, List.of())))
+      .toList();
+  }
+
+  public PagedEntity<TicketResponse> filterTickets(TicketFilter filter, int number, int size, boolean count) {
+    Pageable pageable = PageRequest.of(number, size, Sort.by(Direction.DESC, "createdAt"));
+    Slice<TicketView> page = ticketRepository.filterViews(toSpecification(filter), pageable, count);
+    return PagedEntity.of(page, t -> ticketMapper.mapToTicketResponse(t));
+  }
+
+  public CursorPagedEntity<TicketResponse> scrollTickets(String cursor, int size) {
+    Pageable pageable = CursorPagedEntity.pageable(size);
+    List<TicketView> tickets;
+
+    if (cursor == null || cursor.isEmpty()) {
+      tickets = ticketRepository.findFirstKeyset(pageable);
+    } else {
+      Cursor position = Cursor.decode(cursor);
+      tickets = ticketRepository.findNextKeyset(position.timestamp(), position.id(), pageable);
+    }
+
+    return CursorPagedEntity.of(tickets, size, t -> new Cursor(t.createdAt(), t.id()).encode(), t -> ticketMapper.mapToTicketResponse(t));
+  }
+
+  public CursorPagedEntity<TicketResponse> scrollTicketByStatus(Status status, String cursor, int size) {
+    Pageable pageable = CursorPagedEntity.pageable(size);
+    List<TicketView> tickets;
+
+    if (cursor == null || cursor.isEmpty()) {
+      tickets = ticketRepository.findFirstKeysetByStatus(status, pageable);
+    } else {
+      Cursor position = Cursor.decode(cursor);
+      tickets = ticketRepository.findNextKeysetByStatus(status, position.timestamp(), position.id(), pageable);
+    }
+
+    return CursorPagedEntity.of(tickets, size, t -> new Cursor(t.createdAt(), t.id()).encode(), t -> ticketMapper.mapToTicketResponse(t));
+  }
+
+  public CursorPagedEntity<TicketResponse> searchTickets(String query, String cursor, int size) {
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("Search query must not be empty");
+    }
+
+    Pageable pageable = CursorPagedEntity.pageable(size);
+    List<TicketSearchHit> hits;
+
+    if (cursor == null || cursor.isEmpty()) {
+      hits = ticketRepository.searchFirst(query, pageable);
+    } else {
+      RankCursor position = RankCursor.decode(cursor);
+      hits = ticketRepository.searchNext(query, position.rank(), position.id(), pageable);
+    }
+
+    Map<Long, TicketView> views = ticketRepository.findViewsByIdIn(hits.stream().map(h -> h.getId()).toList())
       .stream()
-      .map(t -> ticketMapper.mapToTicketResponse(t))
-      .toList()
-    );
+      .collect(Collectors.toMap(TicketView::id, Function.identity()));
 
+    CursorPagedEntity<TicketResponse> response = CursorPagedEntity.of(
+      hits, 
+      size, 
+      h -> new RankCursor(h.getRank(), h.getId()).encode(), 
+      h -> ticketMapper.mapToTicketResponse(views.get(h.getId()))
+    );
+    response.setContent(response.getContent().stream().filter(Objects::nonNull).toList());
     return response;
   }
 
+  @Cacheable(cacheNames = CacheConfig.TICKET_INFO_CACHE, key = "'all'")
   public Map<String, Long> getTicketsInfo(Authentication authentication) {
-    List<Ticket> tickets = ticketRepository.findAll();
-    long closed = tickets.stream().filter(t -> t.getStatus().equals(Status.CLOSE)).toList().size();
-    long open = tickets.stream().filter(t -> t.getStatus().equals(Status.OPEN)).toList().size();
-    long total = ticketRepository.count();
-    return Map.of("total_tickets", total, "open_tickets", open, "closed_tickets", closed);
+    Map<String, Long> info = new HashMap<>();
+    info.put("total_tickets", 0L);
+    for (Status status : Status.values()) {
+      info.put(statusKey(status), 0L);
+      for (Priority priority : Priority.values()) {
+        info.put(statusKey(status, priority), 0L);
+      }
+    }
+    for (Priority priority : Priority.values()) {
+      info.put(priorityKey(priority), 0L);
+    }
+
+    for (TicketCount count : ticketRepository.countByStatusAndPriority()) {
+      info.merge("total_tickets", count.count(), Long::sum);
+      info.merge(statusKey(count.status()), count.count(), Long::sum);
+      info.merge(priorityKey(count.priority()), count.count(), Long::sum);
+      info.put(statusKey(count.status(), count.priority()), count.count());
+    }
+    return info;
+  }
+
+  private String statusKey(Status status) {
+    return switch (status) {
+      case OPEN -> "open_tickets";
+      case CLOSE -> "closed_tickets";
+      case IN_PROGRESS -> "in_progress_tickets";
+    };
+  }
+
+  private String statusKey(Status status, Priority priority) {
+    return String.format("%s_%s", statusKey(status).replace("_tickets", ""), priorityKey(priority));
+  }
+
+  private String priorityKey(Priority priority) {
+    return String.format("%s_priority_tickets", priority.toString().toLowerCase());
+  }
+
+  public List<TicketResponse> getTicketsByIds(List<Long> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+    if (uniqueIds.contains(null)) {
+      throw new IllegalArgumentException("Ticket id must not be null");
+    }
+    if (uniqueIds.size() > batchMaxSize) {
+      throw new IllegalArgumentException(String.format("Cannot fetch more than %d tickets at once", batchMaxSize));
+    }
+
+    Map<Long, TicketView> views = ticketRepository.findViewsByIdIn(uniqueIds)
+      .stream()
+      .collect(Collectors.toMap(TicketView::id, Function.identity()));
+
+    return uniqueIds.stream()
+      .map(views::get)
+      .filter(Objects::nonNull)
+      .map(t -> ticketMapper.mapToTicketResponse(t))
+      .toList();
+  }
+
+  public String getTicketETag(Long id) {
+    Long version = ticketRepository.findVersionById(id).orElseThrow(
+      () -> new EntityNotFoundException("Ticket not found")
+    );
+    return ETags.version(version, userRepository.findChangeStamp(), clientRepository.findChangeStamp());
   }
 
   public TicketResponse getTicket(Long id) {
-    Ticket ticket = ticketRepository.findById(id).orElseThrow(
+    TicketView ticket = ticketRepository.findViewById(id).orElseThrow(
       () -> new EntityNotFoundException("Ticket not found")
     );
     return ticketMapper.mapToTicketResponse(ticket);
   }
 
-  @Transactional
+  public TicketChanges getTicketChanges(Instant since, String cursor, int size) {
+    if (size < 1 || size > batchMaxSize) {
+      throw new IllegalArgumentException(String.format("Changes size must be between 1 and %d", batchMaxSize));
+    }
+
+    Cursor position;
+    if (cursor != null && !cursor.isEmpty()) {
+      position = Cursor.decode(cursor);
+    } else if (since != null) {
+      position = new Cursor(since, Long.MAX_VALUE);
+    } else {
+      throw new IllegalArgumentException("Watermark is required");
+    }
+
+    Instant now = Instant.now();
+    if (position.timestamp().isBefore(now.minusSeconds(tombstoneRetention))) {
+      throw new IllegalStateException("Watermark is older than the tombstone retention, a full resync is required");
+    }
+
+    Instant until = now.minusSeconds(changesLag);
+    Pageable pageable = CursorPagedEntity.pageable(size);
+    List<TicketChange> changes = new ArrayList<>();
+    for (TicketView ticket : ticketRepository.findViewsChangedSince(position.timestamp(), position.id(), until, pageable)) {
+      changes.add(new TicketChange(ticket.lastUpdated() != null? ticket.lastUpdated() : ticket.createdAt(), ticket.id(), ticket));
+    }
+    for (TicketTombstone tombstone : ticketTombstoneRepository.findDeletedSince(position.timestamp(), position.id(), until, pageable)) {
+      changes.add(new TicketChange(tombstone.getDeletedAt(), tombstone.getTicketId(), null));
+    }
+    changes.sort(Comparator.comparing(TicketChange::changedAt).thenComparing(TicketChange::id));
+
+    boolean hasNext = changes.size() > size;
+    List<TicketChange> page = hasNext? changes.subList(0, size) : changes;
+    Cursor next;
+    if (!page.isEmpty()) {
+      next = new Cursor(page.get(page.size() - 1).changedAt(), page.get(page.size() - 1).id());
+    } else if (position.timestamp().isBefore(until)) {
+      next = new Cursor(until, Long.MAX_VALUE);
+    } else {
+      next = position;
+    }
+
+    return new TicketChanges(
+      page.stream().filter(c -> c.ticket() != null).map(c -> ticketMapper.mapToTicketResponse(c.ticket())).toList(),
+      page.stream().filter(c -> c.ticket() == null).map(TicketChange::id).toList(),
+      hasNext,
+      next.encode()
+    );
+  }
+
   public TicketResponse editTicket(Long id, TicketPatchRequest request, Authentication authentication) {
+    return editTicket(id, request, null, authentication);
+  }
+
+  @Transactional
+  public TicketResponse editTicket(Long id, TicketPatchRequest request, Long expectedVersion, Authentication authentication) {
     User user = (User) authentication.getPrincipal();
 
     Ticket ticket = ticketRepository.findById(id).orElseThrow(
       () -> new EntityNotFoundException("Ticket not found")
     );
 
+    if (expectedVersion != null && !expectedVersion.equals(ticket.getVersion())) {
+      throw new PreconditionFailedException("Ticket was modified by another request");
+    }
+
     if (ticket.getLock()) {
       throw new IllegalStateException("Ticket is locked");
     }
 
+    Status previousStatus = ticket.getStatus();
     List<Activity> activities = new ArrayList<>();
 
+    Reassignment reassignment = applyPatch(user, ticket, new TicketPatch(request), activities);
+    if (reassignment != null) {
+      if (reassignment.previous() != null) {
+        notificationService.sendNotification(
+          reassignment.previous(),
+          String.format("You are uassignee from ticket #%d", ticket.getId())
+        );
+      }
+
+      if (reassignment.assignedTo() != null && !user.getUsername().equals(reassignment.assignedTo().getUsername())) {
+        notificationService.sendNotification(
+          reassignment.assignedTo(), 
+          String.format("%s assignee a #%d ticket to you", user.getFirstname(), ticket.getId())
+        );
+      }
+    }
+
+    ticketRepository.save(ticket);
+    ticketRepository.flush();
+    if (!activities.isEmpty()) {
+      activityService.saveActivities(activities);
+      ticketSnapshotService.checkpoint(activities);
+    }
+    if (previousStatus != ticket.getStatus()) {
+      reportService.recordTransitions(List.of(TicketTransition.of(ticket, previousStatus, user)));
+    }
+    eventPublisher.publishEvent(TicketEvent.of(TicketEventType.UPDATED, ticket));
+    return ticketMapper.mapToTicketResponse(ticket);
+  }
+
+  @Transactional
+  public TicketBulkResult bulkEditTickets(TicketBulkRequest request, Authentication authentication) {
+    User user = (User) authentication.getPrincipal();
+    TicketPatchRequest patch = request.patch();
+
+    if (patch == null) {
+      throw new IllegalArgumentException("Patch is required");
+    }
+
+    List<Ticket> tickets = findBulkTickets(request);
+    TicketPatch ticketPatch = new TicketPatch(patch);
+
+    List<Ticket> updated = new ArrayList<>();
+    List<Activity> activities = new ArrayList<>();
+    Map<User, List<Long>> assigned = new LinkedHashMap<>();
+    Map<User, List<Long>> unassigned = new LinkedHashMap<>();
+    Map<Ticket, Status> previousStatuses = new LinkedHashMap<>();
+
+    for (Ticket ticket : tickets) {
+      if (ticket.getLock()) {
+        throw new IllegalStateException(String.format("Ticket #%d is locked", ticket.getId()));
+      }
+
+      int changes = activities.size();
+      Status previousStatus = ticket.getStatus();
+
+      Reassignment reassignment = applyPatch(user, ticket, ticketPatch, activities);
+      if (reassignment != null) {
+        if (reassignment.previous() != null) {
+          unassigned.computeIfAbsent(reassignment.previous(), u -> new ArrayList<>()).add(ticket.getId());
+        }
+        if (reassignment.assignedTo() != null && !user.getUsername().equals(reassignment.assignedTo().getUsername())) {
+          assigned.computeIfAbsent(reassignment.assignedTo(), u -> new ArrayList<>()).add(ticket.getId());
+        }
+      }
+      if (previousStatus != ticket.getStatus()) {
+        previousStatuses.put(ticket, previousStatus);
+      }
+
+      if (activities.size() > changes) {
+        updated.add(ticket);
+      }
+    }
+
+    ticketRepository.saveAll(updated);
+    ticketRepository.flush();
+    if (!activities.isEmpty()) {
+      activityService.saveActivities(activities);
+      ticketSnapshotService.checkpoint(activities);
+    }
+    reportService.recordTransitions(
+      previousStatuses.entrySet().stream().map(e -> TicketTransition.of(e.getKey(), e.getValue(), user)).toList()
+    );
+
+    unassigned.forEach((u, ids) -> notificationService.sendNotification(
+      u,
+      String.format("You are unassigned from %d ticket(s): %s", ids.size(), formatTicketIds(ids))
+    ));
+    assigned.forEach((u, ids) -> notificationService.sendNotification(
+      u,
+      String.format("%s assigned %d ticket(s) to you: %s", user.getFirstname(), ids.size(), formatTicketIds(ids))
+    ));
+    updated.forEach(t -> eventPublisher.publishEvent(TicketEvent.of(TicketEventType.UPDATED, t)));
+
+    return new TicketBulkResult(tickets.size(), updated.size());
+  }
+
+  private List<Ticket> findBulkTickets(TicketBulkRequest request) {
+    boolean byIds = request.ids() != null && !request.ids().isEmpty();
+    if (byIds == (request.filter() != null)) {
+      throw new IllegalArgumentException("Either ids or filter must be provided");
+    }
+
+    if (byIds) {
+      List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.ids()));
+      if (ids.size() > bulkMaxSize) {
+        throw new IllegalArgumentException(String.format("Cannot update more than %d tickets at once", bulkMaxSize));
+      }
+      return ticketRepository.findByIdIn(ids);
+    }
+
+    if (!request.filter().hasCriteria()) {
+      throw new IllegalArgumentException("Filter must have at least one criterion");
+    }
+
+    Specification<Ticket> specification = toSpecification(request.filter());
+    if (ticketRepository.count(specification) > bulkMaxSize) {
+      throw new IllegalArgumentException(String.format("Cannot update more than %d tickets at once", bulkMaxSize));
+    }
+    return ticketRepository.findAll(specification);
+  }
+
+  private String clientName(Client client) {
+    return client == null? null : client.getName();
+  }
+
+  private String formatTicketIds(List<Long> ids) {
+    return ids.stream().map(id -> "#" + id).collect(Collectors.joining(", "));
+  }
+
+  private Reassignment applyPatch(User user, Ticket ticket, TicketPatch patch, List<Activity> activities) {
+    TicketPatchRequest request = patch.request();
+
     if (request.title() != null && !request.title().equals(ticket.getTitle())) {
       if (!canEditTicket(user, ticket)) {throw new OperationNotPermittedException();}
       activities.add(activityGenerator.titleChanged(user, ticket, ticket.getTitle(), request.title()));
@@ -169,7 +558,7 @@ public class TicketService {
 
     if (request.description() != null && !request.description().equals(ticket.getDescription())) {
       if (!canEditTicket(user, ticket)) {throw new OperationNotPermittedException();}
-      activities.add(activityGenerator.descriptionChanged(user, ticket));
+      activities.add(activityGenerator.descriptionChanged(user, ticket, ticket.getDescription(), request.description()));
       ticket.setDescription(request.description());
     }
 
@@ -185,62 +574,67 @@ public class TicketService {
       ticket.setStatus(request.status());
     }
 
+    Reassignment reassignment = null;
     if (request.assignedTo() != null) {
       if (!user.hasAuthority(IAuthority.ASSIGN_TICKET)) {throw new OperationNotPermittedException();}
-      assignTicket(ticket, request, user, activities);
-    }
+      User previous = ticket.getAssignedTo();
+      String old = previous == null? "" : previous.getFirstname();
 
-    if (request.clientId() != null && ticket.getClient().getId() != request.clientId()) {
-      if (!canEditTicket(user, ticket)) {throw new OperationNotPermittedException();}
-      Client client = null;
-
-      if (request.clientId() != 0L) {
-        client = clientRepository.findById(request.clientId()).orElseThrow(
-          () -> new EntityNotFoundException("Client not exists")
-        );
+      if (!old.equals(request.assignedTo())) {
+        activities.add(activityGenerator.assignedToChanged(user, ticket, old, request.assignedTo()));
+        ticket.setAssignedTo(patch.assignedTo());
+        reassignment = new Reassignment(previous, ticket.getAssignedTo());
       }
-
-      ticket.setClient(client);
     }
 
-    ticketRepository.save(ticket);
-    if (!activities.isEmpty()) {
-      activityService.saveActivities(activities);
+    if (request.clientId() != null) {
+      Long current = ticket.getClient() == null? null : ticket.getClient().getId();
+      if (!Objects.equals(current, request.clientId() == 0L? null : request.clientId())) {
+        if (!canEditTicket(user, ticket)) {throw new OperationNotPermittedException();}
+        Client client = patch.client();
+        activities.add(activityGenerator.clientChanged(user, ticket, clientName(ticket.getClient()), clientName(client)));
+        ticket.setClient(client);
+      }
     }
-    return ticketMapper.mapToTicketResponse(ticket);
-  }
 
-  private void assignTicket(Ticket ticket, TicketPatchRequest request, User user, List<Activity> activities) {
-    User previous = ticket.getAssignedTo();
-    String old = previous == null? "" : previous.getFirstname();
-    String curr = request.assignedTo();
-
-    if (!old.equals(curr)) {
-      activities.add(activityGenerator.assignedToChanged(user, ticket, old, curr));
-
-      User assignedTo = null;
-      if (!request.assignedTo().isEmpty()) {
-        assignedTo = userRepository.findByFirstname(request.assignedTo()).orElseThrow(
-          () -> new EntityNotFoundException("User not found")
-        );
-      }
+    return reassignment;
+  }
 
-      ticket.setAssignedTo(assignedTo);
-      
-      if (previous != null) {
-        notificationService.sendNotification(
-          previous,
-          String.format("You are uassignee from ticket #%d", ticket.getId())
-        );
-      }
+  private Specification<Ticket> toSpecification(TicketFilter filter) {
+    List<Specification<Ticket>> specifications = new ArrayList<>();
 
-      if (assignedTo != null && !user.getUsername().equals(assignedTo.getUsername())) {
-        notificationService.sendNotification(
-          assignedTo, 
-          String.format("%s assignee a #%d ticket to you", user.getFirstname(), ticket.getId())
-        );
-      }
+    if (filter.status() != null) {
+      specifications.add(TicketSpecification.hasStatus(filter.status()));
+    }
+    if (filter.priority() != null) {
+      specifications.add(TicketSpecification.hasPriority(filter.priority()));
+    }
+    if (filter.assignedTo() != null && !filter.assignedTo().isEmpty()) {
+      User assignedTo = userRepository.findByEmail(filter.assignedTo()).orElseThrow(
+        () -> new EntityNotFoundException("Assignee user not found")
+      );
+      specifications.add(TicketSpecification.assignedTo(assignedTo));
+    }
+    if (filter.createdBy() != null && !filter.createdBy().isEmpty()) {
+      User createdBy = userRepository.findByEmail(filter.createdBy()).orElseThrow(
+        () -> new EntityNotFoundException("Creator user not found")
+      );
+      specifications.add(TicketSpecification.createdBy(createdBy));
+    }
+    if (filter.clientId() != null) {
+      specifications.add(TicketSpecification.hasClient(filter.clientId()));
     }
+    if (filter.lock() != null) {
+      specifications.add(TicketSpecification.isLocked(filter.lock()));
+    }
+    if (filter.createdFrom() != null || filter.createdTo() != null) {
+      specifications.add(TicketSpecification.createdBetween(filter.createdFrom(), filter.createdTo()));
+    }
+    if (filter.updatedFrom() != null || filter.updatedTo() != null) {
+      specifications.add(TicketSpecification.updatedBetween(filter.updatedFrom(), filter.updatedTo()));
+    }
+
+    return Specification.allOf(specifications);
   }
 
   private boolean canEditTicket(User user, Ticket ticket) {
@@ -254,6 +648,7 @@ public class TicketService {
     );
     ticket.setLock(true);
     ticketRepository.save(ticket);
+    eventPublisher.publishEvent(TicketEvent.of(TicketEventType.LOCKED, ticket));
     return ticketMapper.mapToTicketResponse(ticket);
   }
 
@@ -264,9 +659,11 @@ public class TicketService {
     );
     ticket.setLock(false);
     ticketRepository.save(ticket);
+    eventPublisher.publishEvent(TicketEvent.of(TicketEventType.UNLOCKED, ticket));
     return ticketMapper.mapToTicketResponse(ticket);
   }
 
+  @Transactional
   public void deleteTicket(Long id, Authentication authentication) {
     User user = (User) authentication.getPrincipal();
     Ticket ticket = ticketRepository.findById(id).orElseThrow(
@@ -287,9 +684,49 @@ public class TicketService {
       ticketRepository.save(ticket);
     }
     ticketRepository.delete(ticket);
+    ticketTombstoneRepository.save(
+      TicketTombstone.builder().ticketId(ticket.getId()).deletedAt(Instant.now()).build()
+    );
+    eventPublisher.publishEvent(TicketEvent.deleted(ticket.getId()));
   }
 
   private boolean isOwner(Ticket ticket, User user) {
     return ticket.getCreatedBy().getEmail().equals(user.getEmail());
   }
+
+  private record TicketChange(Instant changedAt, Long id, TicketView ticket) {}
+
+  private record Reassignment(User previous, User assignedTo) {}
+
+  private final class TicketPatch {
+    private final TicketPatchRequest request;
+    private User assignedTo;
+    private Client client;
+
+    TicketPatch(TicketPatchRequest request) {
+      this.request = request;
+    }
+
+    TicketPatchRequest request() {
+      return request;
+    }
+
+    User assignedTo() {
+      if (assignedTo == null && !request.assignedTo().isEmpty()) {
+        assignedTo = userRepository.findByFirstname(request.assignedTo()).orElseThrow(
+          () -> new EntityNotFoundException("User not found")
+        );
+      }
+      return assignedTo;
+    }
+
+    Client client() {
+      if (client == null && request.clientId() != 0L) {
+        client = clientRepository.findById(request.clientId()).orElseThrow(
+          () -> new EntityNotFoundException("Client not exists")
+        );
+      }
+      return client;
+    }
+  }
 }
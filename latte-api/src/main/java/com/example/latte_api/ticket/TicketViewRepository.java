@@ -0,0 +1,15 @@
+package com.example.latte_api.ticket;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.latte_api.ticket.dto.TicketBoardRow;
+import com.example.latte_api.ticket.dto.TicketView;
+
+public interface TicketViewRepository {
+  Slice<TicketView> filterViews(Specification<Ticket> specification, Pageable pageable, boolean count);
+  List<TicketBoardRow> findBoardViews(int size);
+}
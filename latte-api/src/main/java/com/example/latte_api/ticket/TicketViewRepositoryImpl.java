@@ -0,0 +1,153 @@
+package com.example.latte_api.ticket;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.example.latte_api.client.Client;
+import com.example.latte_api.ticket.dto.TicketBoardRow;
+import com.example.latte_api.ticket.dto.TicketView;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.user.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+@RequiredArgsConstructor
+public class TicketViewRepositoryImpl implements TicketViewRepository {
+  static final String BOARD_QUERY = "select b.total, t.id, t.title, t.description, t.priority, t.status, t.lock, "
+    + "cb.first_name as created_by_firstname, cb.email as created_by_email, "
+    + "asg.first_name as assigned_to_firstname, asg.email as assigned_to_email, "
+    + "t.created_at, t.last_modified_at, c.name as client_name, c.email as client_email, t.version "
+    + "from (select status, count(*) as total from ticket group by status) b "
+    + "cross join lateral ("
+    + "select * from ticket x where x.status = b.status order by x.created_at desc, x.id desc limit :size"
+    + ") t "
+    + "join _user cb on cb.id = t.created_by "
+    + "left join _user asg on asg.id = t.assigned_to "
+    + "left join client c on c.id = t.client_id "
+    + "order by t.status, t.created_at desc, t.id desc";
+
+  private final EntityManager entityManager;
+
+  @Override
+  public Slice<TicketView> filterViews(Specification<Ticket> specification, Pageable pageable, boolean count) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<TicketView> query = cb.createQuery(TicketView.class);
+    Root<Ticket> ticket = query.from(Ticket.class);
+    Join<Ticket, User> createdBy = ticket.join("createdBy");
+    Join<Ticket, User> assignedTo = ticket.join("assignedTo", JoinType.LEFT);
+    Join<Ticket, Client> client = ticket.join("client", JoinType.LEFT);
+
+    query.select(cb.construct(
+      TicketView.class,
+      ticket.get("id"),
+      ticket.get("title"),
+      ticket.get("description"),
+      ticket.get("priority"),
+      ticket.get("status"),
+      ticket.get("lock"),
+      createdBy.get("firstname"),
+      createdBy.get("email"),
+      assignedTo.get("firstname"),
+      assignedTo.get("email"),
+      ticket.get("createdAt"),
+      ticket.get("lastUpdated"),
+      client.get("name"),
+      client.get("email"),
+      ticket.get("version")
+    ));
+    Predicate predicate = specification.toPredicate(ticket, query, cb);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.orderBy(toOrders(pageable.getSort(), ticket, cb));
+
+    TypedQuery<TicketView> typedQuery = entityManager.createQuery(query);
+    typedQuery.setFirstResult((int) pageable.getOffset());
+    typedQuery.setMaxResults(count? pageable.getPageSize() : pageable.getPageSize() + 1);
+    List<TicketView> content = typedQuery.getResultList();
+
+    if (!count) {
+      boolean hasNext = content.size() > pageable.getPageSize();
+      return new SliceImpl<>(hasNext? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+    return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<TicketBoardRow> findBoardViews(int size) {
+    List<Object[]> rows = entityManager.createNativeQuery(BOARD_QUERY)
+      .setParameter("size", size)
+      .unwrap(NativeQuery.class)
+      .addScalar("total", StandardBasicTypes.LONG)
+      .addScalar("id", StandardBasicTypes.LONG)
+      .addScalar("title", StandardBasicTypes.STRING)
+      .addScalar("description", StandardBasicTypes.STRING)
+      .addScalar("priority", StandardBasicTypes.STRING)
+      .addScalar("status", StandardBasicTypes.STRING)
+      .addScalar("lock", StandardBasicTypes.BOOLEAN)
+      .addScalar("created_by_firstname", StandardBasicTypes.STRING)
+      .addScalar("created_by_email", StandardBasicTypes.STRING)
+      .addScalar("assigned_to_firstname", StandardBasicTypes.STRING)
+      .addScalar("assigned_to_email", StandardBasicTypes.STRING)
+      .addScalar("created_at", StandardBasicTypes.INSTANT)
+      .addScalar("last_modified_at", StandardBasicTypes.INSTANT)
+      .addScalar("client_name", StandardBasicTypes.STRING)
+      .addScalar("client_email", StandardBasicTypes.STRING)
+      .addScalar("version", StandardBasicTypes.LONG)
+      .getResultList();
+
+    return rows.stream().map(row -> new TicketBoardRow(
+      new TicketView(
+        (Long) row[1],
+        (String) row[2],
+        (String) row[3],
+        Priority.valueOf((String) row[4]),
+        Status.valueOf((String) row[5]),
+        (Boolean) row[6],
+        (String) row[7],
+        (String) row[8],
+        (String) row[9],
+        (String) row[10],
+        (Instant) row[11],
+        (Instant) row[12],
+        (String) row[13],
+        (String) row[14],
+        (Long) row[15]
+      ),
+      (Long) row[0]
+    )).toList();
+  }
+
+  private long count(Specification<Ticket> specification) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = cb.createQuery(Long.class);
+    Root<Ticket> ticket = query.from(Ticket.class);
+
+    query.select(cb.count(ticket));
+    Predicate predicate = specification.toPredicate(ticket, query, cb);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    return entityManager.createQuery(query).getSingleResult();
+  }
+}
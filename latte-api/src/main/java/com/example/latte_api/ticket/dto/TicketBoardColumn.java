@@ -0,0 +1,9 @@
+package com.example.latte_api.ticket.dto;
+
+import java.util.List;
+
+import com.example.latte_api.ticket.enums.Status;
+
+public record TicketBoardColumn(Status status, Long count, List<TicketResponse> tickets) {
+  
+}
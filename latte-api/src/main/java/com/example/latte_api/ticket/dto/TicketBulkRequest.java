@@ -0,0 +1,7 @@
+package com.example.latte_api.ticket.dto;
+
+import java.util.List;
+
+public record TicketBulkRequest(List<Long> ids, TicketFilter filter, TicketPatchRequest patch) {
+  
+}
@@ -0,0 +1,12 @@
+package com.example.latte_api.ticket.dto;
+
+import java.util.List;
+
+public record TicketChanges(
+  List<TicketResponse> changed,
+  List<Long> deleted,
+  Boolean next,
+  String nextCursor
+) {
+  
+}
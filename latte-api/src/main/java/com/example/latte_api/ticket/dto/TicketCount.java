@@ -0,0 +1,8 @@
+package com.example.latte_api.ticket.dto;
+
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+
+public record TicketCount(Status status, Priority priority, Long count) {
+  
+}
@@ -0,0 +1,35 @@
+package com.example.latte_api.ticket.dto;
+
+import java.time.Instant;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+
+public record TicketFilter(
+  Status status,
+  Priority priority,
+  String assignedTo,
+  String createdBy,
+  Long clientId,
+  Boolean lock,
+  @DateTimeFormat(iso = ISO.DATE_TIME) Instant createdFrom,
+  @DateTimeFormat(iso = ISO.DATE_TIME) Instant createdTo,
+  @DateTimeFormat(iso = ISO.DATE_TIME) Instant updatedFrom,
+  @DateTimeFormat(iso = ISO.DATE_TIME) Instant updatedTo
+) {
+  public boolean hasCriteria() {
+    return status != null
+      || priority != null
+      || assignedTo != null && !assignedTo.isEmpty()
+      || createdBy != null && !createdBy.isEmpty()
+      || clientId != null
+      || lock != null
+      || createdFrom != null
+      || createdTo != null
+      || updatedFrom != null
+      || updatedTo != null;
+  }
+}
@@ -0,0 +1,5 @@
+package com.example.latte_api.ticket.dto;
+
+public record TicketImportResult(Long imported, Long durationMillis, Long rowsPerSecond) {
+  
+}
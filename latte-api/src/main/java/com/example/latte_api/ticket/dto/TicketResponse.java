@@ -18,7 +18,8 @@ public record TicketResponse(
   Instant createdAt,
   Instant lastUpdated,
   String clientName,
-  String clientEmail
+  String clientEmail,
+  Long version
 ) {
   
 }
@@ -0,0 +1,6 @@
+package com.example.latte_api.ticket.dto;
+
+public interface TicketSearchHit {
+  Long getId();
+  Float getRank();
+}
@@ -0,0 +1,3 @@
+package com.example.latte_api.ticket.dto;
+
+public record TicketSnapshotVersion(Long ticketId, Long version) {}
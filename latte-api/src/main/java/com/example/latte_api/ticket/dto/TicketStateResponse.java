@@ -0,0 +1,20 @@
+package com.example.latte_api.ticket.dto;
+
+import java.time.Instant;
+
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+
+public record TicketStateResponse(
+  Long id,
+  String title,
+  String description,
+  Priority priority,
+  Status status,
+  String assignedTo,
+  String clientName,
+  Instant createdAt,
+  Instant asOf
+) {
+  
+}
@@ -0,0 +1,26 @@
+package com.example.latte_api.ticket.dto;
+
+import java.time.Instant;
+
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+
+public record TicketView(
+  Long id,
+  String title,
+  String description,
+  Priority priority,
+  Status status,
+  Boolean lock,
+  String createdByFirstname,
+  String createdByEmail,
+  String assignedToFirstname,
+  String assignedToEmail,
+  Instant createdAt,
+  Instant lastUpdated,
+  String clientName,
+  String clientEmail,
+  Long version
+) {
+  
+}
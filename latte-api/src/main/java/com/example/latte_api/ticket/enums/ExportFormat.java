@@ -0,0 +1,6 @@
+package com.example.latte_api.ticket.enums;
+
+public enum ExportFormat {
+  CSV,
+  NDJSON
+}
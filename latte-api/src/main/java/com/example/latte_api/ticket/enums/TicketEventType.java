@@ -0,0 +1,9 @@
+package com.example.latte_api.ticket.enums;
+
+public enum TicketEventType {
+  CREATED,
+  UPDATED,
+  LOCKED,
+  UNLOCKED,
+  DELETED
+}
@@ -0,0 +1,36 @@
+package com.example.latte_api.ticket.event;
+
+import java.time.Instant;
+
+import com.example.latte_api.ticket.Ticket;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.ticket.enums.TicketEventType;
+
+public record TicketEvent(
+  Long id,
+  TicketEventType type,
+  String title,
+  Status status,
+  Priority priority,
+  Boolean lock,
+  String assignedTo,
+  Instant timestamp
+) {
+  public static TicketEvent of(TicketEventType type, Ticket ticket) {
+    return new TicketEvent(
+      ticket.getId(),
+      type,
+      ticket.getTitle(),
+      ticket.getStatus(),
+      ticket.getPriority(),
+      ticket.getLock(),
+      ticket.getAssignedTo() != null? ticket.getAssignedTo().getFirstname() : null,
+      Instant.now()
+    );
+  }
+
+  public static TicketEvent deleted(Long id) {
+    return new TicketEvent(id, TicketEventType.DELETED, null, null, null, null, null, Instant.now());
+  }
+}
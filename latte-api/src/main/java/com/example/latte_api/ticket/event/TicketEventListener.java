@@ -0,0 +1,26 @@
+package com.example.latte_api.ticket.event;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketEventListener {
+  public static final String TICKETS_TOPIC = "/topic/tickets";
+
+  private final SimpMessagingTemplate messagingTemplate;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onTicketEvent(TicketEvent event) {
+    log.debug("Publishing `{}` event for ticket #{}", event.type(), event.id());
+
+    messagingTemplate.convertAndSend(TICKETS_TOPIC, event);
+    messagingTemplate.convertAndSend(String.format("%s/%d", TICKETS_TOPIC, event.id()), event);
+  }
+}
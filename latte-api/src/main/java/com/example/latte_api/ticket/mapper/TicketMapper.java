@@ -7,8 +7,10 @@ import org.mapstruct.factory.Mappers;
 
 import com.example.latte_api.ticket.Ticket;
 import com.example.latte_api.ticket.dto.TicketResponse;
+import com.example.latte_api.ticket.dto.TicketView;
+import com.example.latte_api.user.dto.UserDto;
 
-@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, imports = UserDto.class)
 public interface TicketMapper {
   TicketMapper INSTANT = Mappers.getMapper(TicketMapper.class);
 
@@ -19,4 +21,8 @@ public interface TicketMapper {
   @Mapping(target = "clientName", expression = "java(ticket.getClient() == null? null : ticket.getClient().getName())")
   @Mapping(target = "clientEmail", expression = "java(ticket.getClient() == null? null : ticket.getClient().getEmail())")
   TicketResponse mapToTicketResponse(Ticket ticket);
+
+  @Mapping(target = "createdBy", expression = "java(new UserDto(view.createdByFirstname(), view.createdByEmail()))")
+  @Mapping(target = "assignedTo", expression = "java(view.assignedToEmail() == null? null : new UserDto(view.assignedToFirstname(), view.assignedToEmail()))")
+  TicketResponse mapToTicketResponse(TicketView view);
 }
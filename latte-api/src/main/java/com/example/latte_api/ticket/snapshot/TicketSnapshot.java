@@ -0,0 +1,85 @@
+package com.example.latte_api.ticket.snapshot;
+
+import java.time.Instant;
+
+import com.example.latte_api.activity.Activity;
+import com.example.latte_api.ticket.Ticket;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@Entity
+@Table(name = "ticket_snapshot")
+public class TicketSnapshot {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_snapshot_seq_generator")
+  @SequenceGenerator(name = "ticket_snapshot_seq_generator", sequenceName = "ticket_snapshot_seq", initialValue = 101, allocationSize = 50)
+  @Column(name = "id")
+  private Long id;
+
+  @Column(name = "ticket_id")
+  private Long ticketId;
+
+  @Column(name = "activity_id")
+  private Long activityId;
+
+  @Column(name = "taken_at")
+  private Instant takenAt;
+
+  @Column(name = "ticket_version")
+  private Long ticketVersion;
+
+  @Column(name = "title")
+  private String title;
+
+  @Column(name = "description", columnDefinition = "TEXT")
+  private String description;
+
+  @Enumerated(value = EnumType.STRING)
+  @Column(name = "priority")
+  private Priority priority;
+
+  @Enumerated(value = EnumType.STRING)
+  @Column(name = "status")
+  private Status status;
+
+  @Column(name = "assigned_to")
+  private String assignedTo;
+
+  @Column(name = "client_name")
+  private String clientName;
+
+  public static TicketSnapshot of(Ticket ticket, Activity boundary) {
+    return TicketSnapshot.builder()
+      .ticketId(ticket.getId())
+      .activityId(boundary == null? null : boundary.getId())
+      .takenAt(boundary == null? null : boundary.getCreatedAt())
+      .ticketVersion(ticket.getVersion())
+      .title(ticket.getTitle())
+      .description(ticket.getDescription())
+      .priority(ticket.getPriority())
+      .status(ticket.getStatus())
+      .assignedTo(ticket.getAssignedTo() == null? null : ticket.getAssignedTo().getFirstname())
+      .clientName(ticket.getClient() == null? null : ticket.getClient().getName())
+      .build();
+  }
+}
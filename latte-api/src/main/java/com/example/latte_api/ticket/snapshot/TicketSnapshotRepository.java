@@ -0,0 +1,22 @@
+package com.example.latte_api.ticket.snapshot;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.latte_api.ticket.dto.TicketSnapshotVersion;
+
+public interface TicketSnapshotRepository extends JpaRepository<TicketSnapshot, Long> {
+  Optional<TicketSnapshot> findFirstByTicketIdAndTakenAtLessThanEqualOrderByTakenAtDescActivityIdDesc(Long ticketId, Instant ts);
+
+  Optional<TicketSnapshot> findFirstByTicketIdAndTakenAtGreaterThanOrderByTakenAtAscActivityIdAsc(Long ticketId, Instant ts);
+
+  @Query("select new com.example.latte_api.ticket.dto.TicketSnapshotVersion(s.ticketId, max(s.ticketVersion)) "
+    + "from TicketSnapshot s where s.ticketId in :ticketIds group by s.ticketId")
+  List<TicketSnapshotVersion> findLatestVersions(@Param("ticketIds") Collection<Long> ticketIds);
+}
@@ -0,0 +1,126 @@
+package com.example.latte_api.ticket.snapshot;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.latte_api.activity.Activity;
+import com.example.latte_api.activity.ActivityRepository;
+import com.example.latte_api.activity.dto.ActivityChange;
+import com.example.latte_api.activity.enums.ActivityField;
+import com.example.latte_api.ticket.Ticket;
+import com.example.latte_api.ticket.TicketRepository;
+import com.example.latte_api.ticket.dto.TicketStateResponse;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TicketSnapshotService {
+  private final TicketSnapshotRepository ticketSnapshotRepository;
+  private final TicketRepository ticketRepository;
+  private final ActivityRepository activityRepository;
+
+  @Value("${latte.ticket.snapshot-interval}")
+  private Integer snapshotInterval;
+
+  @Transactional
+  public void checkpoint(List<Activity> activities) {
+    Map<Ticket, Activity> latest = new LinkedHashMap<>();
+    for (Activity activity : activities) {
+      latest.put(activity.getTicket(), activity);
+    }
+
+    if (latest.isEmpty()) {
+      return;
+    }
+
+    Map<Long, Long> snapshotVersions = new HashMap<>();
+    ticketSnapshotRepository.findLatestVersions(latest.keySet().stream().map(Ticket::getId).toList())
+      .forEach(v -> snapshotVersions.put(v.ticketId(), v.version()));
+
+    List<TicketSnapshot> snapshots = latest.entrySet().stream()
+      .filter(e -> isCheckpoint(e.getKey(), snapshotVersions.get(e.getKey().getId())))
+      .map(e -> TicketSnapshot.of(e.getKey(), e.getValue()))
+      .toList();
+
+    if (!snapshots.isEmpty()) {
+      ticketSnapshotRepository.saveAll(snapshots);
+    }
+  }
+
+  public TicketStateResponse getTicketAsOf(Long id, Instant ts) {
+    Ticket ticket = ticketRepository.findById(id).orElseThrow(
+      () -> new EntityNotFoundException("Ticket not found")
+    );
+    if (ticket.getCreatedAt() != null && ts.isBefore(ticket.getCreatedAt())) {
+      throw new EntityNotFoundException(String.format("Ticket #%d did not exist at %s", id, ts));
+    }
+
+    Optional<TicketSnapshot> before = ticketSnapshotRepository.findFirstByTicketIdAndTakenAtLessThanEqualOrderByTakenAtDescActivityIdDesc(id, ts);
+    if (before.isPresent()) {
+      TicketSnapshot base = before.get();
+      TicketSnapshot.TicketSnapshotBuilder state = base.toBuilder();
+      for (ActivityChange change : activityRepository.findTicketChangesAfter(id, base.getTakenAt(), base.getActivityId(), ts)) {
+        apply(state, change.field(), change.oldValue(), change.newValue());
+      }
+      return toResponse(ticket, state.build(), ts);
+    }
+
+    TicketSnapshot base = ticketSnapshotRepository.findFirstByTicketIdAndTakenAtGreaterThanOrderByTakenAtAscActivityIdAsc(id, ts)
+      .orElseGet(() -> TicketSnapshot.of(ticket, null));
+    List<ActivityChange> changes = base.getActivityId() == null?
+      activityRepository.findTicketChangesSince(id, ts) :
+      activityRepository.findTicketChangesBetween(id, ts, base.getTakenAt(), base.getActivityId());
+
+    TicketSnapshot.TicketSnapshotBuilder state = base.toBuilder();
+    for (ActivityChange change : changes) {
+      apply(state, change.field(), change.newValue(), change.oldValue());
+    }
+    return toResponse(ticket, state.build(), ts);
+  }
+
+  private boolean isCheckpoint(Ticket ticket, Long snapshotVersion) {
+    return ticket.getVersion() != null && ticket.getVersion() - (snapshotVersion == null? 0 : snapshotVersion) >= snapshotInterval;
+  }
+
+  private void apply(TicketSnapshot.TicketSnapshotBuilder state, ActivityField field, String from, String to) {
+    if (from == null && to == null) {
+      return;
+    }
+
+    switch (field) {
+      case TITLE -> state.title(to);
+      case DESCRIPTION -> state.description(to);
+      case PRIORITY -> state.priority(to == null? null : Priority.valueOf(to));
+      case STATUS -> state.status(to == null? null : Status.valueOf(to));
+      case ASSIGNEE -> state.assignedTo(to);
+      case CLIENT -> state.clientName(to);
+      case TICKET -> {}
+    }
+  }
+
+  private TicketStateResponse toResponse(Ticket ticket, TicketSnapshot state, Instant ts) {
+    return new TicketStateResponse(
+      ticket.getId(),
+      state.getTitle(),
+      state.getDescription(),
+      state.getPriority(),
+      state.getStatus(),
+      state.getAssignedTo(),
+      state.getClientName(),
+      ticket.getCreatedAt(),
+      ts
+    );
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.latte_api.ticket.specification;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.latte_api.ticket.Ticket;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.user.User;
+
+public final class TicketSpecification {
+  private TicketSpecification() {}
+
+  public static Specification<Ticket> hasStatus(Status status) {
+    return (root, query, cb) -> cb.equal(root.get("status"), status);
+  }
+
+  public static Specification<Ticket> hasPriority(Priority priority) {
+    return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+  }
+
+  public static Specification<Ticket> assignedTo(User user) {
+    return (root, query, cb) -> cb.equal(root.get("assignedTo"), user);
+  }
+
+  public static Specification<Ticket> createdBy(User user) {
+    return (root, query, cb) -> cb.equal(root.get("createdBy"), user);
+  }
+
+  public static Specification<Ticket> hasClient(Long clientId) {
+    return (root, query, cb) -> cb.equal(root.get("client").get("id"), clientId);
+  }
+
+  public static Specification<Ticket> isLocked(Boolean lock) {
+    return (root, query, cb) -> cb.equal(root.get("lock"), lock);
+  }
+
+  public static Specification<Ticket> createdBetween(Instant from, Instant to) {
+    return between("createdAt", from, to);
+  }
+
+  public static Specification<Ticket> updatedBetween(Instant from, Instant to) {
+    return between("lastUpdated", from, to);
+  }
+
+  private static Specification<Ticket> between(String attribute, Instant from, Instant to) {
+    return (root, query, cb) -> {
+      if (from != null && to != null) {
+        return cb.between(root.get(attribute), from, to);
+      }
+      if (from != null) {
+        return cb.greaterThanOrEqualTo(root.get(attribute), from);
+      }
+      return cb.lessThanOrEqualTo(root.get(attribute), to);
+    };
+  }
+}
@@ -0,0 +1,29 @@
+package com.example.latte_api.ticket.tombstone;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Entity
+@Table(name = "ticket_tombstone")
+public class TicketTombstone {
+  @Id
+  @Column(name = "ticket_id")
+  private Long ticketId;
+
+  @Column(name = "deleted_at")
+  private Instant deletedAt;
+}
@@ -0,0 +1,18 @@
+package com.example.latte_api.ticket.tombstone;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TicketTombstoneRepository extends JpaRepository<TicketTombstone, Long> {
+  @Query("select t from TicketTombstone t where (t.deletedAt > :deletedAt or (t.deletedAt = :deletedAt and t.ticketId > :id)) "
+    + "and t.deletedAt <= :until order by t.deletedAt asc, t.ticketId asc")
+  List<TicketTombstone> findDeletedSince(@Param("deletedAt") Instant deletedAt, @Param("id") Long id, @Param("until") Instant until, Pageable pageable);
+
+  @Query("select max(t.deletedAt) from TicketTombstone t")
+  Instant findLastDeletedAt();
+}
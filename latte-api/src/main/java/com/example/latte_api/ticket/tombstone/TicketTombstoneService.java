@@ -0,0 +1,40 @@
+package com.example.latte_api.ticket.tombstone;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketTombstoneService {
+  static final String DELETE_EXPIRED = "delete from ticket_tombstone where ticket_id in "
+    + "(select ticket_id from ticket_tombstone where deleted_at < ? limit ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${latte.ticket.tombstone-retention}")
+  private Integer retention;
+
+  @Value("${latte.ticket.tombstone-purge-batch-size}")
+  private Integer purgeBatchSize;
+
+  @Scheduled(fixedDelayString = "${latte.ticket.tombstone-purge-interval}", initialDelayString = "${latte.ticket.tombstone-purge-interval}")
+  public void purgeExpired() {
+    Timestamp horizon = Timestamp.from(Instant.now().minusSeconds(retention));
+    int total = 0;
+    int deleted;
+    do {
+      deleted = jdbcTemplate.update(DELETE_EXPIRED, horizon, purgeBatchSize);
+      total += deleted;
+    } while (deleted == purgeBatchSize);
+    log.info("Purged {} expired ticket tombstones", total);
+  }
+}
@@ -42,8 +42,8 @@ import lombok.experimental.SuperBuilder;
 @Table(name = "_user")
 public class User extends AbstractAuditingEntity implements UserDetails, Principal {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY, generator = "user_seq_gen")
-  @SequenceGenerator(name = "user_seq_gen", sequenceName = "user_seq", initialValue = 101, allocationSize = 1)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq_gen")
+  @SequenceGenerator(name = "user_seq_gen", sequenceName = "user_seq", initialValue = 101, allocationSize = 10)
   @Column(name = "id")
   private Long id;
 
@@ -88,15 +88,14 @@ public class User extends AbstractAuditingEntity implements UserDetails, Princip
   }
 
   public boolean hasAuthority(IAuthority authority) {
-    return hasAuthority(authority.getAuthority());
+    return this.role.getGrants().contains(authority);
   }
 
   public boolean hasAuthority(String authority) {
-    for (GrantedAuthority _authority : getAuthorities()) {
-      if (_authority.getAuthority().equals(authority)) {
-        return true;
-      }
+    IAuthority grant = IAuthority.of(authority);
+    if (grant != null) {
+      return hasAuthority(grant);
     }
-    return false;
+    return authority.equals(this.role.getRole());
   }
 }
@@ -14,8 +14,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.latte_api.security.PasswordService;
+import com.example.latte_api.shared.CursorPagedEntity;
 import com.example.latte_api.shared.PagedEntity;
 import com.example.latte_api.user.dto.ResetPasswordRequest;
 import com.example.latte_api.user.dto.UserRequest;
@@ -31,8 +33,13 @@ public class UserController {
   private final PasswordService passwordService;
 
   @GetMapping()
-  public ResponseEntity<PagedEntity<UserResponse>> getUsers(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
-    return ResponseEntity.status(HttpStatus.OK).body(userService.getUsers(page, size));
+  public ResponseEntity<PagedEntity<UserResponse>> getUsers(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "true") boolean count) {
+    return ResponseEntity.status(HttpStatus.OK).body(userService.getUsers(page, size, count));
+  }
+
+  @GetMapping("/scroll")
+  public ResponseEntity<CursorPagedEntity<UserResponse>> scrollUsers(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.status(HttpStatus.OK).body(userService.scrollUsers(cursor, size));
   }
 
   @GetMapping("/list")
@@ -41,8 +48,12 @@ public class UserController {
   }
 
   @GetMapping("/info")
-  public ResponseEntity<UserResponse> getInfo(Authentication authentication) {
-    return ResponseEntity.status(HttpStatus.OK).body(userService.getUser(authentication));
+  public ResponseEntity<UserResponse> getInfo(Authentication authentication, WebRequest request) {
+    String eTag = userService.getUserETag(authentication);
+    if (request.checkNotModified(eTag)) {
+      return null;
+    }
+    return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(userService.getUser(authentication));
   }
 
   @GetMapping("/info/{email}")
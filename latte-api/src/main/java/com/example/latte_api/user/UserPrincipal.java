@@ -0,0 +1,81 @@
+package com.example.latte_api.user;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import com.example.latte_api.role.Role;
+import com.example.latte_api.role.authority.Authority;
+import com.example.latte_api.role.authority.IAuthority;
+
+public record UserPrincipal(
+  Long id,
+  String firstname,
+  String email,
+  String password,
+  boolean editable,
+  boolean deletable,
+  Instant createdAt,
+  Instant lastUpdated,
+  RolePrincipal role
+) {
+  public static UserPrincipal of(User user) {
+    Role role = user.getRole();
+    return new UserPrincipal(
+      user.getId(),
+      user.getFirstname(),
+      user.getEmail(),
+      user.getPassword(),
+      user.isEditable(),
+      user.isDeletable(),
+      user.getCreatedAt(),
+      user.getLastUpdated(),
+      new RolePrincipal(
+        role.getId(),
+        role.getRole(),
+        role.isEditable(),
+        role.isDeletable(),
+        role.getVersion(),
+        role.getAuthorities().stream().map(a -> a.getAuthority()).toList(),
+        role.getGrants()
+      )
+    );
+  }
+
+  public User toUser() {
+    return User.builder()
+      .id(id)
+      .firstname(firstname)
+      .email(email)
+      .password(password)
+      .editable(editable)
+      .deletable(deletable)
+      .createdAt(createdAt)
+      .lastUpdated(lastUpdated)
+      .role(role.toRole())
+      .build();
+  }
+
+  public record RolePrincipal(
+    Long id,
+    String role,
+    boolean editable,
+    boolean deletable,
+    long version,
+    List<String> authorities,
+    Set<IAuthority> grants
+  ) {
+    Role toRole() {
+      Role result = Role.builder()
+        .id(id)
+        .role(role)
+        .editable(editable)
+        .deletable(deletable)
+        .version(version)
+        .authorities(authorities.stream().map(a -> Authority.builder().authority(a).build()).toList())
+        .build();
+      result.setGrants(grants);
+      return result;
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.latte_api.user;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import com.example.latte_api.config.CacheConfig;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class UserPrincipalService {
+  private final UserRepository userRepository;
+
+  @Cacheable(cacheNames = CacheConfig.PRINCIPAL_CACHE, key = "#username")
+  public UserPrincipal loadPrincipal(String username) throws UsernameNotFoundException {
+    User user = userRepository.findByEmail(username).orElseThrow(
+      () -> new UsernameNotFoundException(String.format("User with username:`%s` not found", username))
+    );
+    return UserPrincipal.of(user);
+  }
+}
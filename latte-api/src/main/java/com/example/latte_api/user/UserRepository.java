@@ -1,10 +1,17 @@
 package com.example.latte_api.user;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.example.latte_api.role.Role;
+import com.example.latte_api.shared.ChangeStamp;
 
 public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByEmailOrFirstname(String email, String firstname);
@@ -12,4 +19,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByEmail(String email);
   List<User> findByRole(Role role);
   List<User> findByDeletable(boolean deletable);
+  Slice<User> findAllBy(Pageable pageable);
+
+  @Query("select u from User u order by u.createdAt desc, u.id desc")
+  List<User> findFirstKeyset(Pageable pageable);
+
+  @Query("select u from User u where u.createdAt < :createdAt or (u.createdAt = :createdAt and u.id < :id) order by u.createdAt desc, u.id desc")
+  List<User> findNextKeyset(@Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
+
+  @Query("select new com.example.latte_api.shared.ChangeStamp(count(u), max(coalesce(u.lastUpdated, u.createdAt))) from User u")
+  ChangeStamp findChangeStamp();
 }
@@ -2,9 +2,12 @@ package com.example.latte_api.user;
 
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.security.core.Authentication;
@@ -15,8 +18,13 @@ import org.springframework.stereotype.Service;
 
 import com.example.latte_api.activity.Activity;
 import com.example.latte_api.activity.ActivityRepository;
+import com.example.latte_api.config.CacheConfig;
 import com.example.latte_api.role.Role;
 import com.example.latte_api.role.RoleRepository;
+import com.example.latte_api.security.revocation.TokenRevocationService;
+import com.example.latte_api.shared.Cursor;
+import com.example.latte_api.shared.CursorPagedEntity;
+import com.example.latte_api.shared.ETags;
 import com.example.latte_api.shared.PagedEntity;
 import com.example.latte_api.ticket.Ticket;
 import com.example.latte_api.ticket.TicketRepository;
@@ -35,26 +43,24 @@ public class UserService implements UserDetailsService {
   private final RoleRepository roleRepository;
   private final TicketRepository ticketRepository;
   private final ActivityRepository activityRepository;
+  private final UserPrincipalService userPrincipalService;
 
   private final UserMapper userMapper;
+  private final TokenRevocationService tokenRevocationService;
 
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    return userRepository.findByEmail(username).orElseThrow(
-      () -> new UsernameNotFoundException(String.format("User with username:`%s` not found", username))
-    );
+    return userPrincipalService.loadPrincipal(username).toUser();
   }
 
   public PagedEntity<UserResponse> getUsers(int number, int size) {
-    Pageable pageable = PageRequest.of(number, size, Sort.by(Direction.DESC, "createdAt"));
-    Page<User> page = userRepository.findAll(pageable);
+    return getUsers(number, size, true);
+  }
 
-    PagedEntity<UserResponse> response = new PagedEntity<>();
-    response.setNext(page.hasNext());
-    response.setPrevious(page.hasPrevious());
-    response.setTotalElement(page.getTotalElements());
-    response.setContent(page.getContent().stream().map(u -> userMapper.mapToUserDto(u)).toList());
-    return response;
+  public PagedEntity<UserResponse> getUsers(int number, int size, boolean count) {
+    Pageable pageable = PageRequest.of(number, size, Sort.by(Direction.DESC, "createdAt"));
+    Slice<User> page = count? userRepository.findAll(pageable) : userRepository.findAllBy(pageable);
+    return PagedEntity.of(page, u -> userMapper.mapToUserDto(u));
   }
 
   public PagedEntity<String> getUserList(int number, int size) {
@@ -69,6 +75,31 @@ public class UserService implements UserDetailsService {
     return response;
   }
 
+  public CursorPagedEntity<UserResponse> scrollUsers(String cursor, int size) {
+    Pageable pageable = CursorPagedEntity.pageable(size);
+    List<User> users;
+
+    if (cursor == null || cursor.isEmpty()) {
+      users = userRepository.findFirstKeyset(pageable);
+    } else {
+      Cursor position = Cursor.decode(cursor);
+      users = userRepository.findNextKeyset(position.timestamp(), position.id(), pageable);
+    }
+
+    return CursorPagedEntity.of(users, size, u -> new Cursor(u.getCreatedAt(), u.getId()).encode(), u -> userMapper.mapToUserDto(u));
+  }
+
+  public String getUserETag(Authentication authentication) {
+    User user = (User) authentication.getPrincipal();
+    return ETags.of(
+      "user",
+      user.getId(),
+      user.getLastUpdated() != null? user.getLastUpdated() : user.getCreatedAt(),
+      user.getRole().getId(),
+      user.getRole().getVersion()
+    );
+  }
+
   public UserResponse getUser(Authentication authentication) {
     User user = (User) authentication.getPrincipal();
     return userMapper.mapToUserDto(user);
@@ -82,8 +113,15 @@ public class UserService implements UserDetailsService {
   }
 
   @Transactional
+  @Caching(evict = {
+    @CacheEvict(cacheNames = CacheConfig.PRINCIPAL_CACHE, key = "#authentication.name"),
+    @CacheEvict(cacheNames = CacheConfig.PRINCIPAL_CACHE, key = "#request.email()")
+  })
   public UserResponse updateUser(UserRequest request, Authentication authentication) {
-    User user = (User) authentication.getPrincipal();
+    User principal = (User) authentication.getPrincipal();
+    User user = userRepository.findById(principal.getId()).orElseThrow(
+      () -> new EntityNotFoundException("User not found")
+    );
 
     if (!user.isEditable()) {
       throw new IllegalStateException("User cannot be edited");
@@ -97,6 +135,10 @@ public class UserService implements UserDetailsService {
   }
 
   @Transactional
+  @Caching(evict = {
+    @CacheEvict(cacheNames = CacheConfig.PRINCIPAL_CACHE, key = "#_user"),
+    @CacheEvict(cacheNames = CacheConfig.PRINCIPAL_CACHE, key = "#request.email()")
+  })
   public UserResponse updateUser(UserRequest request, String _user) {
     User user = userRepository.findByEmail(_user).orElseThrow(
       () -> new EntityNotFoundException("User not found")
@@ -121,6 +163,7 @@ public class UserService implements UserDetailsService {
   }
 
   @Transactional
+  @CacheEvict(cacheNames = CacheConfig.PRINCIPAL_CACHE, key = "#_user")
   public void deleteUser(String _user) {
     User user = userRepository.findByEmail(_user).orElseThrow(
       () -> new EntityNotFoundException("User not found")
@@ -151,5 +194,6 @@ public class UserService implements UserDetailsService {
     
     ticketRepository.saveAll(assignedTickets);
     userRepository.delete(user);
+    tokenRevocationService.revokeSubject(user.getEmail());
   }
 }
@@ -0,0 +1,42 @@
+CREATE SEQUENCE IF NOT EXISTS ticket_transition_seq
+START WITH 101
+INCREMENT BY 50
+MINVALUE 101
+NO CYCLE;
+
+CREATE TABLE IF NOT EXISTS ticket_transition (
+  id BIGINT PRIMARY KEY NOT NULL,
+  ticket_id BIGINT NOT NULL,
+  from_status VARCHAR(20),
+  to_status VARCHAR(20) NOT NULL,
+  priority VARCHAR(20),
+  assigned_to BIGINT,
+  client_id BIGINT,
+  actor_id BIGINT,
+  opened_at TIMESTAMP NOT NULL,
+  transitioned_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_transition_ticket ON ticket_transition (ticket_id, transitioned_at);
+
+CREATE TABLE IF NOT EXISTS ticket_throughput_rollup (
+  week_start DATE PRIMARY KEY NOT NULL,
+  created BIGINT NOT NULL DEFAULT 0,
+  closed BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS ticket_resolution_rollup (
+  dimension VARCHAR(20) NOT NULL,
+  dimension_key VARCHAR(255) NOT NULL,
+  bucket INT NOT NULL,
+  resolved BIGINT NOT NULL DEFAULT 0,
+  total_seconds BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (dimension, dimension_key, bucket)
+);
+
+INSERT INTO ticket_throughput_rollup (week_start, created, closed)
+SELECT CAST(DATE_TRUNC('week', created_at) AS DATE), COUNT(*), 0
+FROM ticket
+WHERE created_at IS NOT NULL
+GROUP BY CAST(DATE_TRUNC('week', created_at) AS DATE)
+ON CONFLICT (week_start) DO NOTHING;
@@ -0,0 +1,21 @@
+ALTER TABLE activity ADD COLUMN IF NOT EXISTS field VARCHAR(20);
+ALTER TABLE activity ADD COLUMN IF NOT EXISTS old_value TEXT;
+ALTER TABLE activity ADD COLUMN IF NOT EXISTS new_value TEXT;
+ALTER TABLE activity ALTER COLUMN message TYPE TEXT;
+ALTER TABLE activity ALTER COLUMN message DROP NOT NULL;
+
+UPDATE activity
+SET field = 'PRIORITY',
+  old_value = SUBSTRING(message FROM ' change priority from ([A-Z_]+) to [A-Z_]+$'),
+  new_value = SUBSTRING(message FROM ' change priority from [A-Z_]+ to ([A-Z_]+)$'),
+  message = NULL
+WHERE type = 'EDIT' AND message ~ ' change priority from [A-Z_]+ to [A-Z_]+$';
+
+UPDATE activity
+SET field = 'STATUS',
+  old_value = SUBSTRING(message FROM ' change status from ([A-Z_]+) to [A-Z_]+$'),
+  new_value = SUBSTRING(message FROM ' change status from [A-Z_]+ to ([A-Z_]+)$'),
+  message = NULL
+WHERE type = 'EDIT' AND message ~ ' change status from [A-Z_]+ to [A-Z_]+$';
+
+CREATE INDEX IF NOT EXISTS idx_activity_field_created_at ON activity (field, created_at DESC, id DESC) WHERE field IS NOT NULL;
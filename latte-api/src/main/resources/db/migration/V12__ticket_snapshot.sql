@@ -0,0 +1,29 @@
+CREATE SEQUENCE IF NOT EXISTS ticket_snapshot_seq
+START WITH 101
+INCREMENT BY 50
+MINVALUE 101
+NO CYCLE;
+
+CREATE TABLE IF NOT EXISTS ticket_snapshot (
+  id BIGINT PRIMARY KEY NOT NULL,
+  ticket_id BIGINT NOT NULL REFERENCES ticket(id) ON DELETE CASCADE,
+  activity_id BIGINT NOT NULL,
+  taken_at TIMESTAMP NOT NULL,
+  title VARCHAR(255),
+  description TEXT,
+  priority VARCHAR(20),
+  status VARCHAR(20),
+  assigned_to VARCHAR(255),
+  client_name VARCHAR(255)
+);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_snapshot_ticket_taken_at ON ticket_snapshot (ticket_id, taken_at, activity_id);
+
+INSERT INTO ticket_snapshot (id, ticket_id, activity_id, taken_at, title, description, priority, status, assigned_to, client_name)
+SELECT nextval('ticket_snapshot_seq'), t.id, a.id, a.created_at, t.title, t.description, t.priority, t.status, u.first_name, c.name
+FROM ticket t
+JOIN LATERAL (
+  SELECT id, created_at FROM activity WHERE ticket_id = t.id ORDER BY created_at DESC, id DESC LIMIT 1
+) a ON TRUE
+LEFT JOIN _user u ON u.id = t.assigned_to
+LEFT JOIN client c ON c.id = t.client_id;
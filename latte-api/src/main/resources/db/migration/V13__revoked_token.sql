@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS revoked_token (
+  token_key VARCHAR(320) PRIMARY KEY NOT NULL,
+  revoked_at TIMESTAMP NOT NULL,
+  expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_token_revoked_at ON revoked_token (revoked_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_token_expires_at ON revoked_token (expires_at);
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS refresh_token (
+  token_hash CHAR(64) PRIMARY KEY NOT NULL,
+  family_id VARCHAR(36) NOT NULL,
+  subject VARCHAR(255) NOT NULL,
+  expires_at TIMESTAMP NOT NULL,
+  used_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_token_family_id ON refresh_token (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expires_at ON refresh_token (expires_at);
@@ -0,0 +1,5 @@
+DROP INDEX IF EXISTS idx_ticket_changed_at;
+CREATE INDEX IF NOT EXISTS idx_ticket_changed_at ON ticket (COALESCE(last_modified_at, created_at), id);
+
+DROP INDEX IF EXISTS idx_ticket_tombstone_deleted_at;
+CREATE INDEX IF NOT EXISTS idx_ticket_tombstone_deleted_at ON ticket_tombstone (deleted_at, ticket_id);
@@ -0,0 +1,7 @@
+ALTER TABLE ticket_throughput_rollup ADD COLUMN IF NOT EXISTS shard INT NOT NULL DEFAULT 0;
+ALTER TABLE ticket_throughput_rollup DROP CONSTRAINT IF EXISTS ticket_throughput_rollup_pkey;
+ALTER TABLE ticket_throughput_rollup ADD PRIMARY KEY (week_start, shard);
+
+ALTER TABLE ticket_resolution_rollup ADD COLUMN IF NOT EXISTS shard INT NOT NULL DEFAULT 0;
+ALTER TABLE ticket_resolution_rollup DROP CONSTRAINT IF EXISTS ticket_resolution_rollup_pkey;
+ALTER TABLE ticket_resolution_rollup ADD PRIMARY KEY (dimension, dimension_key, bucket, shard);
@@ -0,0 +1,7 @@
+ALTER TABLE ticket_snapshot ADD COLUMN IF NOT EXISTS ticket_version BIGINT;
+
+UPDATE ticket_snapshot s SET ticket_version = t.version
+FROM ticket t
+WHERE t.id = s.ticket_id AND s.ticket_version IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_ticket_snapshot_ticket_version ON ticket_snapshot (ticket_id, ticket_version);
@@ -0,0 +1,19 @@
+UPDATE _user SET created_at = COALESCE(last_modified_at, NOW()) WHERE created_at IS NULL;
+ALTER TABLE _user ALTER COLUMN created_at SET DEFAULT NOW();
+ALTER TABLE _user ALTER COLUMN created_at SET NOT NULL;
+
+UPDATE ticket SET created_at = COALESCE(last_modified_at, NOW()) WHERE created_at IS NULL;
+ALTER TABLE ticket ALTER COLUMN created_at SET DEFAULT NOW();
+ALTER TABLE ticket ALTER COLUMN created_at SET NOT NULL;
+
+UPDATE activity SET created_at = COALESCE(last_modified_at, NOW()) WHERE created_at IS NULL;
+ALTER TABLE activity ALTER COLUMN created_at SET DEFAULT NOW();
+ALTER TABLE activity ALTER COLUMN created_at SET NOT NULL;
+
+UPDATE client SET created_at = COALESCE(last_modified_at, NOW()) WHERE created_at IS NULL;
+ALTER TABLE client ALTER COLUMN created_at SET DEFAULT NOW();
+ALTER TABLE client ALTER COLUMN created_at SET NOT NULL;
+
+UPDATE notification SET timestamp = NOW() WHERE timestamp IS NULL;
+ALTER TABLE notification ALTER COLUMN timestamp SET DEFAULT NOW();
+ALTER TABLE notification ALTER COLUMN timestamp SET NOT NULL;
@@ -0,0 +1,10 @@
+CREATE INDEX IF NOT EXISTS idx_ticket_created_at_id ON ticket (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_ticket_status_created_at_id ON ticket (status, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_activity_ticket_created_at_id ON activity (ticket_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_notification_user_timestamp_id ON notification (user_id, timestamp DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_user_created_at_id ON _user (created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_client_created_at_id ON client (created_at DESC, id DESC);
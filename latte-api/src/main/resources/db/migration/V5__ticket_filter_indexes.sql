@@ -0,0 +1,9 @@
+CREATE INDEX IF NOT EXISTS idx_ticket_status_priority_created_at ON ticket (status, priority, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_ticket_priority_created_at ON ticket (priority, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_assigned_to_status_created_at ON ticket (assigned_to, status, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_ticket_created_by_status_created_at ON ticket (created_by, status, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_ticket_client_status_created_at ON ticket (client_id, status, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_locked_created_at ON ticket (created_at DESC) WHERE lock = TRUE;
+CREATE INDEX IF NOT EXISTS idx_ticket_last_modified_at ON ticket (last_modified_at DESC);
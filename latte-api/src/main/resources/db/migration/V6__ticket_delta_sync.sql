@@ -0,0 +1,8 @@
+CREATE INDEX IF NOT EXISTS idx_ticket_changed_at ON ticket (COALESCE(last_modified_at, created_at));
+
+CREATE TABLE IF NOT EXISTS ticket_tombstone (
+  ticket_id BIGINT PRIMARY KEY NOT NULL,
+  deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_ticket_tombstone_deleted_at ON ticket_tombstone (deleted_at);
@@ -0,0 +1,6 @@
+ALTER SEQUENCE ticket_seq INCREMENT BY 50;
+ALTER SEQUENCE activity_seq INCREMENT BY 50;
+ALTER SEQUENCE notification_seq INCREMENT BY 50;
+ALTER SEQUENCE client_seq INCREMENT BY 10;
+ALTER SEQUENCE role_seq INCREMENT BY 10 MAXVALUE 10000000;
+ALTER SEQUENCE user_seq INCREMENT BY 10;
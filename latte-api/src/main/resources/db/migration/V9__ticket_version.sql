@@ -0,0 +1 @@
+ALTER TABLE ticket ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,116 @@
+package com.example.latte_api.activity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.example.latte_api.activity.enums.ActivityType;
+import com.example.latte_api.role.Role;
+import com.example.latte_api.ticket.Ticket;
+import com.example.latte_api.ticket.TicketRepository;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.user.User;
+import com.example.latte_api.user.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class ActivityInsertBenchmarkTest {
+  private static final int ROWS = 5000;
+  private static final int ALLOCATION_SIZE = 50;
+  private static final int BATCH_SIZE = 50;
+
+  @Container
+  @ServiceConnection
+  private final static PostgreSQLContainer<?> psqlContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:alpine")); 
+
+  @Autowired
+  private ActivityRepository activityRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private TicketRepository ticketRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private User user;
+  private Ticket ticket;
+
+  @BeforeEach
+  void setup() {
+    user = userRepository.save(User.builder()
+      .firstname("Peter")
+      .email("peter@test.in")
+      .password("Peter01")
+      .role(Role.builder().id(101L).role("ROLE_USER").build())
+      .build());
+
+    ticket = ticketRepository.save(Ticket.builder()
+      .title("Test Ticket")
+      .description("Ticket for test")
+      .priority(Priority.LOW)
+      .lock(false)
+      .status(Status.OPEN)
+      .createdBy(user)
+      .build());
+
+    entityManager.flush();
+  }
+
+  @Test
+  void shouldInsert_activities_inJdbcBatches_withPooledIds() {
+    final List<Activity> activities = new ArrayList<>();
+    for (int i = 0; i < ROWS; i++) {
+      activities.add(Activity.builder()
+        .type(ActivityType.EDIT)
+        .message(String.format("Peter edited ticket #%d", i))
+        .author(user)
+        .ticket(ticket)
+        .build());
+    }
+
+    final Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    final long start = System.nanoTime();
+    activityRepository.saveAll(activities);
+    entityManager.flush();
+    final long elapsed = System.nanoTime() - start;
+
+    final long statements = statistics.getPrepareStatementCount();
+    log.info(
+      "Inserted {} activities in {} ms ({} rows/s) using {} prepared statements",
+      ROWS,
+      elapsed / 1_000_000,
+      ROWS * 1_000_000_000L / elapsed,
+      statements
+    );
+
+    Assertions.assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+    Assertions.assertThat(statements).isLessThanOrEqualTo(ROWS / ALLOCATION_SIZE + ROWS / BATCH_SIZE + 2);
+  }
+}
@@ -1,11 +1,13 @@
 package com.example.latte_api.activity;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,10 +22,14 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.example.latte_api.activity.dto.ActivityDto;
+import com.example.latte_api.activity.enums.ActivityField;
 import com.example.latte_api.activity.enums.ActivityType;
 import com.example.latte_api.activity.mapper.ActivityMapper;
+import com.example.latte_api.shared.Cursor;
+import com.example.latte_api.shared.CursorPagedEntity;
 import com.example.latte_api.shared.PagedEntity;
 import com.example.latte_api.ticket.Ticket;
 import com.example.latte_api.user.User;
@@ -38,9 +44,12 @@ public class ActivityServiceTest {
   @Mock
   private ActivityMapper activityMapper;
 
+  @Mock
+  private ActivityWriter activityWriter;
+
   @BeforeEach
   void setup() {
-    activityService = new ActivityService(activityRepository, activityMapper);
+    activityService = new ActivityService(activityRepository, activityMapper, activityWriter);
   }
 
   @AfterEach
@@ -97,6 +106,26 @@ public class ActivityServiceTest {
     Assertions.assertThat(result).isNotNull();
   }
 
+  @Test
+  void shouldHand_activities_toWriter_whenAsyncWriteEnabled() {
+    // mock
+    final Activity first = Mockito.mock(Activity.class);
+    final Activity second = Mockito.mock(Activity.class);
+    final ActivityDto activityDto = Mockito.mock(ActivityDto.class);
+
+    // when
+    when(activityWriter.isEnabled()).thenReturn(true);
+    when(activityMapper.mapToActivityDto(any(Activity.class))).thenReturn(activityDto);
+
+    final List<ActivityDto> result = activityService.saveActivities(List.of(first, second));
+
+    // then
+    verify(activityWriter, times(1)).write(List.of(first, second));
+    verify(activityRepository, times(0)).saveAll(anyList());
+
+    Assertions.assertThat(result).hasSize(2);
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   void shouldReturn_pagedEntity_ofActivityDto_forTicketId() {
@@ -123,6 +152,49 @@ public class ActivityServiceTest {
     Assertions.assertThat(result).isNotNull();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldReturn_pagedEntity_ofChanges_forField() {
+    // mock
+    final Slice<Activity> slice = Mockito.mock(Slice.class);
+    // given
+    final Instant since = Instant.parse("2025-01-01T00:00:00Z");
+
+    // when
+    when(activityRepository.findChangesSince(eq(ActivityField.PRIORITY), eq(since), any(Pageable.class))).thenReturn(slice);
+    when(slice.getContent()).thenReturn(List.of(Mockito.mock(Activity.class)));
+
+    final PagedEntity<ActivityDto> result = activityService.getChanges(ActivityField.PRIORITY, since, 0, 10);
+
+    // then
+    verify(activityRepository, times(1)).findChangesSince(eq(ActivityField.PRIORITY), eq(since), any(Pageable.class));
+    verify(activityMapper, times(1)).mapToActivityDto(any(Activity.class));
+
+    Assertions.assertThat(result).isNotNull();
+  }
+
+  @Test
+  void shouldReturn_cursorPagedEntity_ofActivityDto_forTicketId() {
+    // given
+    final Long id = 101L;
+    final Instant createdAt = Instant.parse("2025-01-01T10:00:00Z");
+    final String cursor = new Cursor(createdAt, 150L).encode();
+    final int size = 10;
+
+    // when
+    when(activityRepository.findNextKeysetForTicket(eq(id), eq(createdAt), eq(150L), any(Pageable.class)))
+      .thenReturn(List.of(Activity.builder().id(149L).createdAt(createdAt).build()));
+
+    final CursorPagedEntity<ActivityDto> result = activityService.scrollActivitiesForTicket(id, cursor, size);
+
+    // then
+    verify(activityRepository, times(1)).findNextKeysetForTicket(eq(id), eq(createdAt), eq(150L), any(Pageable.class));
+    verify(activityMapper, times(1)).mapToActivityDto(any(Activity.class));
+
+    Assertions.assertThat(result.getContent()).hasSize(1);
+    Assertions.assertThat(result.getNext()).isFalse();
+  }
+
   @Test
   void shouldReturn_activity_forId() {
     // mock
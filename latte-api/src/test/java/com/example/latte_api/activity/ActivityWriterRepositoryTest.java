@@ -0,0 +1,157 @@
+package com.example.latte_api.activity;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.example.latte_api.activity.enums.ActivityType;
+import com.example.latte_api.role.Role;
+import com.example.latte_api.ticket.Ticket;
+import com.example.latte_api.ticket.TicketRepository;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.user.User;
+import com.example.latte_api.user.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+  "spring.datasource.hikari.auto-commit=false",
+  "spring.jpa.properties.hibernate.connection.provider_disables_autocommit=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ActivityWriterRepositoryTest {
+  @Container
+  @ServiceConnection
+  private final static PostgreSQLContainer<?> psqlContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:alpine"));
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private ActivityRepository activityRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private TicketRepository ticketRepository;
+
+  private ActivityWriter activityWriter;
+  private User user;
+  private Ticket ticket;
+
+  @BeforeEach
+  void setup() {
+    user = userRepository.save(User.builder()
+      .firstname("Peter")
+      .email("peter@test.in")
+      .password("Peter01")
+      .role(Role.builder().id(101L).role("ROLE_USER").build())
+      .build());
+
+    ticket = ticketRepository.save(Ticket.builder()
+      .title("Test Ticket")
+      .description("Ticket for test")
+      .priority(Priority.LOW)
+      .lock(false)
+      .status(Status.OPEN)
+      .createdBy(user)
+      .build());
+
+    activityWriter = new ActivityWriter(jdbcTemplate, transactionManager, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(activityWriter, "asyncWrite", false);
+    ReflectionTestUtils.setField(activityWriter, "queueCapacity", 1);
+    ReflectionTestUtils.setField(activityWriter, "flushBatchSize", 50);
+    ReflectionTestUtils.setField(activityWriter, "flushInterval", 10L);
+  }
+
+  @AfterEach
+  void purge() {
+    if (activityWriter.isRunning()) {
+      activityWriter.stop();
+    }
+    activityRepository.deleteAll();
+    ticketRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void canEstablishConnection() {
+    Assertions.assertThat(psqlContainer.isCreated()).isTrue();
+    Assertions.assertThat(psqlContainer.isRunning()).isTrue();
+  }
+
+  @Test
+  void shouldPersist_overflowActivities_writtenAfterCommit() {
+    // given
+    final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    // when
+    activityWriter.start();
+    transactionTemplate.executeWithoutResult(status -> activityWriter.write(List.of(activity(), activity(), activity())));
+
+    // then
+    Assertions.assertThat(countActivities()).isEqualTo(2);
+
+    activityWriter.stop();
+
+    Assertions.assertThat(countActivities()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldDiscard_activities_whenTransactionRollsBack() {
+    // given
+    final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    // when
+    activityWriter.start();
+    transactionTemplate.executeWithoutResult(status -> {
+      activityWriter.write(List.of(activity(), activity()));
+      status.setRollbackOnly();
+    });
+    activityWriter.stop();
+
+    // then
+    Assertions.assertThat(countActivities()).isEqualTo(0);
+  }
+
+  private Integer countActivities() {
+    return jdbcTemplate.queryForObject("select count(*) from activity where ticket_id = ?", Integer.class, ticket.getId());
+  }
+
+  private Activity activity() {
+    return Activity.builder()
+      .type(ActivityType.EDIT)
+      .message("Peter edited ticket")
+      .author(user)
+      .ticket(ticket)
+      .build();
+  }
+}
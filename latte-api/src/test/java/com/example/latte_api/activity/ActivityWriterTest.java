@@ -0,0 +1,150 @@
+package com.example.latte_api.activity;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.latte_api.activity.enums.ActivityField;
+import com.example.latte_api.activity.enums.ActivityType;
+import com.example.latte_api.ticket.Ticket;
+import com.example.latte_api.user.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class ActivityWriterTest {
+  private ActivityWriter activityWriter;
+  private MeterRegistry meterRegistry;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    activityWriter = new ActivityWriter(jdbcTemplate, transactionManager, meterRegistry);
+    ReflectionTestUtils.setField(activityWriter, "asyncWrite", true);
+    ReflectionTestUtils.setField(activityWriter, "queueCapacity", 100);
+    ReflectionTestUtils.setField(activityWriter, "flushBatchSize", 50);
+    ReflectionTestUtils.setField(activityWriter, "flushInterval", 10L);
+  }
+
+  @AfterEach
+  void purge() {
+    if (activityWriter.isRunning()) {
+      activityWriter.stop();
+    }
+    activityWriter = null;
+  }
+
+  @Test
+  void shouldAssign_idsFromAllocatedBlock_withoutExtraSequenceCalls() {
+    // when
+    when(jdbcTemplate.queryForObject(ActivityWriter.NEXT_ACTIVITY_ID, Long.class)).thenReturn(101L);
+
+    activityWriter.start();
+    final List<Activity> activities = List.of(activity(), activity(), activity());
+    activityWriter.write(activities);
+    activityWriter.stop();
+
+    // then
+    verify(jdbcTemplate, times(1)).queryForObject(ActivityWriter.NEXT_ACTIVITY_ID, Long.class);
+
+    Assertions.assertThat(activities).extracting(Activity::getId).containsExactly(101L, 102L, 103L);
+    Assertions.assertThat(activities).allMatch(a -> a.getCreatedAt() != null);
+  }
+
+  @Test
+  void shouldFlush_queuedActivities_onStop() {
+    // mock
+    final List<Integer> written = new ArrayList<>();
+
+    // when
+    when(jdbcTemplate.queryForObject(ActivityWriter.NEXT_ACTIVITY_ID, Long.class)).thenReturn(101L);
+    when(jdbcTemplate.batchUpdate(eq(ActivityWriter.INSERT_ACTIVITY), anyList())).thenAnswer(invocation -> {
+      final List<Object[]> rows = invocation.getArgument(1);
+      written.add(rows.size());
+      return new int[rows.size()];
+    });
+
+    activityWriter.start();
+    for (int i = 0; i < 20; i++) {
+      activityWriter.write(List.of(activity()));
+    }
+    activityWriter.stop();
+
+    // then
+    Assertions.assertThat(written.stream().mapToInt(Integer::intValue).sum()).isEqualTo(20);
+    Assertions.assertThat(meterRegistry.get("latte.activity.queue.depth").gauge().value()).isEqualTo(0.0);
+    Assertions.assertThat(meterRegistry.get("latte.activity.flush").timer().count()).isEqualTo(written.size());
+  }
+
+  @Test
+  void shouldWrite_synchronously_whenNotRunning() {
+    // when
+    when(jdbcTemplate.queryForObject(ActivityWriter.NEXT_ACTIVITY_ID, Long.class)).thenReturn(101L);
+
+    activityWriter.start();
+    activityWriter.stop();
+    activityWriter.write(List.of(activity()));
+
+    // then
+    verify(jdbcTemplate, times(1)).batchUpdate(eq(ActivityWriter.INSERT_ACTIVITY), anyList());
+    verify(transactionManager, times(1)).getTransaction(any());
+    verify(transactionManager, times(1)).commit(any());
+  }
+
+  @Test
+  void shouldRetry_rowByRow_andCountDropped_whenBatchFails() {
+    // when
+    when(jdbcTemplate.queryForObject(ActivityWriter.NEXT_ACTIVITY_ID, Long.class)).thenReturn(101L);
+    when(jdbcTemplate.batchUpdate(eq(ActivityWriter.INSERT_ACTIVITY), anyList()))
+      .thenThrow(new DataIntegrityViolationException("ticket deleted"));
+    when(jdbcTemplate.update(eq(ActivityWriter.INSERT_ACTIVITY), any(Object[].class)))
+      .thenReturn(1)
+      .thenThrow(new DataIntegrityViolationException("ticket deleted"));
+
+    activityWriter.start();
+    activityWriter.stop();
+    activityWriter.write(List.of(activity(), activity()));
+
+    // then
+    verify(jdbcTemplate, times(2)).update(eq(ActivityWriter.INSERT_ACTIVITY), any(Object[].class));
+    verify(transactionManager, times(2)).rollback(any());
+
+    Assertions.assertThat(meterRegistry.get("latte.activity.dropped").counter().count()).isEqualTo(1.0);
+  }
+
+  private Activity activity() {
+    return Activity.builder()
+      .type(ActivityType.EDIT)
+      .author(User.builder().id(101L).firstname("Peter").build())
+      .ticket(Ticket.builder().id(101L).build())
+      .field(ActivityField.TITLE)
+      .oldValue("Title")
+      .newValue("New Title")
+      .build();
+  }
+}
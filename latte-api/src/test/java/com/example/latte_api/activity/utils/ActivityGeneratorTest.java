@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.example.latte_api.activity.Activity;
+import com.example.latte_api.activity.enums.ActivityField;
 import com.example.latte_api.activity.enums.ActivityType;
 import com.example.latte_api.ticket.Ticket;
 import com.example.latte_api.ticket.enums.Priority;
@@ -105,7 +106,7 @@ public class ActivityGeneratorTest {
       .build();
 
     // when
-    final Activity result = activityGenerator.descriptionChanged(user, ticket);
+    final Activity result = activityGenerator.descriptionChanged(user, ticket, "description", "New description");
 
     // then
     Assertions.assertThat(result).isNotNull();
@@ -113,6 +114,9 @@ public class ActivityGeneratorTest {
     Assertions.assertThat(result.getTicket()).isEqualTo(ticket);
     Assertions.assertThat(result.getType()).isEqualTo(ActivityType.EDIT);
     Assertions.assertThat(result.getMessage()).isEqualTo("Peter edited the description of ticket");
+    Assertions.assertThat(result.getField()).isEqualTo(ActivityField.DESCRIPTION);
+    Assertions.assertThat(result.getOldValue()).isEqualTo("description");
+    Assertions.assertThat(result.getNewValue()).isEqualTo("New description");
   }
   
   @Test
@@ -177,6 +181,9 @@ public class ActivityGeneratorTest {
     Assertions.assertThat(result.getTicket()).isEqualTo(ticket);
     Assertions.assertThat(result.getType()).isEqualTo(ActivityType.EDIT);
     Assertions.assertThat(result.getMessage()).isEqualTo("Peter unassigned Louis");
+    Assertions.assertThat(result.getField()).isEqualTo(ActivityField.ASSIGNEE);
+    Assertions.assertThat(result.getOldValue()).isEqualTo("Louis");
+    Assertions.assertThat(result.getNewValue()).isNull();
   }
 
   @Test
@@ -241,6 +248,9 @@ public class ActivityGeneratorTest {
     Assertions.assertThat(result.getTicket()).isEqualTo(ticket);
     Assertions.assertThat(result.getType()).isEqualTo(ActivityType.EDIT);
     Assertions.assertThat(result.getMessage()).isEqualTo("Peter change priority from LOW to MEDIUM");
+    Assertions.assertThat(result.getField()).isEqualTo(ActivityField.PRIORITY);
+    Assertions.assertThat(result.getOldValue()).isEqualTo("LOW");
+    Assertions.assertThat(result.getNewValue()).isEqualTo("MEDIUM");
   }
 
   @Test
@@ -266,10 +266,73 @@ public class AuthControllerTest {
 
     Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     Assertions.assertThat(response.getBody().email()).isEqualTo(cred.email());
-    Assertions.assertThat(response.getBody().refreshToken()).isEqualTo(cred.refreshToken());
+    Assertions.assertThat(response.getBody().refreshToken()).isNotEqualTo(cred.refreshToken());
     Assertions.assertThat(response.getBody().accessToken()).isNotEmpty();
   }
 
+  @Test
+  void shouldReturnUnauthorized_onRefreshToken_whenTokenReused() {
+    final AuthResponse cred = userCred();
+
+    final HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer " + cred.refreshToken());
+
+    final ResponseEntity<AuthResponse> rotated = testRestTemplate.exchange(
+      BASE_URI + "/refresh",
+      HttpMethod.POST,
+      new HttpEntity<>(null, headers),
+      AuthResponse.class
+    );
+
+    final ResponseEntity<ErrorResponse> response = testRestTemplate.exchange(
+      BASE_URI + "/refresh",
+      HttpMethod.POST,
+      new HttpEntity<>(null, headers),
+      ErrorResponse.class
+    );
+
+    final HttpHeaders rotatedHeaders = new HttpHeaders();
+    rotatedHeaders.add("Authorization", "Bearer " + rotated.getBody().refreshToken());
+
+    final ResponseEntity<ErrorResponse> familyResponse = testRestTemplate.exchange(
+      BASE_URI + "/refresh",
+      HttpMethod.POST,
+      new HttpEntity<>(null, rotatedHeaders),
+      ErrorResponse.class
+    );
+
+    Assertions.assertThat(rotated.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    Assertions.assertThat(familyResponse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  void shouldReturnUnauthorized_onRefreshToken_afterLogout() {
+    final AuthResponse cred = userCred();
+
+    final HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer " + cred.accessToken());
+
+    testRestTemplate.exchange(
+      BASE_URI + "/logout",
+      HttpMethod.POST,
+      new HttpEntity<>(null, headers),
+      new ParameterizedTypeReference<Map<String, Boolean>>() {}
+    );
+
+    final HttpHeaders refreshHeaders = new HttpHeaders();
+    refreshHeaders.add("Authorization", "Bearer " + cred.refreshToken());
+
+    final ResponseEntity<ErrorResponse> response = testRestTemplate.exchange(
+      BASE_URI + "/refresh",
+      HttpMethod.POST,
+      new HttpEntity<>(null, refreshHeaders),
+      ErrorResponse.class
+    );
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
   @Test
   void shouldReturnUnauthorized_onRefreshToken_withInvalidToken() {
     final HttpHeaders headers = new HttpHeaders();
@@ -332,6 +395,23 @@ public class AuthControllerTest {
     Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
   }
 
+  @Test
+  void shouldReturnForbidden_onVerify_withRefreshToken() {
+    final AuthResponse cred = userCred();
+
+    final HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer " + cred.refreshToken());
+
+    final ResponseEntity<ErrorResponse> response = testRestTemplate.exchange(
+      BASE_URI + "/verify",
+      HttpMethod.POST,
+      new HttpEntity<>(null, headers),
+      ErrorResponse.class
+    );
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+  }
+
   @Test
   void shouldReturnForbidden_onVerify_whenRequestMissingAuthorizationHeader() {
     final ResponseEntity<ErrorResponse> response = testRestTemplate.exchange(
@@ -6,6 +6,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,9 +38,13 @@ import com.example.latte_api.role.authority.Authority;
 import com.example.latte_api.role.dto.RoleResponse;
 import com.example.latte_api.role.mapper.RoleMapper;
 import com.example.latte_api.security.JwtProvider;
+import com.example.latte_api.security.refresh.RefreshTokenService;
+import com.example.latte_api.security.revocation.TokenRevocationService;
 import com.example.latte_api.user.User;
 import com.example.latte_api.user.UserRepository;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.http.HttpServletRequest;
 
 @ExtendWith(MockitoExtension.class)
@@ -63,12 +69,18 @@ public class AuthServiceTest {
   @Mock
   private RoleMapper roleMapper;
 
+  @Mock
+  private TokenRevocationService tokenRevocationService;
+
+  @Mock
+  private RefreshTokenService refreshTokenService;
+
   @Captor
   private ArgumentCaptor<User> useCaptor;
 
   @BeforeEach
   void setup() {
-  authService = new AuthService(userRepository, roleRepository, roleMapper, passwordEncoder, authenticationManager, jwtProvider);
+  authService = new AuthService(userRepository, roleRepository, roleMapper, passwordEncoder, authenticationManager, jwtProvider, tokenRevocationService, refreshTokenService);
   }
 
   @AfterEach
@@ -89,8 +101,9 @@ public class AuthServiceTest {
     when(userRepository.findByEmailOrFirstname(request.email(), request.firstname())).thenReturn(Optional.empty());
     when(roleRepository.findByRole(request.role())).thenReturn(Optional.of(role));
     when(passwordEncoder.encode(request.password())).thenReturn(encodedPass);
-    when(jwtProvider.generateToken(eq("peter@test.in"), eq(Map.of()))).thenReturn("access-token");
-    when(jwtProvider.generateToken(eq("peter@test.in"), eq(Map.of()), eq(604800))).thenReturn("refresh-token");
+    when(refreshTokenService.newFamily()).thenReturn("family-id");
+    when(jwtProvider.generateToken(eq("peter@test.in"), eq(Map.of(RefreshTokenService.FAMILY_CLAIM, "family-id")))).thenReturn("access-token");
+    when(refreshTokenService.issue("peter@test.in", "family-id")).thenReturn("refresh-token");
 
     final AuthResponse result = authService.registerUser(request);
 
@@ -98,8 +111,8 @@ public class AuthServiceTest {
     verify(userRepository, times(1)).findByEmailOrFirstname(request.email(), request.firstname());
     verify(roleRepository, times(1)).findByRole(request.role());
     verify(userRepository, times(1)).save(useCaptor.capture());
-    verify(jwtProvider, times(1)).generateToken(eq("peter@test.in"), eq(Map.of()));
-    verify(jwtProvider, times(1)).generateToken(eq("peter@test.in"), eq(Map.of()), eq(604800));
+    verify(jwtProvider, times(1)).generateToken(eq("peter@test.in"), eq(Map.of(RefreshTokenService.FAMILY_CLAIM, "family-id")));
+    verify(refreshTokenService, times(1)).issue("peter@test.in", "family-id");
 
     final User saved = useCaptor.getValue();
 
@@ -162,9 +175,10 @@ public class AuthServiceTest {
     // when
     when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(authentication);
     when(authentication.getPrincipal()).thenReturn(user);
-    when(jwtProvider.generateToken(eq(user.getEmail()), eq(Map.of())))
+    when(refreshTokenService.newFamily()).thenReturn("family-id");
+    when(jwtProvider.generateToken(eq(user.getEmail()), eq(Map.of(RefreshTokenService.FAMILY_CLAIM, "family-id"))))
       .thenReturn(accessToken);
-    when(jwtProvider.generateToken(eq(user.getEmail()), eq(Map.of()), eq(604800)))
+    when(refreshTokenService.issue(user.getEmail(), "family-id"))
       .thenReturn(refreshToken);
     when(roleMapper.mapToRoleResponse(role)).thenReturn(roleResponse);
 
@@ -175,9 +189,9 @@ public class AuthServiceTest {
       .authenticate(any(UsernamePasswordAuthenticationToken.class));
     verify(authentication, times(1)).getPrincipal();
     verify(jwtProvider, times(1))
-      .generateToken(eq(user.getEmail()), eq(Map.of()));
-    verify(jwtProvider, times(1))
-      .generateToken(eq(user.getEmail()), eq(Map.of()), eq(604800));
+      .generateToken(eq(user.getEmail()), eq(Map.of(RefreshTokenService.FAMILY_CLAIM, "family-id")));
+    verify(refreshTokenService, times(1))
+      .issue(user.getEmail(), "family-id");
     verify(roleMapper, times(1))
       .mapToRoleResponse(role);
 
@@ -215,15 +229,18 @@ public class AuthServiceTest {
       .build();
     final String username = "peter@test.in";
     final String refershToken = "refresh-token";
+    final String rotatedToken = "rotated-token";
     final String accessToken = "access-token";
+    final Claims claims = Jwts.claims().subject(username).add(RefreshTokenService.FAMILY_CLAIM, "family-id").build();
     final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
 
     // when
     when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + refershToken);
-    when(jwtProvider.getUsername(refershToken)).thenReturn(username);
+    when(jwtProvider.extractAllClaims(refershToken)).thenReturn(claims);
     when(userRepository.findByEmail(username)).thenReturn(Optional.of(user));
-    when(jwtProvider.validToken(user, refershToken)).thenReturn(true);
-    when(jwtProvider.generateToken(eq(user.getEmail()), eq(Map.of())))
+    when(jwtProvider.validToken(user, claims)).thenReturn(true);
+    when(refreshTokenService.rotate(refershToken, claims)).thenReturn(rotatedToken);
+    when(jwtProvider.generateToken(eq(user.getEmail()), eq(Map.of(RefreshTokenService.FAMILY_CLAIM, "family-id"))))
       .thenReturn(accessToken);
     when(roleMapper.mapToRoleResponse(role)).thenReturn(roleResponse);
 
@@ -231,16 +248,18 @@ public class AuthServiceTest {
     
     // then
     verify(request, times(1)).getHeader(HttpHeaders.AUTHORIZATION);
-    verify(jwtProvider, times(1)).getUsername(refershToken);
+    verify(jwtProvider, times(1)).extractAllClaims(refershToken);
+    verify(tokenRevocationService, times(1)).isRevoked(claims);
     verify(userRepository, times(1)).findByEmail(username);
-    verify(jwtProvider, times(1)).validToken(user, refershToken);
-    verify(jwtProvider, times(1)).generateToken(eq(user.getEmail()), eq(Map.of()));
+    verify(jwtProvider, times(1)).validToken(user, claims);
+    verify(refreshTokenService, times(1)).rotate(refershToken, claims);
+    verify(jwtProvider, times(1)).generateToken(eq(user.getEmail()), eq(Map.of(RefreshTokenService.FAMILY_CLAIM, "family-id")));
     verify(roleMapper, times(1)).mapToRoleResponse(role);
 
     Assertions.assertThat(result).isNotNull();
     Assertions.assertThat(result.email()).isEqualTo(username);
     Assertions.assertThat(result.accessToken()).isEqualTo(accessToken);
-    Assertions.assertThat(result.refreshToken()).isEqualTo(refershToken);
+    Assertions.assertThat(result.refreshToken()).isEqualTo(rotatedToken);
   }
 
   @Test
@@ -276,7 +295,7 @@ public class AuthServiceTest {
 
     // when
     when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + refreshToken);
-    when(jwtProvider.getUsername(refreshToken)).thenReturn(null);
+    when(jwtProvider.extractAllClaims(refreshToken)).thenReturn(Jwts.claims().build());
     
     //then
     Assertions.assertThatThrownBy(() -> authService.refreshToken(request));
@@ -287,11 +306,12 @@ public class AuthServiceTest {
     // mock
     final String refreshToken = "refresh-token";
     final String username = "louis@gmail.com";
+    final Claims claims = Jwts.claims().subject(username).build();
     final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
 
     // when
     when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + refreshToken);
-    when(jwtProvider.getUsername(refreshToken)).thenReturn(username);
+    when(jwtProvider.extractAllClaims(refreshToken)).thenReturn(claims);
     when(userRepository.findByEmail(username)).thenReturn(Optional.empty());
     
     //then
@@ -304,15 +324,57 @@ public class AuthServiceTest {
     final String refreshToken = "refresh-token";
     final String username = "louis@gmail.com";
     final User user = Mockito.mock(User.class);
+    final Claims claims = Jwts.claims().subject(username).build();
     final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
 
     // when
     when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + refreshToken);
-    when(jwtProvider.getUsername(refreshToken)).thenReturn(username);
+    when(jwtProvider.extractAllClaims(refreshToken)).thenReturn(claims);
     when(userRepository.findByEmail(username)).thenReturn(Optional.of(user));
-    when(jwtProvider.validToken(user, refreshToken)).thenReturn(false);
+    when(jwtProvider.validToken(user, claims)).thenReturn(false);
     
     //then
     Assertions.assertThatThrownBy(() -> authService.refreshToken(request));
   }
+
+  @Test
+  void shouldThrow_exception_forRefreshToken_ifTokenRevoked() {
+    // mock
+    final String refreshToken = "refresh-token";
+    final Claims claims = Jwts.claims().subject("peter@test.in").build();
+    final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+
+    // when
+    when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + refreshToken);
+    when(jwtProvider.extractAllClaims(refreshToken)).thenReturn(claims);
+    when(tokenRevocationService.isRevoked(claims)).thenReturn(true);
+
+    //then
+    Assertions.assertThatThrownBy(() -> authService.refreshToken(request));
+    verify(userRepository, times(0)).findByEmail(any());
+  }
+
+  @Test
+  void shouldRevoke_presentedToken_onLogout() {
+    // mock
+    final String accessToken = "access-token";
+    final Instant expiresAt = Instant.parse("2025-01-01T10:00:00Z");
+    final Claims claims = Jwts.claims()
+      .subject("peter@test.in")
+      .id("token-id")
+      .expiration(Date.from(expiresAt))
+      .add(RefreshTokenService.FAMILY_CLAIM, "family-id")
+      .build();
+    final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+
+    // when
+    when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + accessToken);
+    when(jwtProvider.extractAllClaims(accessToken)).thenReturn(claims);
+
+    authService.logout(request);
+
+    // then
+    verify(tokenRevocationService, times(1)).revokeToken("token-id", expiresAt);
+    verify(refreshTokenService, times(1)).revokeFamily("family-id");
+  }
 }
@@ -122,7 +122,7 @@ public class CommentServiceTest {
 
     final User user = Mockito.mock(User.class);
     final Ticket ticket = Mockito.mock(Ticket.class);
-    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", user, ticket);
+    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", user, ticket, null, null, null);
 
     // given
     final Authentication authentication = Mockito.mock(Authentication.class);
@@ -150,7 +150,7 @@ public class CommentServiceTest {
   void shouldThrow_exception_whenUpdateTicket_ticketIsLock() {
     final User user = Mockito.mock(User.class);
     final Ticket ticket = Mockito.mock(Ticket.class);
-    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", user, ticket);
+    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", user, ticket, null, null, null);
 
     // given
     final Authentication authentication = Mockito.mock(Authentication.class);
@@ -170,7 +170,7 @@ public class CommentServiceTest {
   void shouldThrow_exception_whenUpdateTicket_userNotOwner() {
     final User user = Mockito.mock(User.class);
     final Ticket ticket = Mockito.mock(Ticket.class);
-    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", User.builder().email("noowner@test.in").build(), ticket);
+    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", User.builder().email("noowner@test.in").build(), ticket, null, null, null);
 
     // given
     final Authentication authentication = Mockito.mock(Authentication.class);
@@ -190,7 +190,7 @@ public class CommentServiceTest {
   void shouldThrow_exception_whenUpdateTicket_ifNotComment() {
     final User user = Mockito.mock(User.class);
     final Ticket ticket = Mockito.mock(Ticket.class);
-    final Activity activity = new Activity(101L, ActivityType.EDIT, "comment", User.builder().email("noowner@test.in").build(), ticket);
+    final Activity activity = new Activity(101L, ActivityType.EDIT, "comment", User.builder().email("noowner@test.in").build(), ticket, null, null, null);
 
     // given
     final Authentication authentication = Mockito.mock(Authentication.class);
@@ -227,7 +227,7 @@ public class CommentServiceTest {
     // mock
     final User user = Mockito.mock(User.class);
     final Ticket ticket = Mockito.mock(Ticket.class);
-    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", user, ticket);
+    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", user, ticket, null, null, null);
 
     // given
     final Authentication authentication = Mockito.mock(Authentication.class);
@@ -251,7 +251,7 @@ public class CommentServiceTest {
     // mock
     final User user = Mockito.mock(User.class);
     final Ticket ticket = Mockito.mock(Ticket.class);
-    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", user, ticket);
+    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", user, ticket, null, null, null);
 
     // given
     final Authentication authentication = Mockito.mock(Authentication.class);
@@ -271,7 +271,7 @@ public class CommentServiceTest {
     // mock
     final User user = Mockito.mock(User.class);
     final Ticket ticket = Mockito.mock(Ticket.class);
-    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", User.builder().email("noowner@test.in").build(), ticket);
+    final Activity activity = new Activity(101L, ActivityType.COMMENT, "comment", User.builder().email("noowner@test.in").build(), ticket, null, null, null);
 
     // given
     final Authentication authentication = Mockito.mock(Authentication.class);
@@ -292,7 +292,7 @@ public class CommentServiceTest {
     // mock
     final User user = Mockito.mock(User.class);
     final Ticket ticket = Mockito.mock(Ticket.class);
-    final Activity activity = new Activity(101L, ActivityType.EDIT, "comment", user, ticket);
+    final Activity activity = new Activity(101L, ActivityType.EDIT, "comment", user, ticket, null, null, null);
 
     // given
     final Authentication authentication = Mockito.mock(Authentication.class);
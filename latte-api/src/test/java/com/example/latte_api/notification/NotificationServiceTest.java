@@ -23,6 +23,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -108,6 +110,28 @@ public class NotificationServiceTest {
     Assertions.assertThat(result.getContent()).hasSize(2);
   }
 
+  @Test
+  void shouldGet_notificationSliceoF_user_whenCountDisabled() {
+    final User user = Mockito.mock(User.class);
+    final List<Notification> notifications = List.of(new Notification(101L, "message1", Instant.now(), user));
+    final Pageable pageable = PageRequest.of(0, 2, Sort.by(Direction.DESC, "timestamp"));
+    final Slice<Notification> slice = new SliceImpl<>(notifications, pageable, false);
+
+    final Authentication authentication = Mockito.mock(Authentication.class);
+
+    when(authentication.getPrincipal()).thenReturn(user);
+    when(notificationRepository.findSliceByUser(user, pageable)).thenReturn(slice);
+
+    final PagedEntity<NotificationDto> result = notificationService.getUserNotification(0, 2, false, authentication);
+
+    verify(notificationRepository, times(1)).findSliceByUser(user, pageable);
+    verify(notificationRepository, times(0)).findByUser(user, pageable);
+    
+    Assertions.assertThat(result.getContent()).hasSize(1);
+    Assertions.assertThat(result.getNext()).isFalse();
+    Assertions.assertThat(result.getTotalElement()).isNull();
+  }
+
   @Test
   void shouldDelete_notificationById() {
     final Notification notification = Mockito.mock(Notification.class);
@@ -0,0 +1,151 @@
+package com.example.latte_api.report;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.example.latte_api.auth.dto.AuthRequest;
+import com.example.latte_api.auth.dto.AuthResponse;
+import com.example.latte_api.report.dto.ResolutionReport;
+import com.example.latte_api.report.dto.ThroughputReport;
+import com.example.latte_api.role.Role;
+import com.example.latte_api.role.RoleRepository;
+import com.example.latte_api.ticket.TicketRepository;
+import com.example.latte_api.ticket.dto.TicketImportResult;
+import com.example.latte_api.user.User;
+import com.example.latte_api.user.UserRepository;
+
+@Testcontainers
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class ReportControllerTest {
+  @Container
+  @ServiceConnection
+  private final static PostgreSQLContainer<?> psqlContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:alpine"));
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private RoleRepository roleRepository;
+
+  @Autowired
+  private TicketRepository ticketRepository;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private TestRestTemplate testRestTemplate;
+
+  private final String BASE_URI = "/latte-api/v1/reports";
+
+  private User adminUser;
+
+  @BeforeEach
+  void setup() {
+    Role admin = roleRepository.findByRole("Admin").orElseThrow();
+
+    adminUser = userRepository.save(User.builder()
+      .firstname("Admin")
+      .email("admin@test.in")
+      .editable(true)
+      .deletable(true)
+      .password(passwordEncoder.encode("password"))
+      .role(admin)
+      .build());
+  }
+
+  @AfterEach
+  void purge() {
+    ticketRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void canEstablishConnection() {
+    Assertions.assertThat(psqlContainer.isCreated()).isTrue();
+    Assertions.assertThat(psqlContainer.isRunning()).isTrue();
+  }
+
+  @Test
+  void shouldInclude_importedTickets_inReports() {
+    final HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer " + adminCred().accessToken());
+    headers.setContentType(MediaType.TEXT_PLAIN);
+
+    final String csv = "title,description,priority,status,created_by_email,assigned_to_email,created_at,last_updated\n"
+      + "First,description,LOW,OPEN,admin@test.in,,2024-01-02T10:00:00Z,\n"
+      + "Second,description,LOW,IN_PROGRESS,admin@test.in,,2024-01-03T10:00:00Z,\n"
+      + "Third,description,HIGH,CLOSE,admin@test.in,admin@test.in,2024-01-02T10:00:00Z,2024-01-02T12:00:00Z\n";
+
+    final ResponseEntity<TicketImportResult> imported = testRestTemplate.exchange(
+      "/latte-api/v1/tickets/import?format=CSV",
+      HttpMethod.POST,
+      new HttpEntity<>(csv, headers),
+      TicketImportResult.class
+    );
+
+    Assertions.assertThat(imported.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    Assertions.assertThat(imported.getBody().imported()).isEqualTo(3);
+
+    final ResponseEntity<List<ThroughputReport>> throughput = testRestTemplate.exchange(
+      BASE_URI + "/throughput?from=2024-01-01&to=2024-01-07",
+      HttpMethod.GET,
+      new HttpEntity<>(headers),
+      new ParameterizedTypeReference<List<ThroughputReport>>() {}
+    );
+
+    Assertions.assertThat(throughput.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(throughput.getBody()).singleElement().satisfies(r -> {
+      Assertions.assertThat(r.created()).isEqualTo(3L);
+      Assertions.assertThat(r.closed()).isEqualTo(1L);
+    });
+
+    final ResponseEntity<List<ResolutionReport>> resolution = testRestTemplate.exchange(
+      BASE_URI + "/resolution?dimension=ASSIGNEE",
+      HttpMethod.GET,
+      new HttpEntity<>(headers),
+      new ParameterizedTypeReference<List<ResolutionReport>>() {}
+    );
+
+    Assertions.assertThat(resolution.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(resolution.getBody()).filteredOn(r -> r.key().equals(adminUser.getId().toString()))
+      .singleElement()
+      .satisfies(r -> {
+        Assertions.assertThat(r.resolved()).isEqualTo(1L);
+        Assertions.assertThat(r.meanSeconds()).isEqualTo(7200L);
+      });
+  }
+
+  private AuthResponse adminCred() {
+    final ResponseEntity<AuthResponse> response = testRestTemplate.exchange(
+      "/latte-api/v1/auth/login",
+      HttpMethod.POST,
+      new HttpEntity<>(new AuthRequest("admin@test.in", "password")),
+      AuthResponse.class
+    );
+    return response.getBody();
+  }
+}
@@ -0,0 +1,254 @@
+package com.example.latte_api.report;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.latte_api.report.dto.ResolutionReport;
+import com.example.latte_api.report.dto.ThroughputReport;
+import com.example.latte_api.report.enums.ReportDimension;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportServiceTest {
+  private ReportService reportService;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private TicketTransitionRepository ticketTransitionRepository;
+
+  @Captor
+  ArgumentCaptor<List<Object[]>> rowsCaptor;
+
+  @BeforeEach
+  void setup() {
+    reportService = new ReportService(jdbcTemplate, ticketTransitionRepository);
+    ReflectionTestUtils.setField(reportService, "throughputWeeks", 4);
+    ReflectionTestUtils.setField(reportService, "rollupShards", 1);
+  }
+
+  @AfterEach
+  void purge() {
+    reportService = null;
+  }
+
+  @Test
+  void shouldIncrement_createdCount_whenTicketOpened() {
+    // given
+    final TicketTransition transition = transition(null, Status.OPEN, "2025-01-08T10:00:00Z", "2025-01-08T10:00:00Z");
+
+    // when
+    reportService.recordTransitions(List.of(transition));
+
+    // then
+    verify(ticketTransitionRepository, times(1)).saveAll(List.of(transition));
+    verify(jdbcTemplate, times(1)).batchUpdate(eq(ReportService.UPSERT_THROUGHPUT), rowsCaptor.capture());
+    verify(jdbcTemplate, times(0)).batchUpdate(eq(ReportService.UPSERT_RESOLUTION), anyList());
+
+    final List<Object[]> rows = rowsCaptor.getValue();
+
+    Assertions.assertThat(rows).hasSize(1);
+    Assertions.assertThat(rows.get(0)).containsExactly(Date.valueOf("2025-01-06"), 0, 1L, 0L);
+  }
+
+  @Test
+  void shouldAggregate_rollupRows_whenTicketsClosed() {
+    // given
+    final TicketTransition first = transition(Status.OPEN, Status.CLOSE, "2025-01-06T10:00:00Z", "2025-01-06T11:00:00Z");
+    final TicketTransition second = transition(Status.IN_PROGRESS, Status.CLOSE, "2025-01-07T10:00:00Z", "2025-01-07T11:00:00Z");
+    second.setTicketId(102L);
+
+    // when
+    reportService.recordTransitions(List.of(first, second));
+
+    // then
+    verify(jdbcTemplate, times(1)).batchUpdate(eq(ReportService.UPSERT_THROUGHPUT), rowsCaptor.capture());
+    Assertions.assertThat(rowsCaptor.getValue()).hasSize(1);
+    Assertions.assertThat(rowsCaptor.getValue().get(0)).containsExactly(Date.valueOf("2025-01-06"), 0, 0L, 2L);
+
+    verify(jdbcTemplate, times(1)).batchUpdate(eq(ReportService.UPSERT_RESOLUTION), rowsCaptor.capture());
+    final List<Object[]> rows = rowsCaptor.getValue();
+    final int bucket = ReportService.bucketOf(3600);
+
+    Assertions.assertThat(rows).hasSize(3);
+    Assertions.assertThat(rows.get(0)).containsExactly("PRIORITY", "HIGH", bucket, 0, 2L, 7200L);
+    Assertions.assertThat(rows.get(1)).containsExactly("ASSIGNEE", "102", bucket, 0, 2L, 7200L);
+    Assertions.assertThat(rows.get(2)).containsExactly("CLIENT", "NONE", bucket, 0, 2L, 7200L);
+  }
+
+  @Test
+  void shouldRetract_previousClose_whenTicketReopened() {
+    // mock
+    final TicketTransition closed = transition(Status.OPEN, Status.CLOSE, "2025-01-06T10:00:00Z", "2025-01-06T11:00:00Z");
+
+    // given
+    final TicketTransition reopened = transition(Status.CLOSE, Status.OPEN, "2025-01-06T10:00:00Z", "2025-01-14T10:00:00Z");
+
+    // when
+    when(ticketTransitionRepository.findLatestByTicketIdIn(List.of(101L))).thenReturn(List.of(closed));
+
+    reportService.recordTransitions(List.of(reopened));
+
+    // then
+    Assertions.assertThat(reopened.getOpenedAt()).isEqualTo(Instant.parse("2025-01-14T10:00:00Z"));
+
+    verify(jdbcTemplate, times(1)).batchUpdate(eq(ReportService.UPSERT_THROUGHPUT), rowsCaptor.capture());
+    Assertions.assertThat(rowsCaptor.getValue()).hasSize(1);
+    Assertions.assertThat(rowsCaptor.getValue().get(0)).containsExactly(Date.valueOf("2025-01-06"), 0, 0L, -1L);
+
+    verify(jdbcTemplate, times(1)).batchUpdate(eq(ReportService.UPSERT_RESOLUTION), rowsCaptor.capture());
+    final int bucket = ReportService.bucketOf(3600);
+
+    Assertions.assertThat(rowsCaptor.getValue()).hasSize(3);
+    Assertions.assertThat(rowsCaptor.getValue().get(0)).containsExactly("PRIORITY", "HIGH", bucket, 0, -1L, -3600L);
+  }
+
+  @Test
+  void shouldMeasure_resolution_fromLastReopen() {
+    // mock
+    final TicketTransition reopened = transition(Status.CLOSE, Status.OPEN, "2025-01-14T10:00:00Z", "2025-01-14T10:00:00Z");
+
+    // given
+    final TicketTransition closed = transition(Status.OPEN, Status.CLOSE, "2025-01-01T10:00:00Z", "2025-01-14T12:00:00Z");
+
+    // when
+    when(ticketTransitionRepository.findLatestByTicketIdIn(List.of(101L))).thenReturn(List.of(reopened));
+
+    reportService.recordTransitions(List.of(closed));
+
+    // then
+    Assertions.assertThat(closed.getOpenedAt()).isEqualTo(Instant.parse("2025-01-14T10:00:00Z"));
+
+    verify(jdbcTemplate, times(1)).batchUpdate(eq(ReportService.UPSERT_RESOLUTION), rowsCaptor.capture());
+    Assertions.assertThat(rowsCaptor.getValue().get(0)).containsExactly("PRIORITY", "HIGH", ReportService.bucketOf(7200), 0, 1L, 7200L);
+  }
+
+  @Test
+  void shouldCount_ticketOnce_whenClosedReopenedAndClosedInOneBatch() {
+    // given
+    final TicketTransition first = transition(Status.OPEN, Status.CLOSE, "2025-01-06T10:00:00Z", "2025-01-06T11:00:00Z");
+    final TicketTransition reopened = transition(Status.CLOSE, Status.OPEN, "2025-01-06T10:00:00Z", "2025-01-06T12:00:00Z");
+    final TicketTransition second = transition(Status.OPEN, Status.CLOSE, "2025-01-06T10:00:00Z", "2025-01-06T12:30:00Z");
+
+    // when
+    reportService.recordTransitions(List.of(first, reopened, second));
+
+    // then
+    verify(jdbcTemplate, times(1)).batchUpdate(eq(ReportService.UPSERT_THROUGHPUT), rowsCaptor.capture());
+    Assertions.assertThat(rowsCaptor.getValue().get(0)).containsExactly(Date.valueOf("2025-01-06"), 0, 0L, 1L);
+
+    verify(jdbcTemplate, times(1)).batchUpdate(eq(ReportService.UPSERT_RESOLUTION), rowsCaptor.capture());
+    Assertions.assertThat(rowsCaptor.getValue()).filteredOn(row -> row[0].equals("PRIORITY") && (long) row[4] != 0)
+      .singleElement()
+      .satisfies(row -> Assertions.assertThat(row).containsExactly("PRIORITY", "HIGH", ReportService.bucketOf(1800), 0, 1L, 1800L));
+  }
+
+  @Test
+  void shouldNotTouch_rollups_whenNoTransitions() {
+    // when
+    reportService.recordTransitions(List.of());
+
+    // then
+    verify(ticketTransitionRepository, times(0)).saveAll(anyList());
+    verify(jdbcTemplate, times(0)).batchUpdate(any(String.class), anyList());
+  }
+
+  @Test
+  void shouldPlace_seconds_inBucketContainingThem() {
+    for (long seconds : new long[] {1, 59, 3600, 86400, 604800}) {
+      final int bucket = ReportService.bucketOf(seconds);
+      final long midpoint = ReportService.bucketMidpoint(bucket);
+
+      Assertions.assertThat(Math.abs(midpoint - seconds)).isLessThanOrEqualTo((long) Math.ceil(seconds * 0.1));
+    }
+    Assertions.assertThat(ReportService.bucketOf(0)).isEqualTo(0);
+    Assertions.assertThat(ReportService.bucketMidpoint(0)).isEqualTo(0);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldReturn_medianAndMean_fromRollupBuckets() {
+    // mock
+    final int hour = ReportService.bucketOf(3600);
+    final int day = ReportService.bucketOf(86400);
+
+    // when
+    when(jdbcTemplate.query(eq(ReportService.SELECT_RESOLUTION), any(RowMapper.class), eq("PRIORITY"))).thenReturn(List.of(
+      new ReportService.ResolutionBucket("HIGH", hour, 3L, 10800L),
+      new ReportService.ResolutionBucket("HIGH", day, 1L, 86400L),
+      new ReportService.ResolutionBucket("LOW", day, 2L, 172800L)
+    ));
+
+    final List<ResolutionReport> reports = reportService.getResolutionReport(ReportDimension.PRIORITY);
+
+    // then
+    Assertions.assertThat(reports).hasSize(2);
+    Assertions.assertThat(reports.get(0).key()).isEqualTo("HIGH");
+    Assertions.assertThat(reports.get(0).resolved()).isEqualTo(4L);
+    Assertions.assertThat(reports.get(0).medianSeconds()).isEqualTo(ReportService.bucketMidpoint(hour));
+    Assertions.assertThat(reports.get(0).meanSeconds()).isEqualTo(24300L);
+    Assertions.assertThat(reports.get(1).key()).isEqualTo("LOW");
+    Assertions.assertThat(reports.get(1).medianSeconds()).isEqualTo(ReportService.bucketMidpoint(day));
+  }
+
+  @Test
+  void shouldFill_missingWeeks_inThroughputReport() {
+    // when
+    final List<ThroughputReport> reports = reportService.getThroughputReport(LocalDate.parse("2025-01-08"), LocalDate.parse("2025-01-22"));
+
+    // then
+    verify(jdbcTemplate, times(1)).query(eq(ReportService.SELECT_THROUGHPUT), any(RowCallbackHandler.class), eq(Date.valueOf("2025-01-06")), eq(Date.valueOf("2025-01-20")));
+
+    Assertions.assertThat(reports).extracting(ThroughputReport::weekStart).containsExactly(
+      LocalDate.parse("2025-01-06"),
+      LocalDate.parse("2025-01-13"),
+      LocalDate.parse("2025-01-20")
+    );
+    Assertions.assertThat(reports).allMatch(r -> r.created() == 0L && r.closed() == 0L);
+  }
+
+  @Test
+  void shouldThrow_illegalArgumentException_whenRangeInverted() {
+    // then
+    Assertions.assertThatThrownBy(() -> reportService.getThroughputReport(LocalDate.parse("2025-02-01"), LocalDate.parse("2025-01-01")))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private TicketTransition transition(Status from, Status to, String openedAt, String transitionedAt) {
+    return TicketTransition.builder()
+      .ticketId(101L)
+      .fromStatus(from)
+      .toStatus(to)
+      .priority(Priority.HIGH)
+      .assignedTo(102L)
+      .actorId(102L)
+      .openedAt(Instant.parse(openedAt))
+      .transitionedAt(Instant.parse(transitionedAt))
+      .build();
+  }
+}
@@ -31,6 +31,7 @@ import com.example.latte_api.role.authority.Authority;
 import com.example.latte_api.role.authority.AuthorityRepository;
 import com.example.latte_api.role.dto.RoleRequest;
 import com.example.latte_api.role.dto.RoleResponse;
+import com.example.latte_api.role.dto.RoleVersion;
 import com.example.latte_api.role.mapper.RoleMapper;
 import com.example.latte_api.shared.PagedEntity;
 import com.example.latte_api.user.User;
@@ -73,7 +74,7 @@ public class RoleServiceTest {
     @SuppressWarnings("unchecked")
     final Page<Role> page = Mockito.mock(Page.class);
 
-    final Role role = new Role(101L, "User", true, true, List.of(), List.of());
+    final Role role = new Role(101L, "User", true, true, List.of(), List.of(), 0L);
     Pageable pageable = PageRequest.of(0,1, Sort.by(Direction.ASC, "id")); 
     // when
     when(roleRepository.findAll(pageable)).thenReturn(page);
@@ -89,6 +90,19 @@ public class RoleServiceTest {
     Assertions.assertThat(result.getContent()).hasSize(1);
   }
 
+  @Test
+  void shouldReturn_newETag_forRoles_whenVersionChanged() {
+    // when
+    when(roleRepository.findVersion()).thenReturn(new RoleVersion(2L, 102L, 0L), new RoleVersion(2L, 102L, 1L));
+
+    final String before = roleService.getRolesETag(0, 10);
+    final String after = roleService.getRolesETag(0, 10);
+
+    // then
+    verify(roleRepository, times(2)).findVersion();
+    Assertions.assertThat(before).isNotEqualTo(after);
+  }
+
   @Test
   void shouldReturn_roleResponse_whenRoleCreated() {
     final RoleResponse roleResponse = Mockito.mock(RoleResponse.class);
@@ -147,7 +161,7 @@ public class RoleServiceTest {
   @Test
   void shouldUpdate_roleNameAndReturn_roleResponse() {
     final RoleResponse roleResponse = Mockito.mock(RoleResponse.class);
-    final Role role = new Role(101L, "User", true, true, List.of(), List.of());
+    final Role role = new Role(101L, "User", true, true, List.of(), List.of(), 0L);
 
     final RoleRequest request = new RoleRequest("Dev", null);
     final long id = 101L;
@@ -171,7 +185,7 @@ public class RoleServiceTest {
     final RoleResponse roleResponse = Mockito.mock(RoleResponse.class);
     final Authority authority = Mockito.mock(Authority.class);
 
-    final Role role = new Role(101L, "User", true, true, List.of(), List.of());
+    final Role role = new Role(101L, "User", true, true, List.of(), List.of(), 0L);
 
     final RoleRequest request = new RoleRequest(null, List.of("dev::per"));
     final long id = 101L;
@@ -194,7 +208,7 @@ public class RoleServiceTest {
 
   @Test
   void shouldThrow_exceptionIfUserNotEditable_onUpdate() {
-    final Role role = new Role(101L, "User", false, true, List.of(), List.of());
+    final Role role = new Role(101L, "User", false, true, List.of(), List.of(), 0L);
 
     final RoleRequest request = new RoleRequest("Dev", null);
     final long id = 101L;
@@ -219,8 +233,8 @@ public class RoleServiceTest {
     final User user1 = Mockito.mock(User.class);
     final User user2 = Mockito.mock(User.class);
 
-    final Role role1 = new Role(101L, "User", true, true, List.of(), List.of());
-    final Role role2 = new Role(101L, "User", true, true, List.of(), List.of());
+    final Role role1 = new Role(101L, "User", true, true, List.of(), List.of(), 0L);
+    final Role role2 = new Role(101L, "User", true, true, List.of(), List.of(), 0L);
 
     final long id = 101;
     final long newId = 102;
@@ -237,7 +251,7 @@ public class RoleServiceTest {
 
   @Test
   void shouldThrow_exceptionIfRoleNotDeletable_onDeleteRole() {
-    final Role role1 = new Role(101L, "User", true, false, List.of(), List.of());
+    final Role role1 = new Role(101L, "User", true, false, List.of(), List.of(), 0L);
 
     final long id = 101;
     final long newId = 102;
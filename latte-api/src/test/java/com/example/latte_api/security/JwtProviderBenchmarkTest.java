@@ -0,0 +1,86 @@
+package com.example.latte_api.security;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Date;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.latte_api.user.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class JwtProviderBenchmarkTest {
+  private static final int WARMUP = 2000;
+  private static final int REQUESTS = 5000;
+
+  private JwtProvider jwtProvider;
+  private User user;
+  private String token;
+
+  @BeforeEach
+  void setup() {
+    jwtProvider = new JwtProvider();
+    ReflectionTestUtils.setField(jwtProvider, "secretKey", JwtProviderTest.SECRET_KEY);
+    ReflectionTestUtils.setField(jwtProvider, "expiration", 7200);
+    jwtProvider.init();
+
+    user = User.builder().email("peter@test.in").build();
+    token = jwtProvider.generateToken(user.getEmail(), Map.of());
+  }
+
+  @Test
+  void shouldVerify_requests_withLessCpu_thanRebuildingParserPerCall() {
+    final Predicate<String> rebuilt = t -> {
+      String username = legacyClaims(t).getSubject();
+      return username != null
+        && user.getUsername().equals(legacyClaims(t).getSubject())
+        && !legacyClaims(t).getExpiration().before(new Date());
+    };
+    final Predicate<String> cached = t -> {
+      Claims claims = jwtProvider.extractAllClaims(t);
+      return claims.getSubject() != null && jwtProvider.validToken(user, claims);
+    };
+
+    run(rebuilt, WARMUP);
+    run(cached, WARMUP);
+
+    final long rebuiltNanos = run(rebuilt, REQUESTS);
+    final long cachedNanos = run(cached, REQUESTS);
+
+    log.info(
+      "Verified {} requests: rebuilt parser {} us/request, cached parser {} us/request",
+      REQUESTS,
+      rebuiltNanos / REQUESTS / 1000.0,
+      cachedNanos / REQUESTS / 1000.0
+    );
+
+    Assertions.assertThat(cachedNanos).isLessThan(rebuiltNanos);
+  }
+
+  private long run(Predicate<String> verify, int requests) {
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    final long start = threads.getCurrentThreadCpuTime();
+    for (int i = 0; i < requests; i++) {
+      Assertions.assertThat(verify.test(token)).isTrue();
+    }
+    return threads.getCurrentThreadCpuTime() - start;
+  }
+
+  private Claims legacyClaims(String token) {
+    return Jwts.parser()
+      .verifyWith(Keys.hmacShaKeyFor(JwtProviderTest.SECRET_KEY.getBytes()))
+      .build()
+      .parseSignedClaims(token)
+      .getPayload();
+  }
+}
@@ -0,0 +1,85 @@
+package com.example.latte_api.security;
+
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.latte_api.user.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+public class JwtProviderTest {
+  static final String SECRET_KEY = "815F1298534CA2989B84C1C2F48D4609E7A05811E0700653661466A6";
+
+  private JwtProvider jwtProvider;
+
+  @BeforeEach
+  void setup() {
+    jwtProvider = new JwtProvider();
+    ReflectionTestUtils.setField(jwtProvider, "secretKey", SECRET_KEY);
+    ReflectionTestUtils.setField(jwtProvider, "expiration", 7200);
+    jwtProvider.init();
+  }
+
+  @AfterEach
+  void purge() {
+    jwtProvider = null;
+  }
+
+  @Test
+  void shouldValidate_token_fromParsedClaims() {
+    // given
+    final User user = User.builder().email("peter@test.in").build();
+    final String token = jwtProvider.generateToken("peter@test.in", Map.of());
+
+    // when
+    final Claims claims = jwtProvider.extractAllClaims(token);
+
+    // then
+    Assertions.assertThat(claims.getSubject()).isEqualTo("peter@test.in");
+    Assertions.assertThat(jwtProvider.expiredToken(claims)).isFalse();
+    Assertions.assertThat(jwtProvider.validToken(user, claims)).isTrue();
+    Assertions.assertThat(jwtProvider.validToken(user, token)).isTrue();
+  }
+
+  @Test
+  void shouldReject_token_forDifferentUser() {
+    // given
+    final User user = User.builder().email("bruce@test.in").build();
+    final String token = jwtProvider.generateToken("peter@test.in", Map.of());
+
+    // then
+    Assertions.assertThat(jwtProvider.validToken(user, jwtProvider.extractAllClaims(token))).isFalse();
+  }
+
+  @Test
+  void shouldThrow_expiredJwtException_whenTokenExpired() {
+    // given
+    final String token = jwtProvider.generateToken("peter@test.in", Map.of(), -60);
+
+    // then
+    Assertions.assertThatThrownBy(() -> jwtProvider.extractAllClaims(token))
+      .isInstanceOf(ExpiredJwtException.class);
+  }
+
+  @Test
+  void shouldThrow_signatureException_whenSignedWithOtherKey() {
+    // given
+    final JwtProvider other = new JwtProvider();
+    ReflectionTestUtils.setField(other, "secretKey", SECRET_KEY.toLowerCase());
+    ReflectionTestUtils.setField(other, "expiration", 7200);
+    other.init();
+
+    final String token = other.generateToken("peter@test.in", Map.of());
+
+    // then
+    Assertions.assertThatThrownBy(() -> jwtProvider.extractAllClaims(token))
+      .isInstanceOf(SignatureException.class);
+  }
+}
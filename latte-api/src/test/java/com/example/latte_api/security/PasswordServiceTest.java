@@ -21,6 +21,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.example.latte_api.role.Role;
+import com.example.latte_api.security.revocation.TokenRevocationService;
 import com.example.latte_api.user.User;
 import com.example.latte_api.user.UserRepository;
 import com.example.latte_api.user.dto.ResetPasswordRequest;
@@ -42,12 +43,15 @@ public class PasswordServiceTest {
   @Mock
   private UserMapper userMapper;
 
+  @Mock
+  private TokenRevocationService tokenRevocationService;
+
   @Captor
   ArgumentCaptor<User> userCaptor;
 
   @BeforeEach
   void setup() {
-    passwordService = new PasswordService(userRepository, passwordEncoder, userMapper);
+    passwordService = new PasswordService(userRepository, passwordEncoder, userMapper, tokenRevocationService);
   }
 
   @AfterEach
@@ -76,6 +80,7 @@ public class PasswordServiceTest {
 
     // when
     when(authentication.getPrincipal()).thenReturn(user);
+    when(userRepository.findById(101L)).thenReturn(Optional.of(user));
     when(passwordEncoder.encode(eq(request.updatePassword()))).thenReturn(encodedPass);
     when(userMapper.mapToUserDto(user)).thenReturn(userDto);
 
@@ -83,9 +88,11 @@ public class PasswordServiceTest {
 
     // then
     verify(authentication, times(1)).getPrincipal();
+    verify(userRepository, times(1)).findById(101L);
     verify(passwordEncoder, times(1)).encode(eq(request.updatePassword()));
     verify(userRepository, times(1)).save(userCaptor.capture());
     verify(userMapper, times(1)).mapToUserDto(user);
+    verify(tokenRevocationService, times(1)).revokeSubject(user.getEmail());
 
     final User updated = userCaptor.getValue();
 
@@ -112,6 +119,7 @@ public class PasswordServiceTest {
 
     // when
     when(authentication.getPrincipal()).thenReturn(user);
+    when(userRepository.findById(101L)).thenReturn(Optional.of(user));
 
     Assertions.assertThatThrownBy(() -> passwordService.resetPassword(request, authentication))
       .isInstanceOf(IllegalStateException.class);
@@ -129,6 +137,8 @@ public class PasswordServiceTest {
 
     // when
     when(authentication.getPrincipal()).thenReturn(user);
+    when(user.getId()).thenReturn(101L);
+    when(userRepository.findById(101L)).thenReturn(Optional.of(user));
     when(user.isEditable()).thenReturn(true);
 
     // then
@@ -167,6 +177,7 @@ public class PasswordServiceTest {
     verify(passwordEncoder, times(1)).encode(eq(request.updatePassword()));
     verify(userRepository, times(1)).save(userCaptor.capture());
     verify(userMapper, times(1)).mapToUserDto(user);
+    verify(tokenRevocationService, times(1)).revokeSubject(user.getEmail());
 
     final User updated = userCaptor.getValue();
 
@@ -0,0 +1,173 @@
+package com.example.latte_api.security;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import com.example.latte_api.role.Role;
+import com.example.latte_api.security.refresh.RefreshTokenService;
+import com.example.latte_api.security.revocation.TokenRevocationService;
+import com.example.latte_api.ticket.event.TicketEventListener;
+import com.example.latte_api.user.User;
+import com.example.latte_api.user.UserService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@ExtendWith(MockitoExtension.class)
+public class StompAuthInterceptorTest {
+  private StompAuthInterceptor stompAuthInterceptor;
+
+  @Mock
+  private JwtProvider jwtProvider;
+
+  @Mock
+  private UserService userService;
+
+  @Mock
+  private TokenRevocationService tokenRevocationService;
+
+  private final MessageChannel channel = Mockito.mock(MessageChannel.class);
+
+  @BeforeEach
+  void setup() {
+    stompAuthInterceptor = new StompAuthInterceptor(jwtProvider, userService, tokenRevocationService);
+  }
+
+  @AfterEach
+  void purge() {
+    stompAuthInterceptor = null;
+  }
+
+  @Test
+  void shouldAuthenticate_connect_withValidAccessToken() {
+    // mock
+    final User user = User.builder()
+      .email("peter@test.in")
+      .role(Role.builder().role("User").authorities(List.of()).build())
+      .build();
+    final Claims claims = Jwts.claims().subject("peter@test.in").build();
+
+    // given
+    final Message<byte[]> message = message(StompCommand.CONNECT, "Bearer access-token");
+
+    // when
+    when(jwtProvider.extractAllClaims("access-token")).thenReturn(claims);
+    when(userService.loadUserByUsername("peter@test.in")).thenReturn(user);
+    when(jwtProvider.validToken(user, claims)).thenReturn(true);
+
+    final Message<?> result = stompAuthInterceptor.preSend(message, channel);
+
+    // then
+    verify(tokenRevocationService, times(1)).isRevoked(claims);
+
+    final StompHeaderAccessor accessor = StompHeaderAccessor.wrap(result);
+
+    Assertions.assertThat(accessor.getUser()).isInstanceOf(UsernamePasswordAuthenticationToken.class);
+    Assertions.assertThat(accessor.getUser().getName()).isEqualTo("peter@test.in");
+  }
+
+  @Test
+  void shouldReject_connect_withoutAuthorizationHeader() {
+    // given
+    final Message<byte[]> message = message(StompCommand.CONNECT, null);
+
+    // then
+    Assertions.assertThatThrownBy(() -> stompAuthInterceptor.preSend(message, channel))
+      .isInstanceOf(BadCredentialsException.class);
+  }
+
+  @Test
+  void shouldReject_connect_withRefreshToken() {
+    // mock
+    final Claims claims = Jwts.claims()
+      .subject("peter@test.in")
+      .add(RefreshTokenService.FAMILY_CLAIM, "family-id")
+      .add("typ", "refresh")
+      .build();
+
+    // given
+    final Message<byte[]> message = message(StompCommand.CONNECT, "Bearer refresh-token");
+
+    // when
+    when(jwtProvider.extractAllClaims("refresh-token")).thenReturn(claims);
+
+    // then
+    Assertions.assertThatThrownBy(() -> stompAuthInterceptor.preSend(message, channel))
+      .isInstanceOf(BadCredentialsException.class);
+
+    Mockito.verifyNoInteractions(userService);
+  }
+
+  @Test
+  void shouldReject_connect_withRevokedToken() {
+    // mock
+    final Claims claims = Jwts.claims().subject("peter@test.in").build();
+
+    // given
+    final Message<byte[]> message = message(StompCommand.CONNECT, "Bearer access-token");
+
+    // when
+    when(jwtProvider.extractAllClaims("access-token")).thenReturn(claims);
+    when(tokenRevocationService.isRevoked(claims)).thenReturn(true);
+
+    // then
+    Assertions.assertThatThrownBy(() -> stompAuthInterceptor.preSend(message, channel))
+      .isInstanceOf(BadCredentialsException.class);
+  }
+
+  @Test
+  void shouldReject_subscribe_fromUnauthenticatedSession() {
+    // given
+    final StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+    accessor.setDestination(TicketEventListener.TICKETS_TOPIC);
+    final Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+    // then
+    Assertions.assertThatThrownBy(() -> stompAuthInterceptor.preSend(message, channel))
+      .isInstanceOf(AccessDeniedException.class);
+  }
+
+  @Test
+  void shouldAllow_subscribe_fromAuthenticatedSession() {
+    // given
+    final StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+    accessor.setDestination(TicketEventListener.TICKETS_TOPIC);
+    accessor.setUser(new UsernamePasswordAuthenticationToken("peter@test.in", null, List.of()));
+    final Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+    // when
+    final Message<?> result = stompAuthInterceptor.preSend(message, channel);
+
+    // then
+    Assertions.assertThat(result).isSameAs(message);
+  }
+
+  private Message<byte[]> message(StompCommand command, String authorization) {
+    final StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+    if (authorization != null) {
+      accessor.setNativeHeader("Authorization", authorization);
+    }
+    accessor.setLeaveMutable(true);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}
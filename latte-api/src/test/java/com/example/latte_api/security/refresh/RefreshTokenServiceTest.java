@@ -0,0 +1,168 @@
+package com.example.latte_api.security.refresh;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.latte_api.security.JwtProvider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+  private RefreshTokenService refreshTokenService;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private JwtProvider jwtProvider;
+
+  @Captor
+  private ArgumentCaptor<Map<String, Object>> claimsCaptor;
+
+  @BeforeEach
+  void setup() {
+    refreshTokenService = new RefreshTokenService(jdbcTemplate, jwtProvider);
+    ReflectionTestUtils.setField(refreshTokenService, "expiration", 604800);
+    ReflectionTestUtils.setField(refreshTokenService, "purgeBatchSize", 2);
+  }
+
+  @AfterEach
+  void purge() {
+    refreshTokenService = null;
+  }
+
+  @Test
+  void shouldStore_hashedRefreshToken_inGivenFamily_whenIssued() {
+    // when
+    when(jwtProvider.generateToken(eq("peter@test.in"), claimsCaptor.capture(), eq(604800))).thenReturn("refresh-token");
+
+    final String result = refreshTokenService.issue("peter@test.in", "family-id");
+
+    // then
+    verify(jdbcTemplate, times(1)).update(
+      eq(RefreshTokenService.INSERT_TOKEN), eq(RefreshTokenService.hash("refresh-token")), eq("family-id"), eq("peter@test.in"), any(Timestamp.class)
+    );
+
+    Assertions.assertThat(result).isEqualTo("refresh-token");
+    Assertions.assertThat(claimsCaptor.getValue()).containsEntry(RefreshTokenService.FAMILY_CLAIM, "family-id");
+    Assertions.assertThat(claimsCaptor.getValue()).containsEntry(RefreshTokenService.TYPE_CLAIM, RefreshTokenService.REFRESH_TYPE);
+  }
+
+  @Test
+  void shouldStart_distinctFamilies() {
+    // then
+    Assertions.assertThat(refreshTokenService.newFamily()).isNotEqualTo(refreshTokenService.newFamily());
+  }
+
+  @Test
+  void shouldRotate_token_withinSameFamily() {
+    // given
+    final Claims claims = claims("family-id");
+
+    // when
+    when(jdbcTemplate.update(eq(RefreshTokenService.MARK_USED), any(Timestamp.class), eq(RefreshTokenService.hash("refresh-token")))).thenReturn(1);
+    when(jwtProvider.generateToken(eq("peter@test.in"), eq(Map.of(RefreshTokenService.FAMILY_CLAIM, "family-id", RefreshTokenService.TYPE_CLAIM, RefreshTokenService.REFRESH_TYPE)), eq(604800))).thenReturn("rotated-token");
+
+    final String result = refreshTokenService.rotate("refresh-token", claims);
+
+    // then
+    verify(jdbcTemplate, times(1)).update(
+      eq(RefreshTokenService.INSERT_TOKEN), eq(RefreshTokenService.hash("rotated-token")), eq("family-id"), eq("peter@test.in"), any(Timestamp.class)
+    );
+    verify(jdbcTemplate, times(0)).update(eq(RefreshTokenService.DELETE_FAMILY), anyString());
+
+    Assertions.assertThat(result).isEqualTo("rotated-token");
+  }
+
+  @Test
+  void shouldRevoke_family_whenTokenReused() {
+    // given
+    final Claims claims = claims("family-id");
+
+    // when
+    when(jdbcTemplate.update(eq(RefreshTokenService.MARK_USED), any(Timestamp.class), eq(RefreshTokenService.hash("refresh-token")))).thenReturn(0);
+    when(jdbcTemplate.update(RefreshTokenService.DELETE_FAMILY, "family-id")).thenReturn(3);
+
+    // then
+    Assertions.assertThatThrownBy(() -> refreshTokenService.rotate("refresh-token", claims))
+      .isInstanceOf(JwtException.class);
+
+    verify(jdbcTemplate, times(1)).update(RefreshTokenService.DELETE_FAMILY, "family-id");
+    verify(jwtProvider, times(0)).generateToken(anyString(), any(), any());
+  }
+
+  @Test
+  void shouldThrow_jwtException_whenAccessTokenPresented() {
+    // given
+    final Claims claims = Jwts.claims().subject("peter@test.in").add(RefreshTokenService.FAMILY_CLAIM, "family-id").build();
+
+    // then
+    Assertions.assertThatThrownBy(() -> refreshTokenService.rotate("access-token", claims))
+      .isInstanceOf(JwtException.class);
+
+    verify(jdbcTemplate, times(0)).update(eq(RefreshTokenService.MARK_USED), any(Timestamp.class), anyString());
+    verify(jdbcTemplate, times(0)).update(eq(RefreshTokenService.DELETE_FAMILY), anyString());
+  }
+
+  @Test
+  void shouldRecognize_refreshTokens_byType() {
+    // then
+    Assertions.assertThat(RefreshTokenService.isRefreshToken(claims("family-id"))).isTrue();
+    Assertions.assertThat(RefreshTokenService.isRefreshToken(Jwts.claims().subject("peter@test.in").add(RefreshTokenService.FAMILY_CLAIM, "family-id").build())).isFalse();
+  }
+
+  @Test
+  void shouldPurge_expiredTokens_inBatches() {
+    // when
+    when(jdbcTemplate.update(eq(RefreshTokenService.DELETE_EXPIRED), any(Timestamp.class), eq(2)))
+      .thenReturn(2)
+      .thenReturn(2)
+      .thenReturn(1);
+
+    refreshTokenService.purgeExpired();
+
+    // then
+    verify(jdbcTemplate, times(3)).update(eq(RefreshTokenService.DELETE_EXPIRED), any(Timestamp.class), eq(2));
+  }
+
+  @Test
+  void shouldHash_token_toFixedLengthHex() {
+    // when
+    final String hash = RefreshTokenService.hash("refresh-token");
+
+    // then
+    Assertions.assertThat(hash).hasSize(64).matches("[0-9a-f]+");
+    Assertions.assertThat(hash).isEqualTo(RefreshTokenService.hash("refresh-token"));
+    Assertions.assertThat(hash).isNotEqualTo(RefreshTokenService.hash("rotated-token"));
+  }
+
+  private Claims claims(String familyId) {
+    return Jwts.claims()
+      .subject("peter@test.in")
+      .add(RefreshTokenService.FAMILY_CLAIM, familyId)
+      .add(RefreshTokenService.TYPE_CLAIM, RefreshTokenService.REFRESH_TYPE)
+      .build();
+  }
+}
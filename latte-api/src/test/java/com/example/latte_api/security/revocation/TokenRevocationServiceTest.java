@@ -0,0 +1,243 @@
+package com.example.latte_api.security.revocation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.latte_api.security.JwtProvider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTest {
+  private TokenRevocationService tokenRevocationService;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setup() {
+    tokenRevocationService = new TokenRevocationService(jdbcTemplate);
+    ReflectionTestUtils.setField(tokenRevocationService, "expectedEntries", 1000);
+    ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveRate", 0.01);
+    ReflectionTestUtils.setField(tokenRevocationService, "accessTokenExpiration", 7200);
+    ReflectionTestUtils.setField(tokenRevocationService, "refreshTokenExpiration", 1209600);
+    tokenRevocationService.init();
+  }
+
+  @AfterEach
+  void purge() {
+    tokenRevocationService = null;
+  }
+
+  @Test
+  void shouldRevoke_token_byJti() {
+    // given
+    final Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+
+    // when
+    tokenRevocationService.revokeToken("token-id", expiresAt);
+
+    // then
+    verify(jdbcTemplate, times(1)).update(
+      eq(TokenRevocationService.UPSERT_REVOCATION), eq("jti:token-id"), any(Timestamp.class), eq(Timestamp.from(expiresAt))
+    );
+
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("token-id", Instant.now()))).isTrue();
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("other-id", Instant.now()))).isFalse();
+  }
+
+  @Test
+  void shouldRevoke_subject_onlyForTokensIssuedBefore() {
+    // given
+    final Instant issuedBefore = Instant.now().minus(Duration.ofMinutes(5));
+
+    // when
+    tokenRevocationService.revokeSubject("peter@test.in");
+
+    // then
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("token-id", issuedBefore))).isTrue();
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("token-id", Instant.now().plus(Duration.ofSeconds(1))))).isFalse();
+  }
+
+  @Test
+  void shouldKeep_subjectRevocation_forRefreshTokenLifetime() {
+    // mock
+    final ArgumentCaptor<Timestamp> expiresAt = ArgumentCaptor.forClass(Timestamp.class);
+
+    // when
+    tokenRevocationService.revokeSubject("peter@test.in");
+
+    // then
+    verify(jdbcTemplate, times(1)).update(
+      eq(TokenRevocationService.UPSERT_REVOCATION), eq("sub:peter@test.in"), any(Timestamp.class), expiresAt.capture()
+    );
+
+    Assertions.assertThat(expiresAt.getValue().toInstant()).isAfter(Instant.now().plus(Duration.ofDays(13)));
+  }
+
+  @Test
+  void shouldApply_revocations_fromOtherNodes_onSync() throws Exception {
+    // mock
+    final ResultSet rs = Mockito.mock(ResultSet.class);
+    final Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+
+    // when
+    when(rs.getString("token_key")).thenReturn(TokenRevocationService.jtiKey("token-id"));
+    when(rs.getTimestamp("revoked_at")).thenReturn(Timestamp.from(Instant.now()));
+    when(rs.getTimestamp("expires_at")).thenReturn(Timestamp.from(expiresAt));
+    doAnswer(invocation -> {
+      final RowCallbackHandler handler = invocation.getArgument(1);
+      handler.processRow(rs);
+      return null;
+    }).when(jdbcTemplate).query(eq(TokenRevocationService.SELECT_REVOCATIONS), any(RowCallbackHandler.class), any(), any());
+
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("token-id", Instant.now()))).isFalse();
+
+    tokenRevocationService.sync();
+
+    // then
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("token-id", Instant.now()))).isTrue();
+  }
+
+  @Test
+  void shouldDrop_expiredRevocations_onPurge() throws Exception {
+    // given
+    tokenRevocationService.revokeToken("expired-id", Instant.now().minus(Duration.ofMinutes(1)));
+    tokenRevocationService.revokeToken("active-id", Instant.now().plus(Duration.ofHours(1)));
+
+    // when
+    when(jdbcTemplate.update(eq(TokenRevocationService.DELETE_EXPIRED), any(Timestamp.class))).thenReturn(1);
+    stubRevocations(
+      TokenRevocationService.SELECT_ACTIVE_REVOCATIONS,
+      TokenRevocationService.jtiKey("active-id"),
+      Instant.now(),
+      Instant.now().plus(Duration.ofHours(1))
+    );
+
+    tokenRevocationService.purgeExpired();
+
+    // then
+    verify(jdbcTemplate, times(1)).update(eq(TokenRevocationService.DELETE_EXPIRED), any(Timestamp.class));
+
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("expired-id", Instant.now()))).isFalse();
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("active-id", Instant.now()))).isTrue();
+  }
+
+  @Test
+  void shouldReload_revocationsMissedBySync_onPurge() throws Exception {
+    // given
+    final Instant revokedAt = Instant.now().minus(Duration.ofMinutes(10));
+
+    // when
+    stubRevocations(
+      TokenRevocationService.SELECT_ACTIVE_REVOCATIONS,
+      TokenRevocationService.subjectKey("peter@test.in"),
+      revokedAt,
+      Instant.now().plus(Duration.ofHours(1))
+    );
+
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("token-id", revokedAt.minusSeconds(1)))).isFalse();
+
+    tokenRevocationService.purgeExpired();
+
+    // then
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("token-id", revokedAt.minusSeconds(1)))).isTrue();
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("token-id", revokedAt.plusSeconds(1)))).isFalse();
+  }
+
+  @Test
+  void shouldRevoke_subject_forTokenIssuedEarlierInSameSecond() {
+    // mock
+    final ArgumentCaptor<Timestamp> revokedAt = ArgumentCaptor.forClass(Timestamp.class);
+
+    // when
+    tokenRevocationService.revokeSubject("peter@test.in");
+
+    // then
+    verify(jdbcTemplate, times(1)).update(
+      eq(TokenRevocationService.UPSERT_REVOCATION), eq("sub:peter@test.in"), revokedAt.capture(), any(Timestamp.class)
+    );
+
+    final Instant revoked = revokedAt.getValue().toInstant();
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("token-id", revoked.minusMillis(1)))).isTrue();
+    Assertions.assertThat(tokenRevocationService.isRevoked(legacyClaims("token-id", revoked.truncatedTo(ChronoUnit.SECONDS)))).isTrue();
+    Assertions.assertThat(tokenRevocationService.isRevoked(claims("token-id", revoked.plusMillis(1)))).isFalse();
+  }
+
+  @Test
+  void shouldKeep_bloomFilterFalsePositives_nearConfiguredRate() {
+    // given
+    final BloomFilter bloomFilter = BloomFilter.create(1000, 0.01);
+    for (int i = 0; i < 1000; i++) {
+      bloomFilter.put("jti:revoked-" + i);
+    }
+
+    // when
+    int falsePositives = 0;
+    for (int i = 0; i < 10000; i++) {
+      if (bloomFilter.mightContain("jti:active-" + i)) {
+        falsePositives++;
+      }
+    }
+
+    // then
+    for (int i = 0; i < 1000; i++) {
+      Assertions.assertThat(bloomFilter.mightContain("jti:revoked-" + i)).isTrue();
+    }
+    Assertions.assertThat(falsePositives).isLessThan(300);
+  }
+
+  private Claims claims(String jti, Instant issuedAt) {
+    return Jwts.claims()
+      .id(jti)
+      .subject("peter@test.in")
+      .issuedAt(Date.from(issuedAt))
+      .add(JwtProvider.ISSUED_AT_MILLIS_CLAIM, issuedAt.toEpochMilli())
+      .build();
+  }
+
+  private Claims legacyClaims(String jti, Instant issuedAt) {
+    return Jwts.claims()
+      .id(jti)
+      .subject("peter@test.in")
+      .issuedAt(Date.from(issuedAt))
+      .build();
+  }
+
+  private void stubRevocations(String sql, String key, Instant revokedAt, Instant expiresAt) throws Exception {
+    final ResultSet rs = Mockito.mock(ResultSet.class);
+    when(rs.getString("token_key")).thenReturn(key);
+    when(rs.getTimestamp("revoked_at")).thenReturn(Timestamp.from(revokedAt));
+    when(rs.getTimestamp("expires_at")).thenReturn(Timestamp.from(expiresAt));
+    doAnswer(invocation -> {
+      final RowCallbackHandler handler = invocation.getArgument(1);
+      handler.processRow(rs);
+      return null;
+    }).when(jdbcTemplate).query(eq(sql), any(RowCallbackHandler.class), any(Timestamp.class));
+  }
+}
@@ -41,6 +41,7 @@ import com.example.latte_api.ticket.enums.Priority;
 import com.example.latte_api.ticket.enums.Status;
 import com.example.latte_api.user.User;
 import com.example.latte_api.user.UserRepository;
+import com.example.latte_api.user.dto.UserRequest;
 import com.example.latte_api.user.dto.UserResponse;
 
 @Testcontainers
@@ -287,7 +288,24 @@ public class TicketControllerTest {
 
   @Test
   void shouldGetInfo_ofTicketsOnSystem() {
-    final Map<String, Long> expected = Map.of("total_tickets", 2L, "open_tickets", 1L, "closed_tickets", 1L);
+    final Map<String, Long> expected = Map.ofEntries(
+      Map.entry("total_tickets", 2L),
+      Map.entry("open_tickets", 1L),
+      Map.entry("in_progress_tickets", 0L),
+      Map.entry("closed_tickets", 1L),
+      Map.entry("low_priority_tickets", 2L),
+      Map.entry("medium_priority_tickets", 0L),
+      Map.entry("high_priority_tickets", 0L),
+      Map.entry("open_low_priority_tickets", 1L),
+      Map.entry("open_medium_priority_tickets", 0L),
+      Map.entry("open_high_priority_tickets", 0L),
+      Map.entry("in_progress_low_priority_tickets", 0L),
+      Map.entry("in_progress_medium_priority_tickets", 0L),
+      Map.entry("in_progress_high_priority_tickets", 0L),
+      Map.entry("closed_low_priority_tickets", 1L),
+      Map.entry("closed_medium_priority_tickets", 0L),
+      Map.entry("closed_high_priority_tickets", 0L)
+    );
     final AuthResponse cred = userCred();
 
     final HttpHeaders headers = new HttpHeaders();
@@ -351,6 +369,94 @@ public class TicketControllerTest {
     Assertions.assertThat(result.assignedTo()).isNull();
   }
 
+  @Test
+  void shouldReturnNotModified_byTicketId_whenETagMatches() {
+    final AuthResponse cred = userCred();
+
+    final HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer " + cred.accessToken());
+
+    final TicketRequest ticketRequest = new TicketRequest("Test", "description", Priority.LOW, Status.OPEN, null, null);
+
+    final ResponseEntity<TicketResponse> ticket = testRestTemplate.exchange(
+      BASE_URI,
+      HttpMethod.POST,
+      new HttpEntity<>(ticketRequest, headers),
+      TicketResponse.class
+    );
+
+    final Long id = ticket.getBody().id();
+    final ResponseEntity<TicketResponse> first = testRestTemplate.exchange(
+      BASE_URI + "/" + id,
+      HttpMethod.GET,
+      new HttpEntity<>(null, headers),
+      TicketResponse.class
+    );
+
+    Assertions.assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(first.getHeaders().getETag()).isNotNull();
+
+    headers.setIfNoneMatch(first.getHeaders().getETag());
+    final ResponseEntity<TicketResponse> response = testRestTemplate.exchange(
+      BASE_URI + "/" + id,
+      HttpMethod.GET,
+      new HttpEntity<>(null, headers),
+      TicketResponse.class
+    );
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    Assertions.assertThat(response.getBody()).isNull();
+  }
+
+  @Test
+  void shouldReturnOk_byTicketId_afterAssigneeRenamed() {
+    final AuthResponse cred = adminCred();
+
+    final HttpHeaders headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer " + cred.accessToken());
+
+    final TicketRequest ticketRequest = new TicketRequest("Test", "description", Priority.LOW, Status.OPEN, "User", null);
+
+    final ResponseEntity<TicketResponse> ticket = testRestTemplate.exchange(
+      BASE_URI,
+      HttpMethod.POST,
+      new HttpEntity<>(ticketRequest, headers),
+      TicketResponse.class
+    );
+
+    final Long id = ticket.getBody().id();
+    final ResponseEntity<TicketResponse> first = testRestTemplate.exchange(
+      BASE_URI + "/" + id,
+      HttpMethod.GET,
+      new HttpEntity<>(null, headers),
+      TicketResponse.class
+    );
+
+    Assertions.assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(first.getBody().assignedTo().firstname()).isEqualTo("User");
+
+    final ResponseEntity<UserResponse> renamed = testRestTemplate.exchange(
+      "/latte-api/v1/users/common@test.in",
+      HttpMethod.PUT,
+      new HttpEntity<>(new UserRequest("Renamed", "common@test.in", "User"), headers),
+      UserResponse.class
+    );
+
+    Assertions.assertThat(renamed.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    headers.setIfNoneMatch(first.getHeaders().getETag());
+    final ResponseEntity<TicketResponse> response = testRestTemplate.exchange(
+      BASE_URI + "/" + id,
+      HttpMethod.GET,
+      new HttpEntity<>(null, headers),
+      TicketResponse.class
+    );
+
+    Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    Assertions.assertThat(response.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+    Assertions.assertThat(response.getBody().assignedTo().firstname()).isEqualTo("Renamed");
+  }
+
   @Test
   void shouldGiveEntityNotFound_onGetTicketById_forInvalidId() {
     final AuthResponse cred = userCred();
@@ -0,0 +1,83 @@
+package com.example.latte_api.ticket;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.latte_api.ticket.dto.TicketView;
+import com.example.latte_api.ticket.enums.ExportFormat;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketExportServiceTest {
+  private TicketExportService ticketExportService;
+
+  @Mock
+  private TicketRepository ticketRepository;
+
+  @BeforeEach
+  void setup() {
+    ticketExportService = new TicketExportService(ticketRepository, new ObjectMapper().findAndRegisterModules());
+  }
+
+  @AfterEach
+  void purge() {
+    ticketExportService = null;
+  }
+
+  @Test
+  void shouldWrite_csvRows_withEscapedValues() throws Exception {
+    // mock
+    final TicketView ticket = new TicketView(101L, "Login, broken", "Says \"no\"", Priority.HIGH, Status.OPEN, false, "Peter", "peter@test.in", null, null, Instant.parse("2025-01-01T10:00:00Z"), null, null, null, 0L);
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    when(ticketRepository.streamViews()).thenReturn(Stream.of(ticket));
+
+    final long rows = ticketExportService.exportTickets(ExportFormat.CSV, outputStream);
+
+    // then
+    verify(ticketRepository, times(1)).streamViews();
+
+    final String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+    Assertions.assertThat(rows).isEqualTo(1);
+    Assertions.assertThat(lines).hasSize(2);
+    Assertions.assertThat(lines[0]).startsWith("id,title,description");
+    Assertions.assertThat(lines[1]).isEqualTo("101,\"Login, broken\",\"Says \"\"no\"\"\",HIGH,OPEN,false,Peter,peter@test.in,,,,,2025-01-01T10:00:00Z,");
+  }
+
+  @Test
+  void shouldWrite_ndjsonRows_oneObjectPerLine() throws Exception {
+    // mock
+    final TicketView first = new TicketView(101L, "First", "description", Priority.LOW, Status.OPEN, false, "Peter", "peter@test.in", null, null, Instant.parse("2025-01-01T10:00:00Z"), null, null, null, 0L);
+    final TicketView second = new TicketView(102L, "Second", "description", Priority.LOW, Status.CLOSE, false, "Peter", "peter@test.in", null, null, Instant.parse("2025-01-01T11:00:00Z"), null, null, null, 0L);
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    when(ticketRepository.streamViews()).thenReturn(Stream.of(first, second));
+
+    final long rows = ticketExportService.exportTickets(ExportFormat.NDJSON, outputStream);
+
+    // then
+    final String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+    Assertions.assertThat(rows).isEqualTo(2);
+    Assertions.assertThat(lines).hasSize(2);
+    Assertions.assertThat(lines[0]).startsWith("{\"id\":101,");
+    Assertions.assertThat(lines[1]).startsWith("{\"id\":102,");
+  }
+}
@@ -0,0 +1,259 @@
+package com.example.latte_api.ticket;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.latte_api.exception.OperationNotPermittedException;
+import com.example.latte_api.report.ReportService;
+import com.example.latte_api.report.TicketTransition;
+import com.example.latte_api.role.authority.IAuthority;
+import com.example.latte_api.ticket.dto.TicketImportResult;
+import com.example.latte_api.ticket.enums.ExportFormat;
+import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.user.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketImportServiceTest {
+  private TicketImportService ticketImportService;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private ReportService reportService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Captor
+  ArgumentCaptor<List<TicketTransition>> transitionsCaptor;
+
+  @BeforeEach
+  void setup() {
+    ticketImportService = new TicketImportService(jdbcTemplate, new ObjectMapper().findAndRegisterModules(), reportService, transactionManager);
+    ReflectionTestUtils.setField(ticketImportService, "importBatchSize", 2);
+  }
+
+  @AfterEach
+  void purge() {
+    ticketImportService = null;
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldImport_csvRows_inJdbcBatches() throws Exception {
+    // mock
+    final Authentication authentication = authentication(true);
+    final List<Integer> batchSizes = new ArrayList<>();
+    final String csv = "id,title,description,priority,status,lock,created_by,created_by_email,assigned_to,assigned_to_email,client,client_email,created_at,last_updated\n"
+      + "1,\"Login, broken\",\"multi\nline\",HIGH,OPEN,false,Peter,peter@test.in,,,,,2024-01-01T10:00:00Z,\n"
+      + "2,Second,description,LOW,CLOSE,true,Peter,peter@test.in,Bruce,bruce@test.in,,,,\n"
+      + "3,Third,description,MEDIUM,IN_PROGRESS,false,Peter,peter@test.in,,,Acme,acme@test.in,,\n";
+
+    // when
+    when(jdbcTemplate.query(eq(TicketImportService.USER_LOOKUP), any(ResultSetExtractor.class)))
+      .thenReturn(Map.of("peter@test.in", 101L, "bruce@test.in", 102L));
+    when(jdbcTemplate.query(eq(TicketImportService.CLIENT_LOOKUP), any(ResultSetExtractor.class)))
+      .thenReturn(Map.of("acme@test.in", 201L));
+    when(jdbcTemplate.queryForObject(TicketImportService.NEXT_TICKET_ID, Long.class)).thenReturn(101L);
+    when(jdbcTemplate.batchUpdate(eq(TicketImportService.INSERT_TICKET), anyList(), any(int[].class))).thenAnswer(invocation -> {
+      final List<Object[]> batch = invocation.getArgument(1);
+      batchSizes.add(batch.size());
+      return new int[batch.size()];
+    });
+
+    final TicketImportResult result = ticketImportService.importTickets(
+      ExportFormat.CSV,
+      new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+      authentication
+    );
+
+    // then
+    verify(jdbcTemplate, times(1)).queryForObject(TicketImportService.NEXT_TICKET_ID, Long.class);
+    verify(jdbcTemplate, times(2)).batchUpdate(eq(TicketImportService.INSERT_TICKET), anyList(), any(int[].class));
+
+    Assertions.assertThat(result.imported()).isEqualTo(3);
+    Assertions.assertThat(batchSizes).containsExactly(2, 1);
+
+    verify(transactionManager, times(2)).commit(any());
+    verify(reportService, times(2)).recordTransitions(transitionsCaptor.capture());
+
+    final List<TicketTransition> first = transitionsCaptor.getAllValues().get(0);
+    final List<TicketTransition> second = transitionsCaptor.getAllValues().get(1);
+
+    Assertions.assertThat(first).extracting(TicketTransition::getTicketId).containsExactly(101L, 102L, 102L);
+    Assertions.assertThat(first).extracting(TicketTransition::getToStatus).containsExactly(Status.OPEN, Status.OPEN, Status.CLOSE);
+    Assertions.assertThat(first.get(0).getOpenedAt()).isEqualTo(Instant.parse("2024-01-01T10:00:00Z"));
+    Assertions.assertThat(first.get(2).getFromStatus()).isEqualTo(Status.OPEN);
+    Assertions.assertThat(first.get(2).getAssignedTo()).isEqualTo(102L);
+    Assertions.assertThat(second).extracting(TicketTransition::getToStatus).containsExactly(Status.IN_PROGRESS);
+    Assertions.assertThat(second.get(0).getClientId()).isEqualTo(201L);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldImport_ndjsonRows_resolvingLookups() throws Exception {
+    // mock
+    final Authentication authentication = authentication(true);
+    final String ndjson = "{\"title\":\"First\",\"description\":\"d\",\"priority\":\"LOW\",\"status\":\"OPEN\",\"createdByEmail\":\"peter@test.in\",\"clientEmail\":\"acme@test.in\"}\n\n";
+
+    // when
+    when(jdbcTemplate.query(eq(TicketImportService.USER_LOOKUP), any(ResultSetExtractor.class)))
+      .thenReturn(Map.of("peter@test.in", 101L));
+    when(jdbcTemplate.query(eq(TicketImportService.CLIENT_LOOKUP), any(ResultSetExtractor.class)))
+      .thenReturn(Map.of("acme@test.in", 201L));
+    when(jdbcTemplate.queryForObject(TicketImportService.NEXT_TICKET_ID, Long.class)).thenReturn(101L);
+    when(jdbcTemplate.batchUpdate(eq(TicketImportService.INSERT_TICKET), anyList(), any(int[].class))).thenAnswer(invocation -> {
+      final List<Object[]> batch = invocation.getArgument(1);
+      Assertions.assertThat(batch).hasSize(1);
+      Assertions.assertThat(batch.get(0)[0]).isEqualTo(101L);
+      Assertions.assertThat(batch.get(0)[1]).isEqualTo("First");
+      Assertions.assertThat(batch.get(0)[6]).isEqualTo(101L);
+      Assertions.assertThat(batch.get(0)[8]).isEqualTo(201L);
+      return new int[] {1};
+    });
+
+    final TicketImportResult result = ticketImportService.importTickets(
+      ExportFormat.NDJSON,
+      new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+      authentication
+    );
+
+    // then
+    Assertions.assertThat(result.imported()).isEqualTo(1);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldThrow_exception_onImport_forUnknownCreator() {
+    // mock
+    final Authentication authentication = authentication(true);
+    final String ndjson = "{\"title\":\"First\",\"description\":\"d\",\"priority\":\"LOW\",\"status\":\"OPEN\",\"createdByEmail\":\"ghost@test.in\"}\n";
+
+    // when
+    when(jdbcTemplate.query(eq(TicketImportService.USER_LOOKUP), any(ResultSetExtractor.class))).thenReturn(Map.of());
+    when(jdbcTemplate.query(eq(TicketImportService.CLIENT_LOOKUP), any(ResultSetExtractor.class))).thenReturn(Map.of());
+
+    // then
+    Assertions.assertThatThrownBy(() -> ticketImportService.importTickets(
+      ExportFormat.NDJSON,
+      new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+      authentication
+    )).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("line 1");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldCommit_completedBatches_andReportResumePoint_onBadRecord() throws Exception {
+    // mock
+    final Authentication authentication = authentication(true);
+    final String ndjson = "{\"title\":\"First\",\"description\":\"d\",\"priority\":\"LOW\",\"status\":\"OPEN\",\"createdByEmail\":\"peter@test.in\"}\n"
+      + "{\"title\":\"Second\",\"description\":\"d\",\"priority\":\"LOW\",\"status\":\"OPEN\",\"createdByEmail\":\"peter@test.in\"}\n"
+      + "{\"title\":\"Third\",\"description\":\"d\",\"priority\":\"LOW\",\"status\":\"OPEN\",\"createdByEmail\":\"ghost@test.in\"}\n";
+
+    // when
+    when(jdbcTemplate.query(eq(TicketImportService.USER_LOOKUP), any(ResultSetExtractor.class)))
+      .thenReturn(Map.of("peter@test.in", 101L));
+    when(jdbcTemplate.query(eq(TicketImportService.CLIENT_LOOKUP), any(ResultSetExtractor.class))).thenReturn(Map.of());
+    when(jdbcTemplate.queryForObject(TicketImportService.NEXT_TICKET_ID, Long.class)).thenReturn(101L);
+    when(jdbcTemplate.batchUpdate(eq(TicketImportService.INSERT_TICKET), anyList(), any(int[].class))).thenReturn(new int[2]);
+
+    // then
+    Assertions.assertThatThrownBy(() -> ticketImportService.importTickets(
+      ExportFormat.NDJSON,
+      new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+      authentication
+    )).isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("line 3")
+      .hasMessageContaining("2 tickets were imported")
+      .hasMessageContaining("skip=2");
+
+    verify(transactionManager, times(1)).commit(any());
+    verify(jdbcTemplate, times(1)).batchUpdate(eq(TicketImportService.INSERT_TICKET), anyList(), any(int[].class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldSkip_importedRecords_whenResuming() throws Exception {
+    // mock
+    final Authentication authentication = authentication(true);
+    final String ndjson = "{\"title\":\"First\",\"description\":\"d\",\"priority\":\"LOW\",\"status\":\"OPEN\",\"createdByEmail\":\"ghost@test.in\"}\n"
+      + "\n"
+      + "{\"title\":\"Second\",\"description\":\"d\",\"priority\":\"LOW\",\"status\":\"OPEN\",\"createdByEmail\":\"peter@test.in\"}\n";
+
+    // when
+    when(jdbcTemplate.query(eq(TicketImportService.USER_LOOKUP), any(ResultSetExtractor.class)))
+      .thenReturn(Map.of("peter@test.in", 101L));
+    when(jdbcTemplate.query(eq(TicketImportService.CLIENT_LOOKUP), any(ResultSetExtractor.class))).thenReturn(Map.of());
+    when(jdbcTemplate.queryForObject(TicketImportService.NEXT_TICKET_ID, Long.class)).thenReturn(101L);
+    when(jdbcTemplate.batchUpdate(eq(TicketImportService.INSERT_TICKET), anyList(), any(int[].class))).thenAnswer(invocation -> {
+      final List<Object[]> batch = invocation.getArgument(1);
+      Assertions.assertThat(batch).hasSize(1);
+      Assertions.assertThat(batch.get(0)[1]).isEqualTo("Second");
+      return new int[] {1};
+    });
+
+    final TicketImportResult result = ticketImportService.importTickets(
+      ExportFormat.NDJSON,
+      new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+      1,
+      authentication
+    );
+
+    // then
+    Assertions.assertThat(result.imported()).isEqualTo(1);
+    verify(transactionManager, times(1)).commit(any());
+  }
+
+  @Test
+  void shouldThrow_exception_onImport_withoutAuthority() {
+    // mock
+    final Authentication authentication = authentication(false);
+
+    // then
+    Assertions.assertThatThrownBy(() -> ticketImportService.importTickets(
+      ExportFormat.CSV,
+      new ByteArrayInputStream(new byte[0]),
+      authentication
+    )).isInstanceOf(OperationNotPermittedException.class);
+  }
+
+  private Authentication authentication(boolean permitted) {
+    final Authentication authentication = Mockito.mock(Authentication.class);
+    final User user = Mockito.mock(User.class);
+    when(authentication.getPrincipal()).thenReturn(user);
+    when(user.hasAuthority(IAuthority.CREATE_TICKET)).thenReturn(permitted);
+    if (permitted) {
+      when(user.hasAuthority(IAuthority.ASSIGN_TICKET)).thenReturn(true);
+    }
+    return authentication;
+  }
+}
@@ -1,6 +1,13 @@
 package com.example.latte_api.ticket;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +18,8 @@ import org.springframework.boot.testcontainers.service.connection.ServiceConnect
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -18,11 +27,16 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
 import com.example.latte_api.role.Role;
+import com.example.latte_api.ticket.dto.TicketBoardRow;
+import com.example.latte_api.ticket.dto.TicketSearchHit;
+import com.example.latte_api.ticket.dto.TicketView;
 import com.example.latte_api.ticket.enums.Priority;
 import com.example.latte_api.ticket.enums.Status;
 import com.example.latte_api.user.User;
 import com.example.latte_api.user.UserRepository;
 
+import jakarta.persistence.EntityManager;
+
 @Testcontainers
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -38,6 +52,9 @@ public class TicketRepositoryTest {
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private EntityManager entityManager;
+
   private Ticket ticket = Ticket.builder()
     .title("Test Ticket")
     .description("Ticket for test")
@@ -97,4 +114,186 @@ public class TicketRepositoryTest {
     System.out.println(result.getContent());
     Assertions.assertThat(result.getContent()).hasSize(0);
   }
+
+  @Test
+  void shouldFetch_ticketViewPage_withConstantStatementCount_forAnyPageSize() {
+    final User user = ticket.getCreatedBy();
+    final List<Ticket> tickets = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      tickets.add(Ticket.builder()
+        .title("Ticket " + i)
+        .description("Ticket for test")
+        .priority(Priority.HIGH)
+        .status(Status.OPEN)
+        .lock(false)
+        .createdBy(user)
+        .assignedTo(user)
+        .build());
+    }
+    ticketRepository.saveAll(tickets);
+    entityManager.flush();
+    entityManager.clear();
+
+    final Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+
+    statistics.clear();
+    final Page<TicketView> small = ticketRepository.findViews(PageRequest.of(0, 5));
+    final long smallCount = statistics.getPrepareStatementCount();
+
+    statistics.clear();
+    final Page<TicketView> large = ticketRepository.findViews(PageRequest.of(0, 25));
+    final long largeCount = statistics.getPrepareStatementCount();
+
+    Assertions.assertThat(small.getContent()).hasSize(5);
+    Assertions.assertThat(large.getContent()).hasSize(25);
+    Assertions.assertThat(large.getContent().get(0).createdByEmail()).isEqualTo(user.getEmail());
+    Assertions.assertThat(smallCount).isEqualTo(2);
+    Assertions.assertThat(largeCount).isEqualTo(smallCount);
+  }
+
+  @Test
+  void shouldReturn_searchHits_rankedByTitleBeforeDescription() {
+    final User user = ticket.getCreatedBy();
+    final Ticket titleMatch = Ticket.builder()
+      .title("Printer is offline")
+      .description("Nothing prints on the second floor")
+      .priority(Priority.HIGH)
+      .status(Status.OPEN)
+      .lock(false)
+      .createdBy(user)
+      .build();
+    final Ticket descriptionMatch = Ticket.builder()
+      .title("Second floor issue")
+      .description("The printer shows an offline banner")
+      .priority(Priority.LOW)
+      .status(Status.OPEN)
+      .lock(false)
+      .createdBy(user)
+      .build();
+    ticketRepository.saveAll(List.of(descriptionMatch, titleMatch));
+    entityManager.flush();
+
+    final List<TicketSearchHit> hits = ticketRepository.searchFirst("printer offline", PageRequest.ofSize(10));
+
+    Assertions.assertThat(hits).extracting(TicketSearchHit::getId).containsExactly(titleMatch.getId(), descriptionMatch.getId());
+  }
+
+  @Test
+  void shouldReturn_topTicketsPerStatus_withColumnCounts_inOneStatement() {
+    final User user = ticket.getCreatedBy();
+    final List<Ticket> tickets = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      tickets.add(Ticket.builder()
+        .title("In progress " + i)
+        .description("Ticket for test")
+        .priority(Priority.MEDIUM)
+        .status(Status.IN_PROGRESS)
+        .lock(false)
+        .createdBy(user)
+        .build());
+    }
+    ticketRepository.saveAll(tickets);
+    entityManager.flush();
+    entityManager.clear();
+
+    final Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    final List<TicketBoardRow> rows = ticketRepository.findBoardViews(3);
+
+    Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    Assertions.assertThat(rows).hasSize(4);
+    Assertions.assertThat(rows).filteredOn(r -> r.ticket().status() == Status.OPEN)
+      .singleElement()
+      .satisfies(r -> Assertions.assertThat(r.count()).isEqualTo(1L));
+    Assertions.assertThat(rows).filteredOn(r -> r.ticket().status() == Status.IN_PROGRESS)
+      .hasSize(3)
+      .allSatisfy(r -> Assertions.assertThat(r.count()).isEqualTo(4L))
+      .extracting(r -> r.ticket().title())
+      .containsExactly("In progress 3", "In progress 2", "In progress 1");
+  }
+
+  @Test
+  void shouldReturn_changedViews_afterKeysetCursor_upToBound() {
+    final User user = ticket.getCreatedBy();
+    final Instant before = Instant.now().minus(Duration.ofMinutes(1));
+    final List<Ticket> tickets = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      tickets.add(Ticket.builder()
+        .title("Changed " + i)
+        .description("Ticket for test")
+        .priority(Priority.LOW)
+        .status(Status.OPEN)
+        .lock(false)
+        .createdBy(user)
+        .build());
+    }
+    ticketRepository.saveAll(tickets);
+    entityManager.flush();
+    entityManager.clear();
+
+    final Instant until = Instant.now().plus(Duration.ofMinutes(1));
+    final List<TicketView> first = ticketRepository.findViewsChangedSince(before, Long.MAX_VALUE, until, PageRequest.ofSize(2));
+    final TicketView last = first.get(first.size() - 1);
+    final List<TicketView> rest = ticketRepository.findViewsChangedSince(last.createdAt(), last.id(), until, PageRequest.ofSize(10));
+
+    Assertions.assertThat(first).hasSize(2);
+    Assertions.assertThat(rest).hasSize(2);
+    Assertions.assertThat(rest).extracting(TicketView::id).doesNotContainAnyElementsOf(first.stream().map(TicketView::id).toList());
+    Assertions.assertThat(ticketRepository.findViewsChangedSince(before, Long.MAX_VALUE, before, PageRequest.ofSize(10))).isEmpty();
+  }
+
+  @Test
+  void shouldFetch_ticketsById_withConstantStatementCount_forDistinctAssignees() {
+    final User user = ticket.getCreatedBy();
+    final List<Long> ids = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      final User assignee = userRepository.save(User.builder()
+        .firstname("Assignee" + i)
+        .email("assignee" + i + "@test.in")
+        .password("Assignee01")
+        .role(user.getRole())
+        .build());
+      ids.add(ticketRepository.save(Ticket.builder()
+        .title("Bulk " + i)
+        .description("Ticket for test")
+        .priority(Priority.LOW)
+        .status(Status.OPEN)
+        .lock(false)
+        .createdBy(user)
+        .assignedTo(assignee)
+        .build()).getId());
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    final Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+
+    statistics.clear();
+    final List<Ticket> small = ticketRepository.findByIdIn(ids.subList(0, 2));
+    final long smallCount = statistics.getPrepareStatementCount();
+    entityManager.clear();
+
+    statistics.clear();
+    final List<Ticket> large = ticketRepository.findByIdIn(ids);
+    final long largeCount = statistics.getPrepareStatementCount();
+
+    Assertions.assertThat(small).hasSize(2);
+    Assertions.assertThat(large).hasSize(6);
+    Assertions.assertThat(large).extracting(t -> t.getAssignedTo().getFirstname()).allMatch(name -> name.startsWith("Assignee"));
+    Assertions.assertThat(largeCount).isEqualTo(smallCount);
+  }
+
+  @Test
+  void shouldReturn_allViews_whenFilterHasNoCriteria() {
+    final Slice<TicketView> page = ticketRepository.filterViews(Specification.allOf(), PageRequest.of(0, 10), true);
+    final Slice<TicketView> slice = ticketRepository.filterViews(Specification.allOf(), PageRequest.of(0, 10), false);
+
+    Assertions.assertThat(page.getContent()).hasSize(1);
+    Assertions.assertThat(((Page<TicketView>) page).getTotalElements()).isEqualTo(1L);
+    Assertions.assertThat(slice.getContent()).extracting(TicketView::id).containsExactly(ticket.getId());
+  }
 }
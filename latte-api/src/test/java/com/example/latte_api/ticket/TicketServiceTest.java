@@ -1,6 +1,7 @@
 package com.example.latte_api.ticket;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -8,6 +9,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -22,26 +25,52 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.example.latte_api.activity.Activity;
 import com.example.latte_api.activity.ActivityService;
 import com.example.latte_api.activity.utils.ActivityGenerator;
 import com.example.latte_api.client.ClientRepository;
 import com.example.latte_api.exception.OperationNotPermittedException;
+import com.example.latte_api.exception.PreconditionFailedException;
 import com.example.latte_api.notification.NotificationService;
+import com.example.latte_api.report.ReportService;
+import com.example.latte_api.report.TicketTransition;
 import com.example.latte_api.role.Role;
 import com.example.latte_api.role.authority.Authority;
 import com.example.latte_api.role.authority.IAuthority;
+import com.example.latte_api.shared.ChangeStamp;
+import com.example.latte_api.shared.ETags;
+import com.example.latte_api.shared.Cursor;
+import com.example.latte_api.shared.CursorPagedEntity;
 import com.example.latte_api.shared.PagedEntity;
+import com.example.latte_api.shared.RankCursor;
+import com.example.latte_api.ticket.dto.TicketBoardColumn;
+import com.example.latte_api.ticket.dto.TicketBoardRow;
+import com.example.latte_api.ticket.dto.TicketBulkRequest;
+import com.example.latte_api.ticket.dto.TicketBulkResult;
+import com.example.latte_api.ticket.dto.TicketChanges;
+import com.example.latte_api.ticket.dto.TicketCount;
+import com.example.latte_api.ticket.dto.TicketFilter;
 import com.example.latte_api.ticket.dto.TicketPatchRequest;
 import com.example.latte_api.ticket.dto.TicketRequest;
 import com.example.latte_api.ticket.dto.TicketResponse;
+import com.example.latte_api.ticket.dto.TicketSearchHit;
+import com.example.latte_api.ticket.dto.TicketView;
 import com.example.latte_api.ticket.enums.Priority;
 import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.ticket.enums.TicketEventType;
+import com.example.latte_api.ticket.event.TicketEvent;
 import com.example.latte_api.ticket.mapper.TicketMapper;
+import com.example.latte_api.ticket.snapshot.TicketSnapshotService;
+import com.example.latte_api.ticket.tombstone.TicketTombstone;
+import com.example.latte_api.ticket.tombstone.TicketTombstoneRepository;
 import com.example.latte_api.user.User;
 import com.example.latte_api.user.UserRepository;
 
@@ -60,6 +89,9 @@ public class TicketServiceTest {
   @Mock
   private ClientRepository clientRepository;
 
+  @Mock
+  private TicketTombstoneRepository ticketTombstoneRepository;
+
   @Mock
   private TicketMapper ticketMapper;
 
@@ -72,12 +104,34 @@ public class TicketServiceTest {
   @Mock
   private NotificationService notificationService;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private ReportService reportService;
+
+  @Mock
+  private TicketSnapshotService ticketSnapshotService;
+
   @Captor
   ArgumentCaptor<Ticket> ticketCaptor;
 
+  @Captor
+  ArgumentCaptor<Pageable> pageableCaptor;
+
+  @Captor
+  ArgumentCaptor<TicketEvent> eventCaptor;
+
+  @Captor
+  ArgumentCaptor<List<TicketTransition>> transitionCaptor;
+
   @BeforeEach
   void setup() {
-    ticketService = new TicketService(ticketRepository, userRepository, clientRepository, ticketMapper, activityGenerator, activityService, notificationService);
+    ticketService = new TicketService(ticketRepository, userRepository, clientRepository, ticketTombstoneRepository, ticketMapper, activityGenerator, activityService, notificationService, eventPublisher, reportService, ticketSnapshotService);
+    ReflectionTestUtils.setField(ticketService, "batchMaxSize", 3);
+    ReflectionTestUtils.setField(ticketService, "bulkMaxSize", 3);
+    ReflectionTestUtils.setField(ticketService, "changesLag", 30);
+    ReflectionTestUtils.setField(ticketService, "tombstoneRetention", 2592000);
   }
 
   @AfterEach
@@ -115,6 +169,7 @@ public class TicketServiceTest {
     verify(activityService, times(1)).createActivity(activity);
     verify(ticketRepository).save(ticketCaptor.capture());
     verify(ticketMapper, times(1)).mapToTicketResponse(any(Ticket.class));
+    verify(eventPublisher, times(1)).publishEvent(any(TicketEvent.class));
 
     final Ticket saved = ticketCaptor.getValue();
     Assertions.assertThat(result).isNotNull();
@@ -232,35 +287,63 @@ public class TicketServiceTest {
   @SuppressWarnings("unchecked")
   void shouldReturn_pagedEntity_ofAllTicket() {
     // mock
-    final Page<Ticket> page = Mockito.mock(Page.class);
-    final List<Ticket> tickets = List.of(Mockito.mock(Ticket.class));
+    final Page<TicketView> page = Mockito.mock(Page.class);
+    final List<TicketView> tickets = List.of(Mockito.mock(TicketView.class));
 
     // given
     final int number = 0;
     final int size = 10;
 
     // when
-    when(ticketRepository.findAll(any(Pageable.class))).thenReturn(page);
+    when(ticketRepository.findViews(any(Pageable.class))).thenReturn(page);
     when(page.getContent()).thenReturn(tickets);
 
     final PagedEntity<TicketResponse> result = ticketService.getTickets(number, size);
 
     // then
-    verify(ticketRepository, times(1)).findAll(any(Pageable.class));
+    verify(ticketRepository, times(1)).findViews(any(Pageable.class));
     verify(page, times(1)).hasNext();
     verify(page, times(1)).hasPrevious();
     verify(page, times(1)).getContent();
-    verify(ticketMapper, times(1)).mapToTicketResponse(any(Ticket.class));
+    verify(ticketMapper, times(1)).mapToTicketResponse(any(TicketView.class));
 
     Assertions.assertThat(result).isNotNull();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldReturn_pagedEntity_withoutTotal_ofAllTicket_whenCountDisabled() {
+    // mock
+    final Slice<TicketView> slice = Mockito.mock(Slice.class);
+    final List<TicketView> tickets = List.of(Mockito.mock(TicketView.class));
+
+    // given
+    final int number = 0;
+    final int size = 10;
+
+    // when
+    when(ticketRepository.findViewSlice(any(Pageable.class))).thenReturn(slice);
+    when(slice.getContent()).thenReturn(tickets);
+
+    final PagedEntity<TicketResponse> result = ticketService.getTickets(number, size, false);
+
+    // then
+    verify(ticketRepository, times(1)).findViewSlice(any(Pageable.class));
+    verify(ticketRepository, times(0)).findViews(any(Pageable.class));
+    verify(slice, times(1)).hasNext();
+    verify(slice, times(1)).hasPrevious();
+    verify(ticketMapper, times(1)).mapToTicketResponse(any(TicketView.class));
+
+    Assertions.assertThat(result).isNotNull();
+    Assertions.assertThat(result.getTotalElement()).isNull();
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   void shouldReturn_pagedEntity_ofAllTicket_ofAuthenticatedUser() {
     // mock
-    final Page<Ticket> page = Mockito.mock(Page.class);
-    final List<Ticket> tickets = List.of(Mockito.mock(Ticket.class));
+    final Page<TicketView> page = Mockito.mock(Page.class);
+    final List<TicketView> tickets = List.of(Mockito.mock(TicketView.class));
 
     // given
     final Status status = Status.CLOSE;
@@ -268,50 +351,631 @@ public class TicketServiceTest {
     final int size = 10;
 
     // wheni
-    when(ticketRepository.findByStatus(eq(status), any(Pageable.class))).thenReturn(page);
+    when(ticketRepository.findViewsByStatus(eq(status), any(Pageable.class))).thenReturn(page);
     when(page.getContent()).thenReturn(tickets);
 
     final PagedEntity<TicketResponse> result = ticketService.getTicketByStatus(status, number, size);
 
     // then
-    verify(ticketRepository, times(1)).findByStatus(eq(status), any(Pageable.class));
+    verify(ticketRepository, times(1)).findViewsByStatus(eq(status), any(Pageable.class));
     verify(page, times(1)).hasNext();
     verify(page, times(1)).hasPrevious();
     verify(page, times(1)).getContent();
-    verify(ticketMapper, times(1)).mapToTicketResponse(any(Ticket.class));
+    verify(ticketMapper, times(1)).mapToTicketResponse(any(TicketView.class));
 
     Assertions.assertThat(result).isNotNull();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldReturn_pagedEntity_ofFilteredTickets() {
+    // mock
+    final Page<TicketView> page = Mockito.mock(Page.class);
+    final List<TicketView> tickets = List.of(Mockito.mock(TicketView.class));
+    final User assignee = Mockito.mock(User.class);
+
+    // given
+    final TicketFilter filter = new TicketFilter(Status.OPEN, Priority.HIGH, "peter@test.in", null, null, null, Instant.parse("2025-01-01T00:00:00Z"), null, null, null);
+    final int number = 0;
+    final int size = 10;
+
+    // when
+    when(userRepository.findByEmail("peter@test.in")).thenReturn(Optional.of(assignee));
+    when(ticketRepository.filterViews(any(Specification.class), any(Pageable.class), eq(true))).thenReturn(page);
+    when(page.getContent()).thenReturn(tickets);
+
+    final PagedEntity<TicketResponse> result = ticketService.filterTickets(filter, number, size, true);
+
+    // then
+    verify(userRepository, times(1)).findByEmail("peter@test.in");
+    verify(ticketRepository, times(1)).filterViews(any(Specification.class), any(Pageable.class), eq(true));
+    verify(ticketMapper, times(1)).mapToTicketResponse(any(TicketView.class));
+
+    Assertions.assertThat(result).isNotNull();
+  }
+
+  @Test
+  void shouldThrow_exception_onFilter_ifAssigneeNotPresent() {
+    // given
+    final TicketFilter filter = new TicketFilter(null, null, "unknown@test.in", null, null, null, null, null, null, null);
+
+    // when
+    when(userRepository.findByEmail("unknown@test.in")).thenReturn(Optional.empty());
+
+    // then
+    Assertions.assertThatThrownBy(() -> ticketService.filterTickets(filter, 0, 10, true))
+      .isInstanceOf(EntityNotFoundException.class);
+  }
+
+  @Test
+  void shouldReturn_ticketChanges_inChangeOrder_withNextCursor() {
+    // mock
+    final Instant since = Instant.now().minus(Duration.ofHours(1));
+    final Instant created = since.plus(Duration.ofMinutes(5));
+    final Instant deletedAt = since.plus(Duration.ofMinutes(10));
+    final List<TicketView> changed = List.of(ticketView(102L, created));
+    final List<TicketTombstone> deleted = List.of(new TicketTombstone(101L, deletedAt));
+
+    // when
+    when(ticketRepository.findViewsChangedSince(eq(since), eq(Long.MAX_VALUE), any(Instant.class), any(Pageable.class))).thenReturn(changed);
+    when(ticketTombstoneRepository.findDeletedSince(eq(since), eq(Long.MAX_VALUE), any(Instant.class), any(Pageable.class))).thenReturn(deleted);
+
+    final TicketChanges result = ticketService.getTicketChanges(since, null, 3);
+
+    // then
+    verify(ticketMapper, times(1)).mapToTicketResponse(any(TicketView.class));
+
+    Assertions.assertThat(result.changed()).hasSize(1);
+    Assertions.assertThat(result.deleted()).containsExactly(101L);
+    Assertions.assertThat(result.next()).isFalse();
+    Assertions.assertThat(Cursor.decode(result.nextCursor())).isEqualTo(new Cursor(deletedAt, 101L));
+  }
+
+  @Test
+  void shouldLimit_ticketChanges_toSize_andContinueFromCursor() {
+    // mock
+    final Instant changedAt = Instant.now().minus(Duration.ofHours(1));
+    final Cursor position = new Cursor(changedAt, 101L);
+    final List<TicketView> changed = List.of(ticketView(102L, changedAt), ticketView(103L, changedAt));
+    final List<TicketTombstone> deleted = List.of(new TicketTombstone(104L, changedAt.plus(Duration.ofMinutes(1))));
+
+    // when
+    when(ticketRepository.findViewsChangedSince(eq(changedAt), eq(101L), any(Instant.class), pageableCaptor.capture())).thenReturn(changed);
+    when(ticketTombstoneRepository.findDeletedSince(eq(changedAt), eq(101L), any(Instant.class), any(Pageable.class))).thenReturn(deleted);
+
+    final TicketChanges result = ticketService.getTicketChanges(null, position.encode(), 2);
+
+    // then
+    verify(ticketMapper, times(2)).mapToTicketResponse(any(TicketView.class));
+
+    Assertions.assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(3);
+    Assertions.assertThat(result.changed()).hasSize(2);
+    Assertions.assertThat(result.deleted()).isEmpty();
+    Assertions.assertThat(result.next()).isTrue();
+    Assertions.assertThat(Cursor.decode(result.nextCursor())).isEqualTo(new Cursor(changedAt, 103L));
+  }
+
+  @Test
+  void shouldStay_behindClock_bySafetyLag() {
+    // mock
+    final ArgumentCaptor<Instant> until = ArgumentCaptor.forClass(Instant.class);
+
+    // given
+    final Instant since = Instant.now().minus(Duration.ofHours(1));
+
+    // when
+    when(ticketRepository.findViewsChangedSince(eq(since), eq(Long.MAX_VALUE), until.capture(), any(Pageable.class))).thenReturn(List.of());
+    when(ticketTombstoneRepository.findDeletedSince(eq(since), eq(Long.MAX_VALUE), any(Instant.class), any(Pageable.class))).thenReturn(List.of());
+
+    ticketService.getTicketChanges(since, null, 3);
+
+    // then
+    Assertions.assertThat(until.getValue()).isBefore(Instant.now().minus(Duration.ofSeconds(29)));
+  }
+
+  @Test
+  void shouldAdvance_cursorToBound_whenNothingChanged() {
+    // given
+    final Instant since = Instant.now().minus(Duration.ofHours(1));
+    final ArgumentCaptor<Instant> until = ArgumentCaptor.forClass(Instant.class);
+
+    // when
+    when(ticketRepository.findViewsChangedSince(eq(since), eq(Long.MAX_VALUE), until.capture(), any(Pageable.class))).thenReturn(List.of());
+    when(ticketTombstoneRepository.findDeletedSince(eq(since), eq(Long.MAX_VALUE), any(Instant.class), any(Pageable.class))).thenReturn(List.of());
+
+    final TicketChanges result = ticketService.getTicketChanges(since, null, 3);
+
+    // then
+    Assertions.assertThat(result.changed()).isEmpty();
+    Assertions.assertThat(result.deleted()).isEmpty();
+    Assertions.assertThat(result.next()).isFalse();
+    Assertions.assertThat(Cursor.decode(result.nextCursor())).isEqualTo(new Cursor(until.getValue(), Long.MAX_VALUE));
+  }
+
+  @Test
+  void shouldReturn_sameCursor_whenNothingChanged_andCursorAheadOfBound() {
+    // given
+    final Instant since = Instant.now();
+
+    // when
+    when(ticketRepository.findViewsChangedSince(eq(since), eq(Long.MAX_VALUE), any(Instant.class), any(Pageable.class))).thenReturn(List.of());
+    when(ticketTombstoneRepository.findDeletedSince(eq(since), eq(Long.MAX_VALUE), any(Instant.class), any(Pageable.class))).thenReturn(List.of());
+
+    final TicketChanges result = ticketService.getTicketChanges(since, null, 3);
+
+    // then
+    Assertions.assertThat(Cursor.decode(result.nextCursor())).isEqualTo(new Cursor(since, Long.MAX_VALUE));
+  }
+
+  @Test
+  void shouldKeep_idlePolling_withinTombstoneRetention() {
+    // given
+    final Instant since = Instant.now().minus(Duration.ofMinutes(59));
+
+    // when
+    ReflectionTestUtils.setField(ticketService, "tombstoneRetention", 3600);
+    when(ticketRepository.findViewsChangedSince(any(Instant.class), eq(Long.MAX_VALUE), any(Instant.class), any(Pageable.class))).thenReturn(List.of());
+    when(ticketTombstoneRepository.findDeletedSince(any(Instant.class), eq(Long.MAX_VALUE), any(Instant.class), any(Pageable.class))).thenReturn(List.of());
+
+    final TicketChanges first = ticketService.getTicketChanges(since, null, 3);
+
+    ReflectionTestUtils.setField(ticketService, "tombstoneRetention", 120);
+    final TicketChanges second = ticketService.getTicketChanges(null, first.nextCursor(), 3);
+
+    // then
+    Assertions.assertThat(second.changed()).isEmpty();
+    Assertions.assertThat(Cursor.decode(second.nextCursor()).timestamp()).isAfter(since.plus(Duration.ofMinutes(58)));
+    Assertions.assertThatThrownBy(() -> ticketService.getTicketChanges(since, null, 3))
+      .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldRequire_resync_whenWatermarkOlderThanTombstoneRetention() {
+    // given
+    final Instant since = Instant.now().minus(Duration.ofDays(31));
+
+    // then
+    Assertions.assertThatThrownBy(() -> ticketService.getTicketChanges(since, null, 3))
+      .isInstanceOf(IllegalStateException.class);
+
+    Mockito.verifyNoInteractions(ticketTombstoneRepository);
+  }
+
+  @Test
+  void shouldThrow_exception_forChanges_whenSizeExceedsLimit() {
+    // then
+    Assertions.assertThatThrownBy(() -> ticketService.getTicketChanges(Instant.now(), null, 4))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldReturn_cursorPagedEntity_withNextCursor_onFirstScroll() {
+    // mock
+    final Instant createdAt = Instant.parse("2025-01-01T10:00:00Z");
+    final List<TicketView> tickets = List.of(
+      ticketView(103L, createdAt),
+      ticketView(102L, createdAt),
+      ticketView(101L, createdAt)
+    );
+
+    // given
+    final int size = 2;
+
+    // when
+    when(ticketRepository.findFirstKeyset(any(Pageable.class))).thenReturn(tickets);
+
+    final CursorPagedEntity<TicketResponse> result = ticketService.scrollTickets(null, size);
+
+    // then
+    verify(ticketRepository, times(1)).findFirstKeyset(any(Pageable.class));
+    verify(ticketMapper, times(2)).mapToTicketResponse(any(TicketView.class));
+
+    Assertions.assertThat(result.getContent()).hasSize(2);
+    Assertions.assertThat(result.getNext()).isTrue();
+    Assertions.assertThat(Cursor.decode(result.getNextCursor())).isEqualTo(new Cursor(createdAt, 102L));
+  }
+
+  @Test
+  void shouldReturn_cursorPagedEntity_withoutNextCursor_onLastScroll() {
+    // mock
+    final Instant createdAt = Instant.parse("2025-01-01T10:00:00Z");
+    final List<TicketView> tickets = List.of(ticketView(101L, createdAt));
+
+    // given
+    final String cursor = new Cursor(createdAt, 102L).encode();
+    final Status status = Status.OPEN;
+    final int size = 2;
+
+    // when
+    when(ticketRepository.findNextKeysetByStatus(eq(status), eq(createdAt), eq(102L), any(Pageable.class))).thenReturn(tickets);
+
+    final CursorPagedEntity<TicketResponse> result = ticketService.scrollTicketByStatus(status, cursor, size);
+
+    // then
+    verify(ticketRepository, times(1)).findNextKeysetByStatus(eq(status), eq(createdAt), eq(102L), any(Pageable.class));
+
+    Assertions.assertThat(result.getContent()).hasSize(1);
+    Assertions.assertThat(result.getNext()).isFalse();
+    Assertions.assertThat(result.getNextCursor()).isNull();
+  }
+
+  @Test
+  void shouldThrow_exception_onScroll_forInvalidCursor() {
+    Assertions.assertThatThrownBy(() -> ticketService.scrollTickets("not-a-cursor", 10))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldReturn_rankedTickets_onSearch_inHitOrder() {
+    // mock
+    final Instant createdAt = Instant.parse("2025-01-01T10:00:00Z");
+    final List<TicketSearchHit> hits = List.of(searchHit(102L, 0.9f), searchHit(101L, 0.5f), searchHit(103L, 0.1f));
+    final TicketView low = ticketView(101L, createdAt);
+    final TicketView high = ticketView(102L, createdAt);
+    final TicketResponse first = Mockito.mock(TicketResponse.class);
+    final TicketResponse second = Mockito.mock(TicketResponse.class);
+
+    // given
+    final String query = "printer offline";
+    final int size = 2;
+
+    // when
+    when(ticketRepository.searchFirst(eq(query), any(Pageable.class))).thenReturn(hits);
+    when(ticketRepository.findViewsByIdIn(List.of(102L, 101L, 103L))).thenReturn(List.of(low, high, ticketView(103L, createdAt)));
+    when(ticketMapper.mapToTicketResponse(high)).thenReturn(first);
+    when(ticketMapper.mapToTicketResponse(low)).thenReturn(second);
+
+    final CursorPagedEntity<TicketResponse> result = ticketService.searchTickets(query, null, size);
+
+    // then
+    verify(ticketRepository, times(1)).searchFirst(eq(query), any(Pageable.class));
+
+    Assertions.assertThat(result.getContent()).containsExactly(first, second);
+    Assertions.assertThat(result.getNext()).isTrue();
+    Assertions.assertThat(RankCursor.decode(result.getNextCursor())).isEqualTo(new RankCursor(0.5f, 101L));
+  }
+
+  @Test
+  void shouldThrow_exception_onSearch_forBlankQuery() {
+    Assertions.assertThatThrownBy(() -> ticketService.searchTickets(" ", null, 10))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void shouldReturn_ticketResponse_forValidId() {
     // mock
-    final Ticket ticket = Mockito.mock(Ticket.class);
+    final TicketView ticket = Mockito.mock(TicketView.class);
     final TicketResponse response = Mockito.mock(TicketResponse.class);
 
     // given
     final Long id = 101L;
 
     // wheni
-    when(ticketRepository.findById(id)).thenReturn(Optional.of(ticket));
+    when(ticketRepository.findViewById(id)).thenReturn(Optional.of(ticket));
     when(ticketMapper.mapToTicketResponse(ticket)).thenReturn(response);
 
     final TicketResponse result = ticketService.getTicket(id);
 
     // then
-    verify(ticketRepository, times(1)).findById(id);
-    verify(ticketMapper, times(1)).mapToTicketResponse(any(Ticket.class));
+    verify(ticketRepository, times(1)).findViewById(id);
+    verify(ticketRepository, times(0)).findById(id);
+    verify(ticketMapper, times(1)).mapToTicketResponse(any(TicketView.class));
 
     Assertions.assertThat(result).isNotNull();
   }
 
+  @Test
+  void shouldReturn_tickets_inRequestOrder_onBatchFetch() {
+    // mock
+    final Instant createdAt = Instant.parse("2025-01-01T10:00:00Z");
+    final TicketView first = ticketView(101L, createdAt);
+    final TicketView second = ticketView(103L, createdAt);
+    final TicketResponse firstResponse = Mockito.mock(TicketResponse.class);
+    final TicketResponse secondResponse = Mockito.mock(TicketResponse.class);
+
+    // given
+    final List<Long> ids = List.of(103L, 102L, 101L, 103L);
+
+    // when
+    when(ticketRepository.findViewsByIdIn(List.of(103L, 102L, 101L))).thenReturn(List.of(first, second));
+    when(ticketMapper.mapToTicketResponse(first)).thenReturn(firstResponse);
+    when(ticketMapper.mapToTicketResponse(second)).thenReturn(secondResponse);
+
+    final List<TicketResponse> result = ticketService.getTicketsByIds(ids);
+
+    // then
+    verify(ticketRepository, times(1)).findViewsByIdIn(anyList());
+    Assertions.assertThat(result).containsExactly(secondResponse, firstResponse);
+  }
+
+  @Test
+  void shouldThrow_exception_onBatchFetch_whenLimitExceeded() {
+    Assertions.assertThatThrownBy(() -> ticketService.getTicketsByIds(List.of(101L, 102L, 103L, 104L)))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldReturn_boardColumns_forEveryStatus() {
+    // mock
+    final Instant createdAt = Instant.parse("2025-01-01T10:00:00Z");
+    final TicketView open = ticketView(101L, createdAt);
+    final TicketView closed = new TicketView(102L, "T102", "description", Priority.LOW, Status.CLOSE, false, "Peter", "peter@test.in", null, null, createdAt, null, null, null, 0L);
+    final TicketResponse openResponse = Mockito.mock(TicketResponse.class);
+    final TicketResponse closedResponse = Mockito.mock(TicketResponse.class);
+
+    // when
+    when(ticketRepository.findBoardViews(2)).thenReturn(List.of(new TicketBoardRow(open, 7L), new TicketBoardRow(closed, 1L)));
+    when(ticketMapper.mapToTicketResponse(open)).thenReturn(openResponse);
+    when(ticketMapper.mapToTicketResponse(closed)).thenReturn(closedResponse);
+
+    final List<TicketBoardColumn> result = ticketService.getBoard(2);
+
+    // then
+    verify(ticketRepository, times(1)).findBoardViews(2);
+
+    Assertions.assertThat(result).extracting(TicketBoardColumn::status).containsExactly(Status.values());
+    Assertions.assertThat(result.get(Status.OPEN.ordinal()).count()).isEqualTo(7L);
+    Assertions.assertThat(result.get(Status.OPEN.ordinal()).tickets()).containsExactly(openResponse);
+    Assertions.assertThat(result.get(Status.CLOSE.ordinal()).tickets()).containsExactly(closedResponse);
+    Assertions.assertThat(result.get(Status.IN_PROGRESS.ordinal()).count()).isEqualTo(0L);
+    Assertions.assertThat(result.get(Status.IN_PROGRESS.ordinal()).tickets()).isEmpty();
+  }
+
+  @Test
+  void shouldThrow_exception_onBoard_whenSizeExceedsLimit() {
+    Assertions.assertThatThrownBy(() -> ticketService.getBoard(4))
+      .isInstanceOf(IllegalArgumentException.class);
+    verify(ticketRepository, times(0)).findBoardViews(anyInt());
+  }
+
+  @Test
+  void shouldBulkUpdate_tickets_andCoalesce_notificationPerAssignee() {
+    // mock
+    final User user = User.builder()
+      .firstname("Peter")
+      .email("peter@test.in")
+      .role(Role.builder().role("Admin").authorities(List.of(Authority.builder().authority("ticket::assign").build(), Authority.builder().authority("ticket::edit").build())).build())
+      .build();
+    final User assignee = User.builder().firstname("Bruce").email("bruce@test.in").build();
+    final Ticket first = Ticket.builder().id(101L).status(Status.OPEN).lock(false).createdBy(user).build();
+    final Ticket second = Ticket.builder().id(102L).status(Status.OPEN).lock(false).createdBy(user).build();
+    final Authentication authentication = Mockito.mock(Authentication.class);
+
+    // given
+    final TicketPatchRequest patch = new TicketPatchRequest(null, null, "Bruce", null, Status.CLOSE, null);
+    final TicketBulkRequest request = new TicketBulkRequest(List.of(101L, 102L), null, patch);
+
+    // when
+    when(authentication.getPrincipal()).thenReturn(user);
+    when(ticketRepository.findByIdIn(List.of(101L, 102L))).thenReturn(List.of(first, second));
+    when(userRepository.findByFirstname("Bruce")).thenReturn(Optional.of(assignee));
+
+    final TicketBulkResult result = ticketService.bulkEditTickets(request, authentication);
+
+    // then
+    verify(ticketRepository, times(1)).saveAll(List.of(first, second));
+    verify(activityService, times(1)).saveActivities(anyList());
+    verify(activityGenerator, times(2)).statusChanged(eq(user), any(Ticket.class), eq(Status.OPEN), eq(Status.CLOSE));
+    verify(activityGenerator, times(2)).assignedToChanged(eq(user), any(Ticket.class), eq(""), eq("Bruce"));
+    verify(notificationService, times(1)).sendNotification(eq(assignee), anyString());
+
+    Assertions.assertThat(result.matched()).isEqualTo(2);
+    Assertions.assertThat(result.updated()).isEqualTo(2);
+    Assertions.assertThat(first.getStatus()).isEqualTo(Status.CLOSE);
+    Assertions.assertThat(second.getAssignedTo()).isEqualTo(assignee);
+  }
+
+  @Test
+  void shouldThrow_exception_onBulkUpdate_ifAnyTicketIsLocked() {
+    // mock
+    final User user = Mockito.mock(User.class);
+    final Ticket ticket = Ticket.builder().id(101L).status(Status.OPEN).lock(true).build();
+    final Authentication authentication = Mockito.mock(Authentication.class);
+
+    // given
+    final TicketBulkRequest request = new TicketBulkRequest(List.of(101L), null, new TicketPatchRequest(null, null, null, null, Status.CLOSE, null));
+
+    // when
+    when(authentication.getPrincipal()).thenReturn(user);
+    when(ticketRepository.findByIdIn(List.of(101L))).thenReturn(List.of(ticket));
+
+    // then
+    Assertions.assertThatThrownBy(() -> ticketService.bulkEditTickets(request, authentication))
+      .isInstanceOf(IllegalStateException.class);
+    verify(ticketRepository, times(0)).saveAll(anyList());
+  }
+
+  @Test
+  void shouldThrow_exception_onBulkUpdate_withoutIdsOrFilter() {
+    // mock
+    final Authentication authentication = Mockito.mock(Authentication.class);
+
+    // given
+    final TicketBulkRequest request = new TicketBulkRequest(null, null, new TicketPatchRequest(null, null, null, null, Status.CLOSE, null));
+
+    // when
+    when(authentication.getPrincipal()).thenReturn(Mockito.mock(User.class));
+
+    // then
+    Assertions.assertThatThrownBy(() -> ticketService.bulkEditTickets(request, authentication))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldThrow_exception_onBulkUpdate_withEmptyFilter() {
+    // mock
+    final Authentication authentication = Mockito.mock(Authentication.class);
+
+    // given
+    final TicketFilter filter = new TicketFilter(null, null, "", null, null, null, null, null, null, null);
+    final TicketBulkRequest request = new TicketBulkRequest(null, filter, new TicketPatchRequest(null, null, null, null, Status.CLOSE, null));
+
+    // when
+    when(authentication.getPrincipal()).thenReturn(Mockito.mock(User.class));
+
+    // then
+    Assertions.assertThatThrownBy(() -> ticketService.bulkEditTickets(request, authentication))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("at least one criterion");
+
+    verify(ticketRepository, times(0)).count(any(Specification.class));
+    verify(ticketRepository, times(0)).findAll(any(Specification.class));
+    verify(ticketRepository, times(0)).saveAll(anyList());
+  }
+
+  @Test
+  void shouldReturn_sameETag_forUnchangedTicket() {
+    // given
+    final Long id = 101L;
+    final ChangeStamp users = new ChangeStamp(2L, Instant.parse("2025-01-01T10:00:00Z"));
+    final ChangeStamp clients = new ChangeStamp(1L, Instant.parse("2025-01-01T10:00:00Z"));
+
+    // when
+    when(ticketRepository.findVersionById(id)).thenReturn(Optional.of(3L));
+    when(userRepository.findChangeStamp()).thenReturn(users);
+    when(clientRepository.findChangeStamp()).thenReturn(clients);
+
+    final String first = ticketService.getTicketETag(id);
+    final String second = ticketService.getTicketETag(id);
+
+    // then
+    verify(ticketRepository, times(2)).findVersionById(id);
+    verify(ticketRepository, times(0)).findViewById(id);
+
+    Assertions.assertThat(first).isEqualTo(second).startsWith("\"3-");
+    Assertions.assertThat(ETags.parseVersion(first)).isEqualTo(3L);
+  }
+
+  @Test
+  void shouldReturn_newETag_forTicketAfterUserOrClientRenamed() {
+    // given
+    final Long id = 101L;
+    final Instant changedAt = Instant.parse("2025-01-01T10:00:00Z");
+    final ChangeStamp users = new ChangeStamp(2L, changedAt);
+    final ChangeStamp clients = new ChangeStamp(1L, changedAt);
+
+    // when
+    when(ticketRepository.findVersionById(id)).thenReturn(Optional.of(3L));
+    when(userRepository.findChangeStamp()).thenReturn(users, new ChangeStamp(2L, Instant.parse("2025-01-01T11:00:00Z")), users);
+    when(clientRepository.findChangeStamp()).thenReturn(clients, clients, new ChangeStamp(1L, Instant.parse("2025-01-01T11:00:00Z")));
+
+    final String before = ticketService.getTicketETag(id);
+    final String afterUserRenamed = ticketService.getTicketETag(id);
+    final String afterClientRenamed = ticketService.getTicketETag(id);
+
+    // then
+    Assertions.assertThat(afterUserRenamed).isNotEqualTo(before);
+    Assertions.assertThat(afterClientRenamed).isNotEqualTo(before).isNotEqualTo(afterUserRenamed);
+  }
+
+  @Test
+  void shouldThrow_preconditionFailedException_whenVersionMismatch() {
+    // mock
+    final User user = Mockito.mock(User.class);
+    final Ticket ticket = Ticket.builder()
+      .title("Title")
+      .lock(false)
+      .version(4L)
+      .build();
+
+    // given
+    final Authentication authentication = Mockito.mock(Authentication.class);
+    final Long id = 101L;
+    final TicketPatchRequest request = new TicketPatchRequest("New Title", null, null, null, null, null);
+
+    // when
+    when(authentication.getPrincipal()).thenReturn(user);
+    when(ticketRepository.findById(id)).thenReturn(Optional.of(ticket));
+
+    // then
+    Assertions.assertThatThrownBy(() -> ticketService.editTicket(id, request, 3L, authentication))
+      .isInstanceOf(PreconditionFailedException.class);
+
+    verify(ticketRepository, times(0)).save(any(Ticket.class));
+    verify(activityService, times(0)).saveActivities(anyList());
+    verify(eventPublisher, times(0)).publishEvent(any());
+  }
+
+  @Test
+  void shouldReturn_ticketResponse_whenVersionMatches() {
+    // mock
+    final User user = Mockito.mock(User.class);
+    final Ticket ticket = Ticket.builder()
+      .title("Title")
+      .lock(false)
+      .createdBy(user)
+      .version(3L)
+      .build();
+    final Activity activity = Mockito.mock(Activity.class);
+    final TicketResponse ticketResponse = Mockito.mock(TicketResponse.class);
+
+    // given
+    final Authentication authentication = Mockito.mock(Authentication.class);
+    final Long id = 101L;
+    final TicketPatchRequest request = new TicketPatchRequest("New Title", null, null, null, null, null);
+
+    // when
+    when(authentication.getPrincipal()).thenReturn(user);
+    when(ticketRepository.findById(id)).thenReturn(Optional.of(ticket));
+    when(activityGenerator.titleChanged(eq(user), eq(ticket), eq("Title"), eq("New Title"))).thenReturn(activity);
+    when(user.getEmail()).thenReturn("user@test.in");
+    when(ticketMapper.mapToTicketResponse(ticket)).thenReturn(ticketResponse);
+
+    final TicketResponse result = ticketService.editTicket(id, request, 3L, authentication);
+
+    // then
+    verify(ticketRepository, times(1)).save(ticket);
+    verify(ticketRepository, times(1)).flush();
+    verify(activityService, times(1)).saveActivities(anyList());
+
+    Assertions.assertThat(result).isEqualTo(ticketResponse);
+    Assertions.assertThat(ticket.getTitle()).isEqualTo(request.title());
+  }
+
+  @Test
+  void shouldReturn_newETag_forTicketsAfterDelete() {
+    // given
+    final Instant changedAt = Instant.parse("2025-01-01T10:00:00Z");
+
+    // when
+    when(ticketRepository.findLastChangedAt()).thenReturn(changedAt);
+    when(ticketTombstoneRepository.findLastDeletedAt()).thenReturn(null, Instant.parse("2025-01-01T11:00:00Z"));
+
+    final String before = ticketService.getTicketsETag(0, 10, true);
+    final String after = ticketService.getTicketsETag(0, 10, true);
+
+    // then
+    Assertions.assertThat(before).isNotEqualTo(after);
+  }
+
+  @Test
+  void shouldReturn_newETag_forTicketsAfterUserOrClientRenamed() {
+    // given
+    final Instant changedAt = Instant.parse("2025-01-01T10:00:00Z");
+    final ChangeStamp users = new ChangeStamp(2L, changedAt);
+    final ChangeStamp clients = new ChangeStamp(1L, changedAt);
+
+    // when
+    when(ticketRepository.findLastChangedAt()).thenReturn(changedAt);
+    when(userRepository.findChangeStamp()).thenReturn(users, new ChangeStamp(2L, Instant.parse("2025-01-01T11:00:00Z")), users);
+    when(clientRepository.findChangeStamp()).thenReturn(clients, clients, new ChangeStamp(0L, changedAt));
+
+    final String before = ticketService.getTicketsETag(0, 10, true);
+    final String afterUserRenamed = ticketService.getTicketsETag(0, 10, true);
+    final String afterClientDeleted = ticketService.getTicketsETag(0, 10, true);
+
+    // then
+    Assertions.assertThat(afterUserRenamed).isNotEqualTo(before);
+    Assertions.assertThat(afterClientDeleted).isNotEqualTo(before).isNotEqualTo(afterUserRenamed);
+  }
+
   @Test
   void shouldThrow_exception_forInalidId_onGetTicket() {
     // given
     final Long id = 102L;
 
     // wheni
-    when(ticketRepository.findById(id)).thenReturn(Optional.empty());
+    when(ticketRepository.findViewById(id)).thenReturn(Optional.empty());
 
     // then
     Assertions.assertThatThrownBy(() -> ticketService.getTicket(id));
@@ -320,26 +984,28 @@ public class TicketServiceTest {
   @Test
   void shouldReturn_map_ofTicketInfo() {
     // mock
-    final List<Ticket> tickets = List.of(
-      Ticket.builder().title("T1").description("test 1").priority(Priority.LOW).status(Status.OPEN).build(),
-      Ticket.builder().title("T1").description("test 1").priority(Priority.LOW).status(Status.CLOSE).build()
+    final List<TicketCount> counts = List.of(
+      new TicketCount(Status.OPEN, Priority.LOW, 1L),
+      new TicketCount(Status.CLOSE, Priority.LOW, 1L)
     );
     // given
     final Authentication authentication = Mockito.mock(Authentication.class);
 
     // when
-    when(ticketRepository.count()).thenReturn((long)tickets.size());
-    when(ticketRepository.findAll()).thenReturn(tickets);
+    when(ticketRepository.countByStatusAndPriority()).thenReturn(counts);
     
     final Map<String, Long> result = ticketService.getTicketsInfo(authentication);
 
     // then
-    verify(ticketRepository, times(1)).findAll();
-    verify(ticketRepository, times(1)).count();
+    verify(ticketRepository, times(1)).countByStatusAndPriority();
+    verify(ticketRepository, times(0)).findAll();
 
     Assertions.assertThat(result).isNotNull();
     Assertions.assertThat(result.get("open_tickets")).isEqualTo(1);
     Assertions.assertThat(result.get("closed_tickets")).isEqualTo(1);
+    Assertions.assertThat(result.get("in_progress_tickets")).isEqualTo(0);
+    Assertions.assertThat(result.get("low_priority_tickets")).isEqualTo(2);
+    Assertions.assertThat(result.get("open_low_priority_tickets")).isEqualTo(1);
     Assertions.assertThat(result.get("total_tickets")).isEqualTo(2);
   }
 
@@ -380,6 +1046,7 @@ public class TicketServiceTest {
     verify(activityGenerator, times(1)).titleChanged(eq(user), eq(ticket), eq("Title"), eq("New Title"));
     verify(ticketRepository, times(1)).save(ticketCaptor.capture());
     verify(activityService, times(1)).saveActivities(anyList());
+    verify(reportService, times(0)).recordTransitions(anyList());
     verify(ticketMapper, times(1)).mapToTicketResponse(ticket);
 
     final Ticket updated = ticketCaptor.getValue();
@@ -411,7 +1078,7 @@ public class TicketServiceTest {
     // when
     when(authentication.getPrincipal()).thenReturn(user);
     when(ticketRepository.findById(id)).thenReturn(Optional.of(ticket));
-    when(activityGenerator.descriptionChanged(user, ticket)).thenReturn(activity);
+    when(activityGenerator.descriptionChanged(user, ticket, "description", "New description")).thenReturn(activity);
     when(ticketMapper.mapToTicketResponse(ticket)).thenReturn(ticketResponse);
     when(user.getEmail()).thenReturn("user@test.in");
 
@@ -420,7 +1087,7 @@ public class TicketServiceTest {
     // then
     verify(authentication, times(1)).getPrincipal();
     verify(ticketRepository, times(1)).findById(id);
-    verify(activityGenerator, times(1)).descriptionChanged(user, ticket);
+    verify(activityGenerator, times(1)).descriptionChanged(user, ticket, "description", "New description");
     verify(ticketRepository, times(1)).save(ticketCaptor.capture());
     verify(activityService, times(1)).saveActivities(anyList());
     verify(ticketMapper, times(1)).mapToTicketResponse(ticket);
@@ -619,12 +1286,17 @@ public class TicketServiceTest {
     verify(activityGenerator, times(1)).statusChanged(user, ticket, Status.OPEN, Status.CLOSE);
     verify(ticketRepository, times(1)).save(ticketCaptor.capture());
     verify(activityService, times(1)).saveActivities(anyList());
+    verify(reportService, times(1)).recordTransitions(transitionCaptor.capture());
     verify(ticketMapper, times(1)).mapToTicketResponse(ticket);
 
     final Ticket updated = ticketCaptor.getValue();
+    final TicketTransition transition = transitionCaptor.getValue().get(0);
 
     Assertions.assertThat(result).isNotNull();
     Assertions.assertThat(updated.getStatus()).isEqualTo(request.status());
+    Assertions.assertThat(transition.getFromStatus()).isEqualTo(Status.OPEN);
+    Assertions.assertThat(transition.getToStatus()).isEqualTo(Status.CLOSE);
+    Assertions.assertThat(transition.getPriority()).isEqualTo(Priority.LOW);
   }
 
   @Test
@@ -766,6 +1438,7 @@ public class TicketServiceTest {
     verify(ticketRepository, times(1)).findById(id);
     verify(ticket, times(1)).getAssignedTo();
     verify(ticketRepository, times(1)).delete(ticket);
+    verify(ticketTombstoneRepository, times(1)).save(any(TicketTombstone.class));
   }
 
   @Test
@@ -885,6 +1558,8 @@ public class TicketServiceTest {
 
     verify(ticketRepository, times(1)).findById(id);
     verify(ticketMapper, times(1)).mapToTicketResponse(ticket);
+    verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+    Assertions.assertThat(eventCaptor.getValue().type()).isEqualTo(TicketEventType.LOCKED);
     Assertions.assertThat(result).isNotNull();
   }
 
@@ -925,4 +1600,15 @@ public class TicketServiceTest {
     Assertions.assertThatThrownBy(() -> ticketService.unlockTicket(101L))
       .isInstanceOf(EntityNotFoundException.class);
   }
+
+  private TicketView ticketView(Long id, Instant createdAt) {
+    return new TicketView(id, "T" + id, "description", Priority.LOW, Status.OPEN, false, "Peter", "peter@test.in", null, null, createdAt, null, null, null, 0L);
+  }
+
+  private TicketSearchHit searchHit(Long id, Float rank) {
+    return new TicketSearchHit() {
+      public Long getId() { return id; }
+      public Float getRank() { return rank; }
+    };
+  }
 }
@@ -0,0 +1,78 @@
+package com.example.latte_api.ticket.event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.AbstractMessageChannel;
+
+import com.example.latte_api.config.WebsocketConfig;
+import com.example.latte_api.security.StompAuthInterceptor;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.ticket.enums.TicketEventType;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketEventListenerTest {
+  private TicketEventListener ticketEventListener;
+
+  @Mock
+  private StompAuthInterceptor stompAuthInterceptor;
+
+  private final List<Message<?>> sent = new ArrayList<>();
+
+  @BeforeEach
+  void setup() {
+    final List<MessageConverter> converters = new ArrayList<>();
+    new WebsocketConfig(stompAuthInterceptor, Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build()).configureMessageConverters(converters);
+
+    final SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(new AbstractMessageChannel() {
+      @Override
+      protected boolean sendInternal(Message<?> message, long timeout) {
+        return sent.add(message);
+      }
+    });
+    messagingTemplate.setMessageConverter(new CompositeMessageConverter(converters));
+
+    ticketEventListener = new TicketEventListener(messagingTemplate);
+  }
+
+  @AfterEach
+  void purge() {
+    ticketEventListener = null;
+    sent.clear();
+  }
+
+  @Test
+  void shouldPublish_serializedEvent_onBoardAndTicketTopic() {
+    // given
+    final TicketEvent event = new TicketEvent(101L, TicketEventType.UPDATED, "Test", Status.OPEN, Priority.LOW, false, null, Instant.parse("2025-01-06T10:00:00Z"));
+
+    // when
+    ticketEventListener.onTicketEvent(event);
+
+    // then
+    Assertions.assertThat(sent).hasSize(2);
+    Assertions.assertThat(sent).extracting(m -> SimpMessageHeaderAccessor.getDestination(m.getHeaders()))
+      .containsExactly("/topic/tickets", "/topic/tickets/101");
+
+    final String payload = new String((byte[]) sent.get(0).getPayload(), StandardCharsets.UTF_8);
+
+    Assertions.assertThat(payload).contains("\"id\":101", "\"type\":\"UPDATED\"", "\"timestamp\":\"2025-01-06T10:00:00Z\"");
+  }
+}
@@ -0,0 +1,239 @@
+package com.example.latte_api.ticket.snapshot;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.latte_api.activity.Activity;
+import com.example.latte_api.activity.ActivityRepository;
+import com.example.latte_api.activity.dto.ActivityChange;
+import com.example.latte_api.activity.enums.ActivityField;
+import com.example.latte_api.client.Client;
+import com.example.latte_api.ticket.Ticket;
+import com.example.latte_api.ticket.TicketRepository;
+import com.example.latte_api.ticket.dto.TicketSnapshotVersion;
+import com.example.latte_api.ticket.dto.TicketStateResponse;
+import com.example.latte_api.ticket.enums.Priority;
+import com.example.latte_api.ticket.enums.Status;
+import com.example.latte_api.user.User;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketSnapshotServiceTest {
+  private TicketSnapshotService ticketSnapshotService;
+
+  @Mock
+  private TicketSnapshotRepository ticketSnapshotRepository;
+
+  @Mock
+  private TicketRepository ticketRepository;
+
+  @Mock
+  private ActivityRepository activityRepository;
+
+  @Captor
+  ArgumentCaptor<List<TicketSnapshot>> snapshotCaptor;
+
+  @BeforeEach
+  void setup() {
+    ticketSnapshotService = new TicketSnapshotService(ticketSnapshotRepository, ticketRepository, activityRepository);
+    ReflectionTestUtils.setField(ticketSnapshotService, "snapshotInterval", 50);
+  }
+
+  @AfterEach
+  void purge() {
+    ticketSnapshotService = null;
+  }
+
+  @Test
+  void shouldSave_snapshotAtLastActivity_whenVersionReachesInterval() {
+    // given
+    final Ticket ticket = ticket(50L);
+    final Ticket other = ticket(51L);
+    other.setId(102L);
+    final Activity first = activity(201L, ticket, "2025-01-06T10:00:00Z");
+    final Activity last = activity(202L, ticket, "2025-01-06T10:00:01Z");
+    final Activity skipped = activity(203L, other, "2025-01-06T10:00:01Z");
+
+    // when
+    when(ticketSnapshotRepository.findLatestVersions(List.of(101L, 102L))).thenReturn(List.of(new TicketSnapshotVersion(102L, 50L)));
+
+    ticketSnapshotService.checkpoint(List.of(first, last, skipped));
+
+    // then
+    verify(ticketSnapshotRepository, times(1)).saveAll(snapshotCaptor.capture());
+
+    final List<TicketSnapshot> snapshots = snapshotCaptor.getValue();
+
+    Assertions.assertThat(snapshots).hasSize(1);
+    Assertions.assertThat(snapshots.get(0).getTicketId()).isEqualTo(101L);
+    Assertions.assertThat(snapshots.get(0).getActivityId()).isEqualTo(202L);
+    Assertions.assertThat(snapshots.get(0).getTakenAt()).isEqualTo(Instant.parse("2025-01-06T10:00:01Z"));
+    Assertions.assertThat(snapshots.get(0).getAssignedTo()).isEqualTo("Peter");
+    Assertions.assertThat(snapshots.get(0).getClientName()).isEqualTo("Acme");
+    Assertions.assertThat(snapshots.get(0).getTicketVersion()).isEqualTo(50L);
+  }
+
+  @Test
+  void shouldSave_snapshot_whenVersionJumpsPastInterval() {
+    // given
+    final Ticket ticket = ticket(91L);
+
+    // when
+    when(ticketSnapshotRepository.findLatestVersions(List.of(101L))).thenReturn(List.of(new TicketSnapshotVersion(101L, 40L)));
+
+    ticketSnapshotService.checkpoint(List.of(activity(201L, ticket, "2025-01-06T10:00:00Z")));
+
+    // then
+    verify(ticketSnapshotRepository, times(1)).saveAll(snapshotCaptor.capture());
+
+    Assertions.assertThat(snapshotCaptor.getValue()).hasSize(1);
+    Assertions.assertThat(snapshotCaptor.getValue().get(0).getTicketVersion()).isEqualTo(91L);
+  }
+
+  @Test
+  void shouldNotSave_snapshot_whenNoTicketReachesInterval() {
+    // when
+    ticketSnapshotService.checkpoint(List.of(activity(201L, ticket(7L), "2025-01-06T10:00:00Z")));
+
+    // then
+    verify(ticketSnapshotRepository, times(0)).saveAll(anyList());
+  }
+
+  @Test
+  void shouldFold_changesForward_fromSnapshotBeforeTimestamp() {
+    // mock
+    final Instant ts = Instant.parse("2025-01-10T00:00:00Z");
+    final TicketSnapshot snapshot = snapshot(150L, "2025-01-06T10:00:00Z");
+
+    // when
+    when(ticketRepository.findById(101L)).thenReturn(Optional.of(ticket(60L)));
+    when(ticketSnapshotRepository.findFirstByTicketIdAndTakenAtLessThanEqualOrderByTakenAtDescActivityIdDesc(101L, ts)).thenReturn(Optional.of(snapshot));
+    when(activityRepository.findTicketChangesAfter(101L, snapshot.getTakenAt(), 150L, ts)).thenReturn(List.of(
+      new ActivityChange(151L, ActivityField.STATUS, "OPEN", "IN_PROGRESS", Instant.parse("2025-01-07T10:00:00Z")),
+      new ActivityChange(152L, ActivityField.TITLE, "Title", "New Title", Instant.parse("2025-01-08T10:00:00Z")),
+      new ActivityChange(153L, ActivityField.DESCRIPTION, null, null, Instant.parse("2025-01-08T11:00:00Z")),
+      new ActivityChange(154L, ActivityField.ASSIGNEE, null, "Bruce", Instant.parse("2025-01-09T10:00:00Z"))
+    ));
+
+    final TicketStateResponse result = ticketSnapshotService.getTicketAsOf(101L, ts);
+
+    // then
+    Assertions.assertThat(result.id()).isEqualTo(101L);
+    Assertions.assertThat(result.title()).isEqualTo("New Title");
+    Assertions.assertThat(result.description()).isEqualTo("description");
+    Assertions.assertThat(result.status()).isEqualTo(Status.IN_PROGRESS);
+    Assertions.assertThat(result.priority()).isEqualTo(Priority.LOW);
+    Assertions.assertThat(result.assignedTo()).isEqualTo("Bruce");
+    Assertions.assertThat(result.asOf()).isEqualTo(ts);
+  }
+
+  @Test
+  void shouldUnfold_changesBackward_fromSnapshotAfterTimestamp() {
+    // mock
+    final Instant ts = Instant.parse("2025-01-05T00:00:00Z");
+    final TicketSnapshot snapshot = snapshot(150L, "2025-01-06T10:00:00Z");
+
+    // when
+    when(ticketRepository.findById(101L)).thenReturn(Optional.of(ticket(60L)));
+    when(ticketSnapshotRepository.findFirstByTicketIdAndTakenAtLessThanEqualOrderByTakenAtDescActivityIdDesc(101L, ts)).thenReturn(Optional.empty());
+    when(ticketSnapshotRepository.findFirstByTicketIdAndTakenAtGreaterThanOrderByTakenAtAscActivityIdAsc(101L, ts)).thenReturn(Optional.of(snapshot));
+    when(activityRepository.findTicketChangesBetween(101L, ts, snapshot.getTakenAt(), 150L)).thenReturn(List.of(
+      new ActivityChange(150L, ActivityField.PRIORITY, "HIGH", "LOW", Instant.parse("2025-01-06T10:00:00Z")),
+      new ActivityChange(149L, ActivityField.CLIENT, null, "Acme", Instant.parse("2025-01-05T10:00:00Z"))
+    ));
+
+    final TicketStateResponse result = ticketSnapshotService.getTicketAsOf(101L, ts);
+
+    // then
+    Assertions.assertThat(result.priority()).isEqualTo(Priority.HIGH);
+    Assertions.assertThat(result.clientName()).isNull();
+    Assertions.assertThat(result.status()).isEqualTo(Status.OPEN);
+  }
+
+  @Test
+  void shouldUnfold_fromCurrentState_whenNoSnapshotExists() {
+    // mock
+    final Instant ts = Instant.parse("2025-01-05T00:00:00Z");
+
+    // when
+    when(ticketRepository.findById(101L)).thenReturn(Optional.of(ticket(60L)));
+    when(ticketSnapshotRepository.findFirstByTicketIdAndTakenAtLessThanEqualOrderByTakenAtDescActivityIdDesc(101L, ts)).thenReturn(Optional.empty());
+    when(ticketSnapshotRepository.findFirstByTicketIdAndTakenAtGreaterThanOrderByTakenAtAscActivityIdAsc(101L, ts)).thenReturn(Optional.empty());
+    when(activityRepository.findTicketChangesSince(101L, ts)).thenReturn(List.of(
+      new ActivityChange(150L, ActivityField.ASSIGNEE, "Bruce", "Peter", Instant.parse("2025-01-06T10:00:00Z"))
+    ));
+
+    final TicketStateResponse result = ticketSnapshotService.getTicketAsOf(101L, ts);
+
+    // then
+    Assertions.assertThat(result.assignedTo()).isEqualTo("Bruce");
+    Assertions.assertThat(result.clientName()).isEqualTo("Acme");
+  }
+
+  @Test
+  void shouldThrow_entityNotFoundException_whenTimestampBeforeCreation() {
+    // when
+    when(ticketRepository.findById(101L)).thenReturn(Optional.of(ticket(60L)));
+
+    // then
+    Assertions.assertThatThrownBy(() -> ticketSnapshotService.getTicketAsOf(101L, Instant.parse("2024-12-31T00:00:00Z")))
+      .isInstanceOf(EntityNotFoundException.class);
+  }
+
+  private Ticket ticket(Long version) {
+    final Ticket ticket = Ticket.builder()
+      .id(101L)
+      .title("Title")
+      .description("description")
+      .priority(Priority.LOW)
+      .status(Status.OPEN)
+      .assignedTo(User.builder().id(102L).firstname("Peter").build())
+      .client(Client.builder().id(101L).name("Acme").build())
+      .version(version)
+      .build();
+    ticket.setCreatedAt(Instant.parse("2025-01-01T00:00:00Z"));
+    return ticket;
+  }
+
+  private Activity activity(Long id, Ticket ticket, String createdAt) {
+    final Activity activity = Activity.builder()
+      .id(id)
+      .ticket(ticket)
+      .field(ActivityField.TITLE)
+      .build();
+    activity.setCreatedAt(Instant.parse(createdAt));
+    return activity;
+  }
+
+  private TicketSnapshot snapshot(Long activityId, String takenAt) {
+    return TicketSnapshot.builder()
+      .ticketId(101L)
+      .activityId(activityId)
+      .takenAt(Instant.parse(takenAt))
+      .title("Title")
+      .description("description")
+      .priority(Priority.LOW)
+      .status(Status.OPEN)
+      .assignedTo("Peter")
+      .clientName("Acme")
+      .build();
+  }
+}
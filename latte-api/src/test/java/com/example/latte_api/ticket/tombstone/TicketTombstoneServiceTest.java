@@ -0,0 +1,60 @@
+package com.example.latte_api.ticket.tombstone;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketTombstoneServiceTest {
+  private TicketTombstoneService ticketTombstoneService;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Captor
+  private ArgumentCaptor<Timestamp> horizonCaptor;
+
+  @BeforeEach
+  void setup() {
+    ticketTombstoneService = new TicketTombstoneService(jdbcTemplate);
+    ReflectionTestUtils.setField(ticketTombstoneService, "retention", 86400);
+    ReflectionTestUtils.setField(ticketTombstoneService, "purgeBatchSize", 2);
+  }
+
+  @AfterEach
+  void purge() {
+    ticketTombstoneService = null;
+  }
+
+  @Test
+  void shouldPurge_tombstones_olderThanRetention_inBatches() {
+    // when
+    when(jdbcTemplate.update(eq(TicketTombstoneService.DELETE_EXPIRED), horizonCaptor.capture(), eq(2)))
+      .thenReturn(2)
+      .thenReturn(1);
+
+    ticketTombstoneService.purgeExpired();
+
+    // then
+    verify(jdbcTemplate, times(2)).update(eq(TicketTombstoneService.DELETE_EXPIRED), horizonCaptor.capture(), eq(2));
+
+    Assertions.assertThat(horizonCaptor.getValue().toInstant()).isBefore(Instant.now().minus(Duration.ofHours(23)));
+  }
+}
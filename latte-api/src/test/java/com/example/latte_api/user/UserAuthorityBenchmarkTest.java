@@ -0,0 +1,104 @@
+package com.example.latte_api.user;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.example.latte_api.role.Role;
+import com.example.latte_api.role.authority.Authority;
+import com.example.latte_api.role.authority.IAuthority;
+import com.sun.management.ThreadMXBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class UserAuthorityBenchmarkTest {
+  private static final int WARMUP = 20000;
+  private static final int CHECKS = 100000;
+
+  private User user;
+
+  @BeforeEach
+  void setup() {
+    final List<Authority> authorities = Arrays.stream(IAuthority.values())
+      .map(a -> Authority.builder().authority(a.getAuthority()).build())
+      .toList();
+
+    user = User.builder()
+      .email("peter@test.in")
+      .role(Role.builder().role("Admin").authorities(authorities).build())
+      .build();
+  }
+
+  @Test
+  void shouldCheck_authority_withoutAllocating() {
+    final Predicate<IAuthority> scanned = authority -> {
+      List<SimpleGrantedAuthority> authorities = new ArrayList<>(user.getRole().getAuthorities());
+      authorities.add(new SimpleGrantedAuthority(user.getRole().getRole()));
+      for (GrantedAuthority granted : authorities) {
+        if (granted.getAuthority().equals(authority.getAuthority())) {
+          return true;
+        }
+      }
+      return false;
+    };
+    final Predicate<IAuthority> cached = authority -> user.hasAuthority(authority);
+
+    run(scanned, WARMUP);
+    run(cached, WARMUP);
+
+    final long scannedBytes = run(scanned, CHECKS);
+    final long cachedBytes = run(cached, CHECKS);
+
+    log.info(
+      "Checked {} authorities: scanned {} bytes/check, cached {} bytes/check",
+      CHECKS,
+      scannedBytes / (double) CHECKS,
+      cachedBytes / (double) CHECKS
+    );
+
+    Assertions.assertThat(cachedBytes).isLessThan(scannedBytes / 10);
+  }
+
+  @Test
+  void shouldResolve_grants_againWhenAuthoritiesReplaced() {
+    // given
+    final Role role = user.getRole();
+
+    // when
+    Assertions.assertThat(user.hasAuthority(IAuthority.EDIT_TICKET)).isTrue();
+    role.setAuthorities(List.of(Authority.builder().authority(IAuthority.CREATE_TICKET.getAuthority()).build()));
+
+    // then
+    Assertions.assertThat(user.hasAuthority(IAuthority.EDIT_TICKET)).isFalse();
+    Assertions.assertThat(user.hasAuthority(IAuthority.CREATE_TICKET.getAuthority())).isTrue();
+    Assertions.assertThat(user.hasAuthority("Admin")).isTrue();
+    Assertions.assertThat(role.getGrants()).containsExactly(IAuthority.CREATE_TICKET);
+  }
+
+  private long run(Predicate<IAuthority> check, int checks) {
+    final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final IAuthority[] authorities = IAuthority.values();
+    final long threadId = Thread.currentThread().getId();
+    int granted = 0;
+
+    final long start = threads.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < checks; i++) {
+      if (check.test(authorities[i % authorities.length])) {
+        granted++;
+      }
+    }
+    final long allocated = threads.getThreadAllocatedBytes(threadId) - start;
+
+    Assertions.assertThat(granted).isEqualTo(checks);
+    return allocated;
+  }
+}
@@ -0,0 +1,214 @@
+package com.example.latte_api.user;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.latte_api.activity.ActivityRepository;
+import com.example.latte_api.config.CacheConfig;
+import com.example.latte_api.role.Role;
+import com.example.latte_api.role.RoleRepository;
+import com.example.latte_api.role.RoleService;
+import com.example.latte_api.role.authority.AuthorityRepository;
+import com.example.latte_api.role.dto.RoleRequest;
+import com.example.latte_api.role.mapper.RoleMapper;
+import com.example.latte_api.security.PasswordService;
+import com.example.latte_api.security.revocation.TokenRevocationService;
+import com.example.latte_api.ticket.TicketRepository;
+import com.example.latte_api.user.dto.ResetPasswordRequest;
+import com.example.latte_api.user.dto.UserRequest;
+import com.example.latte_api.user.mapper.UserMapper;
+
+@SpringJUnitConfig(UserPrincipalCacheTest.Config.class)
+@TestPropertySource(properties = {
+  "latte.cache.ticket-info-ttl=10",
+  "latte.cache.principal-ttl=60",
+  "latte.cache.principal-max-size=100"
+})
+public class UserPrincipalCacheTest {
+  @Configuration
+  @EnableAspectJAutoProxy(proxyTargetClass = true)
+  @Import({CacheConfig.class, UserService.class, UserPrincipalService.class, PasswordService.class, RoleService.class})
+  static class Config {}
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private PasswordService passwordService;
+
+  @Autowired
+  private RoleService roleService;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @MockitoBean
+  private UserRepository userRepository;
+
+  @MockitoBean
+  private RoleRepository roleRepository;
+
+  @MockitoBean
+  private AuthorityRepository authorityRepository;
+
+  @MockitoBean
+  private TicketRepository ticketRepository;
+
+  @MockitoBean
+  private ActivityRepository activityRepository;
+
+  @MockitoBean
+  private UserMapper userMapper;
+
+  @MockitoBean
+  private RoleMapper roleMapper;
+
+  @MockitoBean
+  private PasswordEncoder passwordEncoder;
+
+  @MockitoBean
+  private TokenRevocationService tokenRevocationService;
+
+  private Role role;
+  private User user;
+
+  @BeforeEach
+  void setup() {
+    cacheManager.getCache(CacheConfig.PRINCIPAL_CACHE).clear();
+
+    role = Role.builder().id(101L).role("ROLE_USER").editable(true).authorities(List.of()).build();
+    user = User.builder()
+      .id(101L)
+      .firstname("Peter")
+      .email("peter@test.in")
+      .password("Peter@01")
+      .role(role)
+      .editable(true)
+      .deletable(true)
+      .build();
+  }
+
+  @Test
+  void shouldQuery_userOnce_whenPrincipalLoadedRepeatedly() {
+    // when
+    when(userRepository.findByEmail("peter@test.in")).thenReturn(Optional.of(user));
+
+    userService.loadUserByUsername("peter@test.in");
+    userService.loadUserByUsername("peter@test.in");
+    userService.loadUserByUsername("peter@test.in");
+
+    // then
+    verify(userRepository, times(1)).findByEmail("peter@test.in");
+  }
+
+  @Test
+  void shouldNotShare_principal_betweenLoads() {
+    // when
+    when(userRepository.findByEmail("peter@test.in")).thenReturn(Optional.of(user));
+
+    final User first = (User) userService.loadUserByUsername("peter@test.in");
+    first.setFirstname("Stewie");
+    first.getRole().setRole("ROLE_ADMIN");
+    final User second = (User) userService.loadUserByUsername("peter@test.in");
+
+    // then
+    verify(userRepository, times(1)).findByEmail("peter@test.in");
+
+    Assertions.assertThat(second).isNotSameAs(first);
+    Assertions.assertThat(second).isNotSameAs(user);
+    Assertions.assertThat(second.getFirstname()).isEqualTo("Peter");
+    Assertions.assertThat(second.getRole().getRole()).isEqualTo("ROLE_USER");
+  }
+
+  @Test
+  void shouldEvict_principal_onlyAfterCommit() {
+    // given
+    final UserRequest request = new UserRequest("Peter", "peter@test.in", "ROLE_USER");
+
+    // when
+    when(userRepository.findByEmail("peter@test.in")).thenReturn(Optional.of(user));
+
+    userService.loadUserByUsername("peter@test.in");
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      userService.updateUser(request, "peter@test.in");
+      Assertions.assertThat(cacheManager.getCache(CacheConfig.PRINCIPAL_CACHE).get("peter@test.in")).isNotNull();
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // then
+    Assertions.assertThat(cacheManager.getCache(CacheConfig.PRINCIPAL_CACHE).get("peter@test.in")).isNull();
+  }
+
+  @Test
+  void shouldReload_principal_afterUserUpdated() {
+    // given
+    final UserRequest request = new UserRequest("Peter", "peter@test.in", "ROLE_USER");
+
+    // when
+    when(userRepository.findByEmail("peter@test.in")).thenReturn(Optional.of(user));
+
+    userService.loadUserByUsername("peter@test.in");
+    userService.updateUser(request, "peter@test.in");
+    userService.loadUserByUsername("peter@test.in");
+
+    // then
+    verify(userRepository, times(3)).findByEmail("peter@test.in");
+  }
+
+  @Test
+  void shouldReload_principal_afterPasswordReset() {
+    // given
+    final ResetPasswordRequest request = new ResetPasswordRequest("Peter@02", "Peter@02");
+    final UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(user, null, List.of());
+
+    // when
+    when(userRepository.findByEmail("peter@test.in")).thenReturn(Optional.of(user));
+    when(userRepository.findById(101L)).thenReturn(Optional.of(user));
+
+    userService.loadUserByUsername("peter@test.in");
+    passwordService.resetPassword(request, authentication);
+    userService.loadUserByUsername("peter@test.in");
+
+    // then
+    verify(userRepository, times(2)).findByEmail("peter@test.in");
+  }
+
+  @Test
+  void shouldReload_allPrincipals_afterRoleEdited() {
+    // when
+    when(userRepository.findByEmail("peter@test.in")).thenReturn(Optional.of(user));
+    when(roleRepository.findById(101L)).thenReturn(Optional.of(role));
+
+    userService.loadUserByUsername("peter@test.in");
+    roleService.editResponse(101L, new RoleRequest(null, null));
+    userService.loadUserByUsername("peter@test.in");
+
+    // then
+    verify(userRepository, times(2)).findByEmail("peter@test.in");
+  }
+}
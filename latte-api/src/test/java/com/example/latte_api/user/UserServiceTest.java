@@ -5,6 +5,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +29,7 @@ import com.example.latte_api.activity.ActivityRepository;
 import com.example.latte_api.role.Role;
 import com.example.latte_api.role.RoleRepository;
 import com.example.latte_api.role.authority.Authority;
+import com.example.latte_api.security.revocation.TokenRevocationService;
 import com.example.latte_api.shared.PagedEntity;
 import com.example.latte_api.ticket.TicketRepository;
 import com.example.latte_api.user.dto.UserRequest;
@@ -55,12 +57,15 @@ public class UserServiceTest {
   @Mock
   private ActivityRepository activityRepository;
 
+  @Mock
+  private TokenRevocationService tokenRevocationService;
+
   @Captor
   private ArgumentCaptor<User> userCaptor;
 
   @BeforeEach
   void setup() {
-    userService = new UserService(userRepository, roleRepository, ticketRepository, activityRepository, userMapper);
+    userService = new UserService(userRepository, roleRepository, ticketRepository, activityRepository, new UserPrincipalService(userRepository), userMapper, tokenRevocationService);
   }
 
   @AfterEach
@@ -71,7 +76,13 @@ public class UserServiceTest {
   @Test
   void shouldReturn_userdetails_froValidUserEmail() {
     // mock
-    final User user = Mockito.mock(User.class);
+    final User user = User.builder()
+      .id(101L)
+      .firstname("Peter")
+      .email("peter@test.in")
+      .password("Peter@01")
+      .role(Role.builder().id(101L).role("User").authorities(List.of(Authority.builder().authority("ticket::create").build())).build())
+      .build();
 
     // given
     final String email = "peter@test.in";
@@ -85,6 +96,9 @@ public class UserServiceTest {
     verify(userRepository, times(1)).findByEmail(email);
 
     Assertions.assertThat(result).isNotNull();
+    Assertions.assertThat(result).isNotSameAs(user);
+    Assertions.assertThat(result.getUsername()).isEqualTo(email);
+    Assertions.assertThat(((User) result).hasAuthority("ticket::create")).isTrue();
   }
 
   @Test
@@ -148,6 +162,30 @@ public class UserServiceTest {
     Assertions.assertThat(result).isNotNull();
   }
 
+  @Test
+  void shouldReturn_eTag_forAuthenticatedUser_withoutQuery() {
+    // mock
+    final Authentication authentication = Mockito.mock(Authentication.class);
+    final User user = User.builder()
+      .id(101L)
+      .firstname("Peter")
+      .email("peter@test.in")
+      .createdAt(Instant.parse("2025-01-01T10:00:00Z"))
+      .role(Role.builder().id(101L).role("User").version(0L).build())
+      .build();
+
+    // when
+    when(authentication.getPrincipal()).thenReturn(user);
+
+    final String before = userService.getUserETag(authentication);
+    user.setLastUpdated(Instant.parse("2025-01-02T10:00:00Z"));
+    final String after = userService.getUserETag(authentication);
+
+    // then
+    Mockito.verifyNoInteractions(userRepository);
+    Assertions.assertThat(before).isNotEqualTo(after);
+  }
+
   @Test
   void shouldReturn_authenticatedUserDto() {
     // mock
@@ -222,12 +260,14 @@ public class UserServiceTest {
 
     // when
     when(authentication.getPrincipal()).thenReturn(user);
+    when(userRepository.findById(101L)).thenReturn(Optional.of(user));
     when(userMapper.mapToUserDto(user)).thenReturn(userDto);
 
     final UserResponse result = userService.updateUser(request, authentication);
 
     // then
     verify(authentication, times(1)).getPrincipal();
+    verify(userRepository, times(1)).findById(101L);
     verify(userRepository, times(1)).save(userCaptor.capture());
     verify(userMapper, times(1)).mapToUserDto(user);
 
@@ -405,6 +445,7 @@ public class UserServiceTest {
     verify(ticketRepository, times(1)).findByCreatedBy(user);
     verify(activityRepository, times(1)).findByAuthor(user);
     verify(userRepository, times(1)).delete(user);
+    verify(tokenRevocationService, times(1)).revokeSubject(user.getEmail());
   }
 
    @Test